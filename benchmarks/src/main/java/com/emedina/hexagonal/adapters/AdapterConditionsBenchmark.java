@@ -0,0 +1,53 @@
+package com.emedina.hexagonal.adapters;
+
+import com.emedina.hexagonal.benchmarks.ImportedCodebaseState;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the custom predicate of {@link AdapterChecker} over the adapters of synthetic hexagonal codebases.
+ * <p>
+ * Lives in the package of the checker to access its package-private predicate factory.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AdapterConditionsBenchmark {
+
+    private List<JavaClass> adapters;
+    private DescribedPredicate<JavaClass> implementRepositoryInterface;
+
+    @Setup(Level.Trial)
+    public void setUp(final ImportedCodebaseState codebase) {
+        this.adapters = codebase.layer(codebase.properties().adapters().fqdns());
+        this.implementRepositoryInterface = AdapterChecker.implementRepositoryInterface();
+    }
+
+    @Benchmark
+    public void implementRepositoryInterface(final Blackhole blackhole) {
+        for (final JavaClass adapter : this.adapters) {
+            blackhole.consume(this.implementRepositoryInterface.test(adapter));
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.emedina.hexagonal.application.command;
+
+import com.emedina.hexagonal.benchmarks.ImportedCodebaseState;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the custom conditions of {@link CommandChecker} over the commands of synthetic hexagonal codebases.
+ * <p>
+ * Lives in the package of the checker to access its package-private condition factories.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CommandConditionsBenchmark {
+
+    private List<JavaClass> commands;
+    private ArchCondition<JavaClass> haveValidateThenCreateMethod;
+    private ArchCondition<JavaClass> notHavePublicDefaultConstructor;
+
+    @Setup(Level.Trial)
+    public void setUp(final ImportedCodebaseState codebase) {
+        this.commands = codebase.layer(codebase.properties().command().fqdns());
+        this.haveValidateThenCreateMethod = CommandChecker.haveValidateThenCreateMethod();
+        this.notHavePublicDefaultConstructor = CommandChecker.notHavePublicDefaultConstructor();
+    }
+
+    @Benchmark
+    public ConditionEvents haveValidateThenCreateMethod() {
+        return check(this.haveValidateThenCreateMethod);
+    }
+
+    @Benchmark
+    public ConditionEvents notHavePublicDefaultConstructor() {
+        return check(this.notHavePublicDefaultConstructor);
+    }
+
+    private ConditionEvents check(final ArchCondition<JavaClass> condition) {
+        final ConditionEvents events = ConditionEvents.Factory.create();
+        for (final JavaClass command : this.commands) {
+            condition.check(command, events);
+        }
+
+        return events;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.emedina.hexagonal.application.domain;
+
+import com.emedina.hexagonal.benchmarks.ImportedCodebaseState;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the custom conditions of {@link DomainChecker} over the domain of synthetic hexagonal codebases.
+ * <p>
+ * Lives in the package of the checker to access its package-private condition factories.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DomainConditionsBenchmark {
+
+    private List<JavaClass> domain;
+    private ArchCondition<JavaClass> haveAllowedAnnotationsOrNone;
+
+    @Setup(Level.Trial)
+    public void setUp(final ImportedCodebaseState codebase) {
+        this.domain = codebase.layer(codebase.properties().domain().fqdns());
+        this.haveAllowedAnnotationsOrNone = DomainChecker.haveAllowedAnnotationsOrNone();
+    }
+
+    @Benchmark
+    public ConditionEvents haveAllowedAnnotationsOrNone() {
+        final ConditionEvents events = ConditionEvents.Factory.create();
+        for (final JavaClass domainClass : this.domain) {
+            this.haveAllowedAnnotationsOrNone.check(domainClass, events);
+        }
+
+        return events;
+    }
+
+}
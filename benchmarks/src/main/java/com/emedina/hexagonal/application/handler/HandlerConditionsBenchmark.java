@@ -0,0 +1,68 @@
+package com.emedina.hexagonal.application.handler;
+
+import com.emedina.hexagonal.benchmarks.ImportedCodebaseState;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the custom predicate and condition of {@link HandlerChecker} over the handlers of synthetic hexagonal
+ * codebases.
+ * <p>
+ * Lives in the package of the checker to access its package-private condition factories.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HandlerConditionsBenchmark {
+
+    private List<JavaClass> handlers;
+    private DescribedPredicate<JavaClass> implementUseCaseInterface;
+    private ArchCondition<JavaClass> followUseCaseNamingConvention;
+
+    @Setup(Level.Trial)
+    public void setUp(final ImportedCodebaseState codebase) {
+        this.handlers = codebase.layer(codebase.properties().handler().fqdns());
+        this.implementUseCaseInterface = HandlerChecker.implementUseCaseInterface();
+        this.followUseCaseNamingConvention = HandlerChecker.followUseCaseNamingConvention();
+    }
+
+    @Benchmark
+    public void implementUseCaseInterface(final Blackhole blackhole) {
+        for (final JavaClass handler : this.handlers) {
+            blackhole.consume(this.implementUseCaseInterface.test(handler));
+        }
+    }
+
+    @Benchmark
+    public ConditionEvents followUseCaseNamingConvention() {
+        final ConditionEvents events = ConditionEvents.Factory.create();
+        for (final JavaClass handler : this.handlers) {
+            this.followUseCaseNamingConvention.check(handler, events);
+        }
+
+        return events;
+    }
+
+}
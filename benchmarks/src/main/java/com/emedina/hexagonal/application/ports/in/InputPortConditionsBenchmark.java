@@ -0,0 +1,69 @@
+package com.emedina.hexagonal.application.ports.in;
+
+import com.emedina.hexagonal.benchmarks.ImportedCodebaseState;
+import com.emedina.sharedkernel.command.Command;
+import com.emedina.sharedkernel.query.Query;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the custom conditions of {@link InputPortChecker} over the input ports of synthetic hexagonal codebases.
+ * <p>
+ * Lives in the package of the checker to access its package-private condition factories.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class InputPortConditionsBenchmark {
+
+    private List<JavaClass> inputPorts;
+    private ArchCondition<JavaClass> haveCommandTypeArgument;
+    private ArchCondition<JavaClass> haveQueryTypeArgument;
+
+    @Setup(Level.Trial)
+    public void setUp(final ImportedCodebaseState codebase) {
+        this.inputPorts = codebase.layer(codebase.properties().inputPorts().fqdns());
+        this.haveCommandTypeArgument = InputPortChecker.haveGenericTypeAssignableTo(Command.class, 2);
+        this.haveQueryTypeArgument = InputPortChecker.haveGenericTypeAssignableTo(Query.class, 3);
+    }
+
+    @Benchmark
+    public ConditionEvents haveGenericTypeAssignableToCommand() {
+        return check(this.haveCommandTypeArgument);
+    }
+
+    @Benchmark
+    public ConditionEvents haveGenericTypeAssignableToQuery() {
+        return check(this.haveQueryTypeArgument);
+    }
+
+    private ConditionEvents check(final ArchCondition<JavaClass> condition) {
+        final ConditionEvents events = ConditionEvents.Factory.create();
+        for (final JavaClass inputPort : this.inputPorts) {
+            condition.check(inputPort, events);
+        }
+
+        return events;
+    }
+
+}
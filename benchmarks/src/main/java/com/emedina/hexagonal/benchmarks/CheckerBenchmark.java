@@ -0,0 +1,136 @@
+package com.emedina.hexagonal.benchmarks;
+
+import com.emedina.hexagonal.adapters.AdapterChecker;
+import com.emedina.hexagonal.application.command.CommandChecker;
+import com.emedina.hexagonal.application.domain.DomainChecker;
+import com.emedina.hexagonal.application.handler.HandlerChecker;
+import com.emedina.hexagonal.application.ports.in.InputPortChecker;
+import com.emedina.hexagonal.application.ports.out.OutputPortChecker;
+import com.emedina.hexagonal.application.query.QueryChecker;
+import com.emedina.hexagonal.concurrency.ConcurrencyChecker;
+import com.emedina.hexagonal.concurrency.LegacySynchronizationChecker;
+import com.emedina.hexagonal.exceptions.ExceptionFlowChecker;
+import com.emedina.hexagonal.heap.BoxingChecker;
+import com.emedina.hexagonal.heap.StaticStateChecker;
+import com.emedina.hexagonal.heap.ValueClassChecker;
+import com.emedina.hexagonal.io.BlockingIoChecker;
+import com.emedina.hexagonal.jit.MethodSizeChecker;
+import com.emedina.hexagonal.reflection.ReflectionChecker;
+import com.emedina.hexagonal.sharedkernel.SharedKernelChecker;
+import com.emedina.hexagonal.spi.HexagonalRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code checkRules} of every checker, freeze store included, against synthetic hexagonal codebases.
+ * <p>
+ * There is one benchmark per checker listed by {@link CheckerRules}, named after it, the rules contributed through
+ * the SPI included.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CheckerBenchmark {
+
+    @Benchmark
+    public void sharedKernelChecker(final ImportedCodebaseState codebase) {
+        SharedKernelChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void domainChecker(final ImportedCodebaseState codebase) {
+        DomainChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void outputPortChecker(final ImportedCodebaseState codebase) {
+        OutputPortChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void inputPortChecker(final ImportedCodebaseState codebase) {
+        InputPortChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void commandChecker(final ImportedCodebaseState codebase) {
+        CommandChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void queryChecker(final ImportedCodebaseState codebase) {
+        QueryChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void handlerChecker(final ImportedCodebaseState codebase) {
+        HandlerChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void adapterChecker(final ImportedCodebaseState codebase) {
+        AdapterChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void concurrencyChecker(final ImportedCodebaseState codebase) {
+        ConcurrencyChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void blockingIoChecker(final ImportedCodebaseState codebase) {
+        BlockingIoChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void reflectionChecker(final ImportedCodebaseState codebase) {
+        ReflectionChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void methodSizeChecker(final ImportedCodebaseState codebase) {
+        MethodSizeChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void exceptionFlowChecker(final ImportedCodebaseState codebase) {
+        ExceptionFlowChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void boxingChecker(final ImportedCodebaseState codebase) {
+        BoxingChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void valueClassChecker(final ImportedCodebaseState codebase) {
+        ValueClassChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void legacySynchronizationChecker(final ImportedCodebaseState codebase) {
+        LegacySynchronizationChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void staticStateChecker(final ImportedCodebaseState codebase) {
+        StaticStateChecker.checkRules(codebase.javaClasses());
+    }
+
+    @Benchmark
+    public void hexagonalRules(final ImportedCodebaseState codebase) {
+        HexagonalRules.checkRules(codebase.javaClasses());
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.emedina.hexagonal.benchmarks;
+
+import com.emedina.hexagonal.adapters.AdapterChecker;
+import com.emedina.hexagonal.application.command.CommandChecker;
+import com.emedina.hexagonal.application.domain.DomainChecker;
+import com.emedina.hexagonal.application.handler.HandlerChecker;
+import com.emedina.hexagonal.application.ports.in.InputPortChecker;
+import com.emedina.hexagonal.application.ports.out.OutputPortChecker;
+import com.emedina.hexagonal.application.query.QueryChecker;
+import com.emedina.hexagonal.concurrency.ConcurrencyChecker;
+import com.emedina.hexagonal.concurrency.LegacySynchronizationChecker;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.exceptions.ExceptionFlowChecker;
+import com.emedina.hexagonal.heap.BoxingChecker;
+import com.emedina.hexagonal.heap.StaticStateChecker;
+import com.emedina.hexagonal.heap.ValueClassChecker;
+import com.emedina.hexagonal.io.BlockingIoChecker;
+import com.emedina.hexagonal.jit.MethodSizeChecker;
+import com.emedina.hexagonal.reflection.ReflectionChecker;
+import com.emedina.hexagonal.sharedkernel.SharedKernelChecker;
+import com.emedina.hexagonal.spi.HexagonalRules;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The rules of every checker run by {@code HexagonalArchitecture}, in checking order, keyed by the name of the
+ * {@link CheckerBenchmark} method measuring the checker.
+ * <p>
+ * Rules are identified as {@code <layer>.<rule>}, matching {@link LayerRule#layer()} and {@link LayerRule#name()}, so
+ * that {@link RuleBenchmark} covers every rule of every checker and each rule can be attributed to its checker.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class CheckerRules {
+
+    private static final Map<String, Function<HexagonalArchitectureProperties, List<LayerRule>>> CHECKERS =
+        register();
+
+    private CheckerRules() {
+    }
+
+    private static Map<String, Function<HexagonalArchitectureProperties, List<LayerRule>>> register() {
+        final Map<String, Function<HexagonalArchitectureProperties, List<LayerRule>>> checkers =
+            new LinkedHashMap<>();
+        checkers.put("sharedKernelChecker", SharedKernelChecker::rules);
+        checkers.put("domainChecker", DomainChecker::rules);
+        checkers.put("outputPortChecker", OutputPortChecker::rules);
+        checkers.put("inputPortChecker", InputPortChecker::rules);
+        checkers.put("commandChecker", CommandChecker::rules);
+        checkers.put("queryChecker", QueryChecker::rules);
+        checkers.put("handlerChecker", HandlerChecker::rules);
+        checkers.put("adapterChecker", AdapterChecker::rules);
+        checkers.put("concurrencyChecker", ConcurrencyChecker::rules);
+        checkers.put("blockingIoChecker", BlockingIoChecker::rules);
+        checkers.put("reflectionChecker", ReflectionChecker::rules);
+        checkers.put("methodSizeChecker", MethodSizeChecker::rules);
+        checkers.put("exceptionFlowChecker", ExceptionFlowChecker::rules);
+        checkers.put("boxingChecker", BoxingChecker::rules);
+        checkers.put("valueClassChecker", ValueClassChecker::rules);
+        checkers.put("legacySynchronizationChecker", LegacySynchronizationChecker::rules);
+        checkers.put("staticStateChecker", StaticStateChecker::rules);
+        checkers.put("hexagonalRules", HexagonalRules::rules);
+
+        return checkers;
+    }
+
+    /**
+     * Returns the names of the checkers, in checking order.
+     *
+     * @return the names of the {@link CheckerBenchmark} methods
+     */
+    public static List<String> checkers() {
+        return List.copyOf(CHECKERS.keySet());
+    }
+
+    /**
+     * Returns the identifiers of the rules of every checker, in checking order.
+     *
+     * @param properties the properties the rules are created for
+     * @return the {@code <layer>.<rule>} identifiers
+     */
+    public static List<String> ruleIds(final HexagonalArchitectureProperties properties) {
+        return CHECKERS.values().stream()
+            .flatMap(checker -> checker.apply(properties).stream())
+            .map(CheckerRules::id)
+            .toList();
+    }
+
+    /**
+     * Maps the identifier of every rule to the name of its checker.
+     *
+     * @param properties the properties the rules are created for
+     * @return the checker names by {@code <layer>.<rule>} identifier
+     */
+    public static Map<String, String> checkersByRuleId(final HexagonalArchitectureProperties properties) {
+        final Map<String, String> checkersByRuleId = new LinkedHashMap<>();
+        CHECKERS.forEach((name, checker) -> checker.apply(properties)
+            .forEach(layerRule -> checkersByRuleId.putIfAbsent(id(layerRule), name)));
+
+        return checkersByRuleId;
+    }
+
+    /**
+     * Identifies a rule as {@code <layer>.<rule>}.
+     *
+     * @param layerRule the rule
+     * @return the identifier of the rule
+     */
+    public static String id(final LayerRule layerRule) {
+        return layerRule.layer() + "." + layerRule.name();
+    }
+
+}
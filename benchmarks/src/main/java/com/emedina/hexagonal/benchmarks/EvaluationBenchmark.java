@@ -0,0 +1,48 @@
+package com.emedina.hexagonal.benchmarks;
+
+import com.emedina.hexagonal.evaluation.ArchitectureReport;
+import com.emedina.hexagonal.evaluation.ConcurrentRuleEvaluator;
+import com.emedina.hexagonal.evaluation.EvaluationMode;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential evaluation of every rule, freeze store included, with the concurrent one for a growing
+ * number of platform threads.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EvaluationBenchmark {
+
+    @Param({"2", "4", "8"})
+    private int parallelism;
+
+    @Benchmark
+    public ArchitectureReport sequential(final ImportedCodebaseState codebase) {
+        return RuleEvaluator.evaluateAll(codebase.rules(), codebase.javaClasses());
+    }
+
+    @Benchmark
+    public ArchitectureReport concurrent(final ImportedCodebaseState codebase) {
+        return ConcurrentRuleEvaluator.evaluateAll(codebase.rules(), codebase.javaClasses(), EvaluationMode.FULL,
+            this.parallelism);
+    }
+
+}
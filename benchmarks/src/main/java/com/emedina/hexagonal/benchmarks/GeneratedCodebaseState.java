@@ -0,0 +1,62 @@
+package com.emedina.hexagonal.benchmarks;
+
+import com.emedina.hexagonal.benchmarks.codebase.CodebaseSpec;
+import com.emedina.hexagonal.benchmarks.codebase.GeneratedCodebase;
+import com.emedina.hexagonal.benchmarks.codebase.HexagonalCodebaseGenerator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark state holding a synthetic hexagonal codebase written to a temporary directory.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+public class GeneratedCodebaseState {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"10"})
+    public int boundedContexts;
+
+    @Param({"0.0"})
+    public double violationRate;
+
+    private Path directory;
+    private GeneratedCodebase codebase;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        this.directory = Files.createTempDirectory("archunit-hexagonal-bench");
+        final CodebaseSpec spec = CodebaseSpec.ofSize(this.size, this.boundedContexts)
+            .withViolationRate(this.violationRate);
+        this.codebase = HexagonalCodebaseGenerator.generate(this.directory.resolve("classes"), spec);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    public Path directory() {
+        return this.directory;
+    }
+
+    public GeneratedCodebase codebase() {
+        return this.codebase;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.emedina.hexagonal.benchmarks;
+
+import com.emedina.hexagonal.evaluation.ArchitectureImporter;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the import of synthetic hexagonal codebases of increasing size.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ImportBenchmark {
+
+    @Benchmark
+    public JavaClasses importPaths(final GeneratedCodebaseState generated) {
+        return ArchitectureImporter.importPaths(generated.codebase().root());
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.emedina.hexagonal.benchmarks;
+
+import com.emedina.hexagonal.HexagonalArchitecture;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.ArchitectureImporter;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+/**
+ * Benchmark state holding the imported classes of a synthetic hexagonal codebase, with every checker initialized
+ * for its packages and the freeze store redirected to the temporary directory of the codebase.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+public class ImportedCodebaseState {
+
+    private JavaClasses javaClasses;
+    private HexagonalArchitectureProperties properties;
+
+    @Setup(Level.Trial)
+    public void importClasses(final GeneratedCodebaseState generated) {
+        this.properties = generated.codebase().properties();
+        this.javaClasses = ArchitectureImporter.importPaths(generated.codebase().root());
+
+        ArchConfiguration.get().setProperty("freeze.store.default.path",
+            generated.directory().resolve("archunit_store").toString());
+
+        new HexagonalArchitecture(this.properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void resetConfiguration() {
+        ArchConfiguration.get().reset();
+    }
+
+    public JavaClasses javaClasses() {
+        return this.javaClasses;
+    }
+
+    public HexagonalArchitectureProperties properties() {
+        return this.properties;
+    }
+
+    /**
+     * Returns the rules of every checker, in checking order.
+     *
+     * @return the rules of all layers
+     */
+    public List<LayerRule> rules() {
+        return HexagonalArchitecture.rules();
+    }
+
+    /**
+     * Selects the imported classes residing in any of the given packages.
+     *
+     * @param packages the package identifiers of a layer
+     * @return the classes of the layer
+     */
+    public List<JavaClass> layer(final List<String> packages) {
+        return this.javaClasses.that(JavaClass.Predicates.resideInAnyPackage(packages.toArray(new String[0])))
+            .stream().toList();
+    }
+
+}
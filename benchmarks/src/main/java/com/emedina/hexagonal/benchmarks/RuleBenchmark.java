@@ -0,0 +1,118 @@
+package com.emedina.hexagonal.benchmarks;
+
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the evaluation of every single checker rule, without freezing, against synthetic hexagonal codebases.
+ * <p>
+ * Rules are identified as {@code <layer>.<rule>}, matching {@link LayerRule#layer()} and {@link LayerRule#name()}. The
+ * default parameters list the rules of every checker of {@link CheckerRules} for the properties of the generated
+ * codebases, in checking order; {@code RegressionGate} derives them from the checkers on every run.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RuleBenchmark {
+
+    @Param({
+        "shared-kernel.sharedKernelDependencyRule",
+        "domain.domainDependencyRule",
+        "domain.allowedAnnotationsRule",
+        "domain.forbiddenAnnotationsRule",
+        "output-ports.outputPortDependencyRule",
+        "output-ports.mustHaveOutputPortAnnotationRule",
+        "output-ports.forbiddenAnnotationsRule",
+        "output-ports.mustBeInterfaceRule",
+        "input-ports.inputPortDependencyRule",
+        "input-ports.mustHaveUseCaseAnnotationRule",
+        "input-ports.forbiddenAnnotationsRule",
+        "input-ports.mustBeInterfaceRule",
+        "input-ports.mustExtendHandlerRule",
+        "input-ports.commandHandlerRule",
+        "input-ports.queryHandlerRule",
+        "command.commandDependencyRule",
+        "command.forbiddenAnnotationsRule",
+        "command.mustImplementCommandRule",
+        "command.mustHaveValidateThenCreateMethod",
+        "command.noDefaultConstructorRule",
+        "query.queryDependencyRule",
+        "query.forbiddenAnnotationsRule",
+        "query.mustImplementQueryRule",
+        "query.mustHaveValidateThenCreateMethod",
+        "query.noDefaultConstructorRule",
+        "handler.allowedDependenciesRule",
+        "handler.mustHaveApplicationServiceAnnotationRule",
+        "handler.forbiddenAnnotationsRule",
+        "handler.useCaseNamingConventionRule",
+        "adapters.coreModulesDependencyRule",
+        "handler.nativeMethodRule",
+        "adapters.nativeMethodRule",
+        "shared-kernel.noBlockingIoRule",
+        "domain.noBlockingIoRule",
+        "command.noBlockingIoRule",
+        "query.noBlockingIoRule",
+        "handler.noBlockingIoRule",
+        "domain.noReflectionRule",
+        "command.noReflectionRule",
+        "query.noReflectionRule",
+        "handler.noReflectionRule",
+        "handler.hotInlineMethodSizeRule",
+        "handler.hugeMethodSizeRule",
+        "domain.hotInlineMethodSizeRule",
+        "domain.hugeMethodSizeRule",
+        "adapters.hotInlineMethodSizeRule",
+        "adapters.hugeMethodSizeRule",
+        "command.noExceptionsInValidateThenCreateRule",
+        "query.noExceptionsInValidateThenCreateRule",
+        "handler.noExceptionsInHandlersRule",
+        "domain.boxedFieldsRule",
+        "command.boxedFieldsRule",
+        "query.boxedFieldsRule",
+        "shared-kernel.noLegacySynchronizationRule",
+        "domain.noLegacySynchronizationRule",
+        "output-ports.noLegacySynchronizationRule",
+        "input-ports.noLegacySynchronizationRule",
+        "command.noLegacySynchronizationRule",
+        "query.noLegacySynchronizationRule",
+        "handler.noLegacySynchronizationRule",
+        "handler.noStaticMutableStateRule",
+        "adapters.noStaticMutableStateRule"
+    })
+    public String rule;
+
+    private LayerRule layerRule;
+
+    @Setup(Level.Trial)
+    public void selectRule(final ImportedCodebaseState codebase) {
+        this.layerRule = codebase.rules().stream()
+            .filter(candidate -> CheckerRules.id(candidate).equals(this.rule))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown rule " + this.rule));
+    }
+
+    @Benchmark
+    public EvaluationResult evaluate(final ImportedCodebaseState codebase) {
+        return this.layerRule.rule().evaluate(codebase.javaClasses());
+    }
+
+}
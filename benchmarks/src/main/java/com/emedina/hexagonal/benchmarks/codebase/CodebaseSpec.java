@@ -0,0 +1,59 @@
+package com.emedina.hexagonal.benchmarks.codebase;
+
+/**
+ * Specification of a synthetic hexagonal codebase.
+ *
+ * @param boundedContexts    the number of bounded contexts, each one a complete hexagon
+ * @param featuresPerContext the number of features generated in every bounded context
+ * @param violationRate      the probability, between 0 and 1, of injecting one architecture violation in a feature
+ * @param seed               the seed choosing the features and kinds of the injected violations
+ * @author Enrique Medina Montenegro
+ */
+public record CodebaseSpec(int boundedContexts, int featuresPerContext, double violationRate, long seed) {
+
+    private static final long DEFAULT_SEED = 42L;
+
+    public CodebaseSpec {
+        if (boundedContexts < 1 || featuresPerContext < 1) {
+            throw new IllegalArgumentException("A codebase needs at least one bounded context with one feature");
+        }
+        if (violationRate < 0.0 || violationRate > 1.0) {
+            throw new IllegalArgumentException("The violation rate must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Creates the specification of a valid codebase of roughly the given number of classes.
+     *
+     * @param classCount      the requested number of classes, rounded up to whole features
+     * @param boundedContexts the number of bounded contexts to spread the classes over
+     * @return the specification of the codebase
+     */
+    public static CodebaseSpec ofSize(final int classCount, final int boundedContexts) {
+        final int classesPerContext = HexagonalCodebaseGenerator.CLASSES_PER_FEATURE * boundedContexts;
+        final int features = (classCount + classesPerContext - 1) / classesPerContext;
+
+        return new CodebaseSpec(boundedContexts, Math.max(1, features), 0.0, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns a copy of this specification injecting violations at the given rate.
+     *
+     * @param rate the probability of injecting one violation in a feature
+     * @return the specification with the violation rate
+     */
+    public CodebaseSpec withViolationRate(final double rate) {
+        return new CodebaseSpec(this.boundedContexts, this.featuresPerContext, rate, this.seed);
+    }
+
+    /**
+     * Returns the total number of classes of the specified codebase.
+     *
+     * @return the number of classes
+     */
+    public int classCount() {
+        return this.boundedContexts * (HexagonalCodebaseGenerator.CLASSES_PER_CONTEXT
+            + this.featuresPerContext * HexagonalCodebaseGenerator.CLASSES_PER_FEATURE);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.emedina.hexagonal.benchmarks.codebase;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A synthetic hexagonal codebase written as class files.
+ *
+ * @param root       the directory or JAR file containing the generated class files
+ * @param spec       the specification the codebase has been generated from
+ * @param properties the hexagonal architecture properties describing the generated packages
+ * @param violations the architecture violations injected in the codebase
+ * @author Enrique Medina Montenegro
+ */
+public record GeneratedCodebase(Path root, CodebaseSpec spec, HexagonalArchitectureProperties properties,
+                                List<InjectedViolation> violations) {
+
+    /**
+     * Returns the number of generated classes.
+     *
+     * @return the number of classes
+     */
+    public int classCount() {
+        return this.spec.classCount();
+    }
+
+}
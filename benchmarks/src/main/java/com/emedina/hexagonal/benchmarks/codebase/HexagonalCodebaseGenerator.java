@@ -0,0 +1,510 @@
+package com.emedina.hexagonal.benchmarks.codebase;
+
+import static org.objectweb.asm.Opcodes.ACC_ABSTRACT;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_INTERFACE;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V17;
+
+import com.emedina.hexagonal.benchmarks.codebase.InjectedViolation.Kind;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.AdapterProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.CommandProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.DomainProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.InputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.OutputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.QueryProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.SharedKernelProperties;
+import com.emedina.hexagonal.evaluation.ArchitectureImporter;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Generates synthetic hexagonal codebases as bytecode, shaped like the services checked by this library.
+ * <p>
+ * Every bounded context of the generated codebase is a complete hexagon with one shared kernel class and a number
+ * of features, each one made of {@value #CLASSES_PER_FEATURE} classes:
+ * <ol>
+ * <li>a {@code @ValueObject} domain class and its {@code @Repository} domain interface,</li>
+ * <li>a command and a query, both with a {@code validateThenCreate} factory method,</li>
+ * <li>a {@code @UseCase} input port for each, extending {@code CommandHandler} and {@code QueryHandler},</li>
+ * <li>an {@code @ApplicationService} handler for each input port,</li>
+ * <li>an {@code @OutputPort} interface,</li>
+ * <li>an adapter implementing the repository and another one implementing the output port.</li>
+ * </ol>
+ * At the configured rate, a feature receives one {@link InjectedViolation} of a randomly chosen kind.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class HexagonalCodebaseGenerator {
+
+    /**
+     * Number of classes generated for every feature.
+     */
+    public static final int CLASSES_PER_FEATURE = 11;
+
+    /**
+     * Number of classes generated for every bounded context besides its features.
+     */
+    public static final int CLASSES_PER_CONTEXT = 1;
+
+    static final String BASE_PACKAGE = "com.acme.bench";
+
+    private static final String VALUE_OBJECT = "Lcom/emedina/sharedkernel/domain/model/annotation/ValueObject;";
+    private static final String REPOSITORY = "Lcom/emedina/sharedkernel/domain/repository/annotation/Repository;";
+    private static final String USE_CASE = "Lcom/emedina/sharedkernel/application/annotation/UseCase;";
+    private static final String APPLICATION_SERVICE =
+        "Lcom/emedina/sharedkernel/application/annotation/ApplicationService;";
+    private static final String OUTPUT_PORT = "Lcom/emedina/sharedkernel/application/annotation/OutputPort;";
+    private static final String COMMAND = "com/emedina/sharedkernel/command/Command";
+    private static final String QUERY = "com/emedina/sharedkernel/query/Query";
+    private static final String COMMAND_HANDLER = "com/emedina/sharedkernel/command/core/CommandHandler";
+    private static final String QUERY_HANDLER = "com/emedina/sharedkernel/query/core/QueryHandler";
+    private static final String VALIDATION = "io/vavr/control/Validation";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String STRING = "Ljava/lang/String;";
+
+    private final ClassSink sink;
+    private final Random random;
+    private final double violationRate;
+    private final List<InjectedViolation> violations = new ArrayList<>();
+
+    private HexagonalCodebaseGenerator(final ClassSink sink, final CodebaseSpec spec) {
+        this.sink = sink;
+        this.random = new Random(spec.seed());
+        this.violationRate = spec.violationRate();
+    }
+
+    /**
+     * Generates a valid single-context codebase of roughly the given number of classes as class files.
+     *
+     * @param directory  the directory to write the class files to
+     * @param classCount the requested number of classes, rounded up to whole features
+     * @return the generated codebase
+     */
+    public static GeneratedCodebase generate(final Path directory, final int classCount) {
+        return generate(directory, CodebaseSpec.ofSize(classCount, 1));
+    }
+
+    /**
+     * Generates a codebase as class files in a directory.
+     *
+     * @param directory the directory to write the class files to
+     * @param spec      the specification of the codebase
+     * @return the generated codebase
+     */
+    public static GeneratedCodebase generate(final Path directory, final CodebaseSpec spec) {
+        final HexagonalCodebaseGenerator generator = new HexagonalCodebaseGenerator((internalName, bytes) -> {
+            final Path file = directory.resolve(internalName + ".class");
+            Files.createDirectories(file.getParent());
+            Files.write(file, bytes);
+        }, spec);
+
+        return generator.codebase(directory, spec);
+    }
+
+    /**
+     * Generates a codebase as a single JAR file, much cheaper to write, import and delete than loose class files.
+     *
+     * @param jar  the JAR file to write
+     * @param spec the specification of the codebase
+     * @return the generated codebase
+     */
+    public static GeneratedCodebase generateJar(final Path jar, final CodebaseSpec spec) {
+        try (OutputStream output = Files.newOutputStream(jar); JarOutputStream jarOutput = new JarOutputStream(output)) {
+            final HexagonalCodebaseGenerator generator = new HexagonalCodebaseGenerator((internalName, bytes) -> {
+                jarOutput.putNextEntry(new JarEntry(internalName + ".class"));
+                jarOutput.write(bytes);
+                jarOutput.closeEntry();
+            }, spec);
+
+            return generator.codebase(jar, spec);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write generated codebase " + jar, e);
+        }
+    }
+
+    /**
+     * Generates a codebase and imports it, without leaving any file behind.
+     * <p>
+     * ArchUnit only imports class files from file system locations, so the codebase goes through a transient JAR.
+     *
+     * @param spec the specification of the codebase
+     * @return the imported classes together with the description of the generated codebase
+     */
+    public static ImportedCodebase importCodebase(final CodebaseSpec spec) {
+        try {
+            final Path jar = Files.createTempFile("archunit-hexagonal-codebase", ".jar");
+            try {
+                final GeneratedCodebase codebase = generateJar(jar, spec);
+                return new ImportedCodebase(codebase, ArchitectureImporter.importPaths(jar));
+            } finally {
+                Files.deleteIfExists(jar);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create transient codebase JAR", e);
+        }
+    }
+
+    /**
+     * Creates the hexagonal architecture properties describing the packages of all bounded contexts of the
+     * generated codebases.
+     *
+     * @return the properties for the generated codebases
+     */
+    public static HexagonalArchitectureProperties properties() {
+        return properties(BASE_PACKAGE + ".*");
+    }
+
+    /**
+     * Creates the hexagonal architecture properties describing the packages of one bounded context.
+     *
+     * @param context the package of the bounded context, either a concrete one or a pattern
+     * @return the properties for the bounded context
+     */
+    static HexagonalArchitectureProperties properties(final String context) {
+        final String shared = context + ".shared..";
+        final String sharedKernel = "com.emedina.sharedkernel..";
+
+        return new HexagonalArchitectureProperties(
+            new SharedKernelProperties(List.of(shared), List.of(sharedKernel)),
+            new DomainProperties(List.of(context + ".domain.."), List.of(sharedKernel, shared)),
+            new OutputPortsProperties(List.of(context + ".application.ports.out.."), List.of(sharedKernel, shared)),
+            new InputPortsProperties(List.of(context + ".application.ports.in.."),
+                List.of(sharedKernel, shared, context + ".application.command..", context + ".application.query..",
+                    context + ".domain..")),
+            new CommandProperties(List.of(context + ".application.command.."), List.of(sharedKernel, shared)),
+            new QueryProperties(List.of(context + ".application.query.."), List.of(sharedKernel, shared)),
+            new HandlerProperties(List.of(context + ".application"),
+                List.of(sharedKernel, shared, context + ".domain..", context + ".application.ports.out..",
+                    context + ".application.ports.in..", context + ".application.command..",
+                    context + ".application.query..")),
+            new AdapterProperties(List.of(context + ".adapters.."))
+        );
+    }
+
+    private GeneratedCodebase codebase(final Path root, final CodebaseSpec spec) {
+        for (int context = 0; context < spec.boundedContexts(); context++) {
+            final String contextPackage = (BASE_PACKAGE + ".context" + context).replace('.', '/');
+            sharedKernel(contextPackage + "/shared/Identifier");
+            for (int feature = 0; feature < spec.featuresPerContext(); feature++) {
+                feature(contextPackage, feature, nextViolation());
+            }
+        }
+
+        return new GeneratedCodebase(root, spec, properties(), List.copyOf(this.violations));
+    }
+
+    private Kind nextViolation() {
+        if (this.violationRate == 0.0 || this.random.nextDouble() >= this.violationRate) {
+            return null;
+        }
+        final Kind[] kinds = Kind.values();
+
+        return kinds[this.random.nextInt(kinds.length)];
+    }
+
+    private void feature(final String context, final int index, final Kind violation) {
+        final String entity = "Order" + index;
+
+        final String domain = context + "/domain/" + entity;
+        final String repository = context + "/domain/" + entity + "Repository";
+        final String command = context + "/application/command/Create" + entity + "Command";
+        final String query = context + "/application/query/Find" + entity + "Query";
+        final String commandUseCase = context + "/application/ports/in/Create" + entity + "UseCase";
+        final String queryUseCase = context + "/application/ports/in/Find" + entity + "UseCase";
+        final String commandHandler = context + "/application/Create" + entity
+            + (violation == Kind.HANDLER_WITH_WRONG_NAME ? "Service" : "Handler");
+        final String queryHandler = context + "/application/Find" + entity + "Handler";
+        final String outputPort = context + "/application/ports/out/" + entity + "Finder";
+        final String repositoryAdapter = context + "/adapters/" + entity + "RepositoryAdapter";
+        final String outputPortAdapter = context + "/adapters/" + entity + "FinderAdapter";
+
+        valueObject(domain, violation == Kind.DOMAIN_DEPENDING_ON_ADAPTER ? repositoryAdapter : null);
+        repositoryInterface(repository, domain);
+        message(command, COMMAND, violation != Kind.COMMAND_WITHOUT_FACTORY_METHOD,
+            violation == Kind.COMMAND_WITH_PUBLIC_DEFAULT_CONSTRUCTOR);
+        message(query, QUERY, true, false);
+        useCase(commandUseCase, COMMAND_HANDLER, "<Ljava/lang/Throwable;L" + command + ";>",
+            violation != Kind.INPUT_PORT_WITHOUT_USE_CASE_ANNOTATION);
+        useCase(queryUseCase, QUERY_HANDLER, "<Ljava/lang/Throwable;L" + domain + ";L" + query + ";>", true);
+        handler(commandHandler, commandUseCase, command, repository, domain,
+            violation != Kind.HANDLER_WITHOUT_APPLICATION_SERVICE_ANNOTATION);
+        handler(queryHandler, queryUseCase, query, repository, domain, true);
+        outputPort(outputPort, violation == Kind.OUTPUT_PORT_AS_CLASS);
+        repositoryAdapter(repositoryAdapter, repository, domain);
+        outputPortAdapter(outputPortAdapter, outputPort, violation == Kind.OUTPUT_PORT_AS_CLASS,
+            violation == Kind.ADAPTER_DEPENDING_ON_DOMAIN ? domain : null);
+
+        if (violation != null) {
+            final String violatingClass = switch (violation) {
+                case COMMAND_WITHOUT_FACTORY_METHOD, COMMAND_WITH_PUBLIC_DEFAULT_CONSTRUCTOR -> command;
+                case INPUT_PORT_WITHOUT_USE_CASE_ANNOTATION -> commandUseCase;
+                case HANDLER_WITHOUT_APPLICATION_SERVICE_ANNOTATION, HANDLER_WITH_WRONG_NAME -> commandHandler;
+                case DOMAIN_DEPENDING_ON_ADAPTER -> domain;
+                case OUTPUT_PORT_AS_CLASS -> outputPort;
+                case ADAPTER_DEPENDING_ON_DOMAIN -> outputPortAdapter;
+            };
+            this.violations.add(new InjectedViolation(violation, violatingClass.replace('/', '.')));
+        }
+    }
+
+    private void sharedKernel(final String name) {
+        final ClassWriter writer = classWriter(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, null, OBJECT);
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "value", STRING, null, null).visitEnd();
+        valueConstructor(writer, ACC_PUBLIC, name, OBJECT);
+        getter(writer, name);
+        write(name, writer);
+    }
+
+    private void valueObject(final String name, final String forbiddenDependency) {
+        final ClassWriter writer = classWriter(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, null, OBJECT);
+        writer.visitAnnotation(VALUE_OBJECT, true).visitEnd();
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "value", STRING, null, null).visitEnd();
+        if (forbiddenDependency != null) {
+            writer.visitField(ACC_PRIVATE, "adapter", "L" + forbiddenDependency + ";", null, null).visitEnd();
+        }
+        valueConstructor(writer, ACC_PUBLIC, name, OBJECT);
+        getter(writer, name);
+        write(name, writer);
+    }
+
+    private void repositoryInterface(final String name, final String domain) {
+        final ClassWriter writer = interfaceWriter(name, null);
+        writer.visitAnnotation(REPOSITORY, true).visitEnd();
+        writer.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "save", "(L" + domain + ";)V", null, null).visitEnd();
+        writer.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "findById", "(" + STRING + ")L" + domain + ";", null, null)
+            .visitEnd();
+        write(name, writer);
+    }
+
+    private void message(final String name, final String messageInterface, final boolean withFactoryMethod,
+        final boolean withPublicDefaultConstructor) {
+        final ClassWriter writer = classWriter(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, null, OBJECT,
+            messageInterface);
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "value", STRING, null, null).visitEnd();
+        valueConstructor(writer, ACC_PRIVATE, name, OBJECT);
+        if (withPublicDefaultConstructor) {
+            defaultConstructor(writer, OBJECT);
+        }
+        getter(writer, name);
+
+        if (withFactoryMethod) {
+            final MethodVisitor factory = writer.visitMethod(ACC_PUBLIC | ACC_STATIC, "validateThenCreate",
+                "(" + STRING + ")L" + VALIDATION + ";",
+                "(" + STRING + ")L" + VALIDATION + "<" + STRING + "L" + name + ";>;", null);
+            factory.visitCode();
+            factory.visitTypeInsn(NEW, name);
+            factory.visitInsn(DUP);
+            factory.visitVarInsn(ALOAD, 0);
+            factory.visitMethodInsn(INVOKESPECIAL, name, "<init>", "(" + STRING + ")V", false);
+            factory.visitMethodInsn(INVOKESTATIC, VALIDATION, "valid", "(Ljava/lang/Object;)L" + VALIDATION + ";",
+                true);
+            factory.visitInsn(ARETURN);
+            factory.visitMaxs(0, 0);
+            factory.visitEnd();
+        }
+        write(name, writer);
+    }
+
+    private void useCase(final String name, final String handlerInterface, final String typeArguments,
+        final boolean annotated) {
+        final ClassWriter writer = interfaceWriter(name,
+            "L" + OBJECT + ";L" + handlerInterface + typeArguments + ";", handlerInterface);
+        if (annotated) {
+            writer.visitAnnotation(USE_CASE, true).visitEnd();
+        }
+        write(name, writer);
+    }
+
+    private void handler(final String name, final String useCase, final String message, final String repository,
+        final String domain, final boolean annotated) {
+        final ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, name, null, OBJECT, useCase);
+        if (annotated) {
+            writer.visitAnnotation(APPLICATION_SERVICE, true).visitEnd();
+        }
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "repository", "L" + repository + ";", null, null).visitEnd();
+
+        final MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", "(L" + repository + ";)V", null,
+            null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitVarInsn(ALOAD, 1);
+        constructor.visitFieldInsn(PUTFIELD, name, "repository", "L" + repository + ";");
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        final MethodVisitor handle = writer.visitMethod(ACC_PUBLIC, "handle", "(L" + message + ";)L" + domain + ";",
+            null, null);
+        handle.visitCode();
+        handle.visitVarInsn(ALOAD, 0);
+        handle.visitFieldInsn(GETFIELD, name, "repository", "L" + repository + ";");
+        handle.visitVarInsn(ALOAD, 1);
+        handle.visitMethodInsn(INVOKEVIRTUAL, message, "getValue", "()" + STRING, false);
+        handle.visitMethodInsn(INVOKEINTERFACE, repository, "findById", "(" + STRING + ")L" + domain + ";", true);
+        handle.visitInsn(ARETURN);
+        handle.visitMaxs(0, 0);
+        handle.visitEnd();
+        write(name, writer);
+    }
+
+    private void outputPort(final String name, final boolean asClass) {
+        final ClassWriter writer;
+        if (asClass) {
+            writer = classWriter(ACC_PUBLIC | ACC_ABSTRACT | ACC_SUPER, name, null, OBJECT);
+            defaultConstructor(writer, OBJECT);
+        } else {
+            writer = interfaceWriter(name, null);
+        }
+        writer.visitAnnotation(OUTPUT_PORT, true).visitEnd();
+        writer.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "find", "(" + STRING + ")" + STRING, null, null).visitEnd();
+        write(name, writer);
+    }
+
+    private void repositoryAdapter(final String name, final String repository, final String domain) {
+        final ClassWriter writer = classWriter(ACC_PUBLIC | ACC_SUPER, name, null, OBJECT, repository);
+        defaultConstructor(writer, OBJECT);
+        emptyMethod(writer, "save", "(L" + domain + ";)V");
+
+        final MethodVisitor find = writer.visitMethod(ACC_PUBLIC, "findById", "(" + STRING + ")L" + domain + ";",
+            null, null);
+        find.visitCode();
+        find.visitTypeInsn(NEW, domain);
+        find.visitInsn(DUP);
+        find.visitVarInsn(ALOAD, 1);
+        find.visitMethodInsn(INVOKESPECIAL, domain, "<init>", "(" + STRING + ")V", false);
+        find.visitInsn(ARETURN);
+        find.visitMaxs(0, 0);
+        find.visitEnd();
+        write(name, writer);
+    }
+
+    private void outputPortAdapter(final String name, final String outputPort, final boolean extendsPort,
+        final String forbiddenDependency) {
+        final ClassWriter writer = extendsPort
+            ? classWriter(ACC_PUBLIC | ACC_SUPER, name, null, outputPort)
+            : classWriter(ACC_PUBLIC | ACC_SUPER, name, null, OBJECT, outputPort);
+        defaultConstructor(writer, extendsPort ? outputPort : OBJECT);
+
+        final MethodVisitor find = writer.visitMethod(ACC_PUBLIC, "find", "(" + STRING + ")" + STRING, null, null);
+        find.visitCode();
+        if (forbiddenDependency != null) {
+            find.visitTypeInsn(NEW, forbiddenDependency);
+            find.visitInsn(DUP);
+            find.visitVarInsn(ALOAD, 1);
+            find.visitMethodInsn(INVOKESPECIAL, forbiddenDependency, "<init>", "(" + STRING + ")V", false);
+            find.visitMethodInsn(INVOKEVIRTUAL, forbiddenDependency, "getValue", "()" + STRING, false);
+        } else {
+            find.visitVarInsn(ALOAD, 1);
+        }
+        find.visitInsn(ARETURN);
+        find.visitMaxs(0, 0);
+        find.visitEnd();
+        write(name, writer);
+    }
+
+    private static ClassWriter classWriter(final int access, final String name, final String signature,
+        final String superName, final String... interfaces) {
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V17, access, name, signature, superName, interfaces);
+        writer.visitSource(name.substring(name.lastIndexOf('/') + 1) + ".java", null);
+
+        return writer;
+    }
+
+    private static ClassWriter interfaceWriter(final String name, final String signature,
+        final String... interfaces) {
+        return classWriter(ACC_PUBLIC | ACC_INTERFACE | ACC_ABSTRACT, name, signature, OBJECT, interfaces);
+    }
+
+    private static void valueConstructor(final ClassWriter writer, final int access, final String owner,
+        final String superName) {
+        final MethodVisitor constructor = writer.visitMethod(access, "<init>", "(" + STRING + ")V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, superName, "<init>", "()V", false);
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitVarInsn(ALOAD, 1);
+        constructor.visitFieldInsn(PUTFIELD, owner, "value", STRING);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+    }
+
+    private static void defaultConstructor(final ClassWriter writer, final String superName) {
+        final MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, superName, "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+    }
+
+    private static void getter(final ClassWriter writer, final String owner) {
+        final MethodVisitor getter = writer.visitMethod(ACC_PUBLIC, "getValue", "()" + STRING, null, null);
+        getter.visitCode();
+        getter.visitVarInsn(ALOAD, 0);
+        getter.visitFieldInsn(GETFIELD, owner, "value", STRING);
+        getter.visitInsn(ARETURN);
+        getter.visitMaxs(0, 0);
+        getter.visitEnd();
+    }
+
+    private static void emptyMethod(final ClassWriter writer, final String name, final String descriptor) {
+        final MethodVisitor method = writer.visitMethod(ACC_PUBLIC, name, descriptor, null, null);
+        method.visitCode();
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private void write(final String internalName, final ClassWriter writer) {
+        writer.visitEnd();
+        try {
+            this.sink.accept(internalName, writer.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write generated class " + internalName, e);
+        }
+    }
+
+    /**
+     * Destination of the generated class files.
+     */
+    @FunctionalInterface
+    private interface ClassSink {
+
+        void accept(String internalName, byte[] bytes) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.emedina.hexagonal.benchmarks.codebase;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+/**
+ * A synthetic hexagonal codebase imported by ArchUnit.
+ *
+ * @param codebase    the description of the generated codebase
+ * @param javaClasses the imported classes
+ * @author Enrique Medina Montenegro
+ */
+public record ImportedCodebase(GeneratedCodebase codebase, JavaClasses javaClasses) {
+
+}
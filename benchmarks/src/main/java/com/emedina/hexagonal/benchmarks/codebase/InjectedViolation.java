@@ -0,0 +1,54 @@
+package com.emedina.hexagonal.benchmarks.codebase;
+
+/**
+ * An architecture violation injected on purpose in a synthetic hexagonal codebase.
+ *
+ * @param kind      the kind of the violation
+ * @param className the fully qualified name of the violating class
+ * @author Enrique Medina Montenegro
+ */
+public record InjectedViolation(Kind kind, String className) {
+
+    /**
+     * The kinds of violations the generator injects, each one expected to be reported by exactly one rule.
+     */
+    public enum Kind {
+
+        COMMAND_WITHOUT_FACTORY_METHOD("command", "mustHaveValidateThenCreateMethod"),
+        COMMAND_WITH_PUBLIC_DEFAULT_CONSTRUCTOR("command", "noDefaultConstructorRule"),
+        INPUT_PORT_WITHOUT_USE_CASE_ANNOTATION("input-ports", "mustHaveUseCaseAnnotationRule"),
+        HANDLER_WITHOUT_APPLICATION_SERVICE_ANNOTATION("handler", "mustHaveApplicationServiceAnnotationRule"),
+        HANDLER_WITH_WRONG_NAME("handler", "useCaseNamingConventionRule"),
+        DOMAIN_DEPENDING_ON_ADAPTER("domain", "domainDependencyRule"),
+        OUTPUT_PORT_AS_CLASS("output-ports", "mustBeInterfaceRule"),
+        ADAPTER_DEPENDING_ON_DOMAIN("adapters", "coreModulesDependencyRule");
+
+        private final String layer;
+        private final String rule;
+
+        Kind(final String layer, final String rule) {
+            this.layer = layer;
+            this.rule = rule;
+        }
+
+        /**
+         * Returns the layer of the rule reporting this kind of violation.
+         *
+         * @return the layer, as named in the configuration
+         */
+        public String layer() {
+            return this.layer;
+        }
+
+        /**
+         * Returns the name of the rule reporting this kind of violation.
+         *
+         * @return the rule name within its checker
+         */
+        public String rule() {
+            return this.rule;
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.emedina.hexagonal.benchmarks.footprint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Checked-in heap footprint budget, expressed per 1000 classes of the analysed codebase.
+ *
+ * @param retainedBytes  the maximum retained heap of the imported classes and the rules built over them
+ * @param indexedBytes   the maximum retained heap of the memo indexes holding every entry built over the imported classes
+ * @param allocatedBytes the maximum bytes allocated by one {@code checkRules} call, by checker benchmark name
+ * @param tolerance      the fraction a measurement may exceed its budget by before it counts as a regression
+ * @author Enrique Medina Montenegro
+ */
+public record FootprintBudget(long retainedBytes, long indexedBytes, Map<String, Long> allocatedBytes,
+    double tolerance) {
+
+    /**
+     * Classpath resource holding the default budget.
+     */
+    public static final String RESOURCE = "/footprint-budget.properties";
+
+    private static final String RETAINED_BYTES = "retained.bytes";
+    private static final String INDEXED_BYTES = "indexed.bytes";
+    private static final String ALLOCATED_BYTES = "allocated.bytes.";
+    private static final String TOLERANCE = "tolerance";
+
+    public FootprintBudget {
+        allocatedBytes = Map.copyOf(allocatedBytes);
+    }
+
+    /**
+     * Loads the budget checked in with the benchmarks.
+     *
+     * @return the default budget
+     */
+    public static FootprintBudget load() {
+        try (InputStream input = FootprintBudget.class.getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Footprint budget " + RESOURCE + " not found on the classpath");
+            }
+            return parse(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read footprint budget " + RESOURCE, e);
+        }
+    }
+
+    /**
+     * Loads a budget from a properties file.
+     *
+     * @param file the budget file
+     * @return the budget
+     */
+    public static FootprintBudget load(final Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            return parse(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read footprint budget " + file, e);
+        }
+    }
+
+    private static FootprintBudget parse(final InputStream input) throws IOException {
+        final Properties properties = new Properties();
+        properties.load(input);
+
+        final Map<String, Long> allocatedBytes = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(ALLOCATED_BYTES)) {
+                allocatedBytes.put(key.substring(ALLOCATED_BYTES.length()), Long.parseLong(properties.getProperty(key)));
+            }
+        }
+
+        return new FootprintBudget(Long.parseLong(properties.getProperty(RETAINED_BYTES)),
+            Long.parseLong(properties.getProperty(INDEXED_BYTES)), allocatedBytes,
+            Double.parseDouble(properties.getProperty(TOLERANCE, "0.1")));
+    }
+
+    /**
+     * Compares measurements per 1000 classes with this budget.
+     *
+     * @param retained  the measured retained heap
+     * @param indexed   the measured retained heap of the memo indexes
+     * @param allocated the measured allocation per {@code checkRules} call, by checker benchmark name
+     * @return a description of every measurement over budget, empty if the footprint is within budget
+     */
+    public List<String> regressions(final double retained, final double indexed,
+        final Map<String, Double> allocated) {
+        final List<String> regressions = new ArrayList<>();
+        if (exceeds(retained, this.retainedBytes)) {
+            regressions.add(regression("retained heap", retained, this.retainedBytes));
+        }
+        if (exceeds(indexed, this.indexedBytes)) {
+            regressions.add(regression("memo indexes", indexed, this.indexedBytes));
+        }
+        allocated.forEach((checker, bytes) -> {
+            final Long budget = this.allocatedBytes.get(checker);
+            if (budget == null) {
+                regressions.add("%s has no allocation budget, measured %.0f B".formatted(checker, bytes));
+            } else if (exceeds(bytes, budget)) {
+                regressions.add(regression(checker + " allocation", bytes, budget));
+            }
+        });
+
+        return regressions;
+    }
+
+    private boolean exceeds(final double measured, final long budget) {
+        return measured > budget * (1.0 + this.tolerance);
+    }
+
+    private String regression(final String what, final double measured, final long budget) {
+        return "%s is %.0f B per 1000 classes, %.1f%% over its budget of %d B (tolerance %.0f%%)"
+            .formatted(what, measured, (measured / budget - 1.0) * 100.0, budget, this.tolerance * 100.0);
+    }
+
+}
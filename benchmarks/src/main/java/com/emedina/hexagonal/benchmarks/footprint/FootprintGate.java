@@ -0,0 +1,135 @@
+package com.emedina.hexagonal.benchmarks.footprint;
+
+import com.emedina.hexagonal.HexagonalArchitecture;
+import com.emedina.hexagonal.benchmarks.CheckerBenchmark;
+import com.emedina.hexagonal.benchmarks.codebase.CodebaseSpec;
+import com.emedina.hexagonal.benchmarks.codebase.HexagonalCodebaseGenerator;
+import com.emedina.hexagonal.benchmarks.codebase.ImportedCodebase;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.index.BytecodeIndex;
+import com.emedina.hexagonal.index.GenericTypeIndex;
+import com.emedina.hexagonal.index.SignatureIndex;
+import com.emedina.hexagonal.index.SupertypeIndex;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Measures the heap footprint of checking a synthetic codebase and fails when it regresses beyond the checked-in
+ * {@link FootprintBudget}.
+ * <p>
+ * Three figures are measured, all normalised per 1000 classes:
+ * <ol>
+ * <li>the retained heap of the imported {@code JavaClasses} and every rule built by the checkers, measured with JOL,</li>
+ * <li>the retained heap added by the memo indexes of the library, like the {@link BytecodeIndex}, once they hold an
+ * entry for every imported class and method, the most any set of rules can build, measured with JOL,</li>
+ * <li>the bytes allocated by one {@code checkRules} call of every checker, measured by the JMH GC profiler running
+ * {@link CheckerBenchmark}.</li>
+ * </ol>
+ * Usage: {@code FootprintGate [size] [budget.properties]}, where the size defaults to 10000 classes and the budget
+ * to the one packaged with the benchmarks. The process exits with status 1 when any figure is over budget.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class FootprintGate {
+
+    private static final int DEFAULT_SIZE = 10_000;
+    private static final int BOUNDED_CONTEXTS = 10;
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+
+    private FootprintGate() {
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        final FootprintBudget budget = args.length > 1 ? FootprintBudget.load(Path.of(args[1])) : FootprintBudget.load();
+
+        final ImportedCodebase imported = HexagonalCodebaseGenerator.importCodebase(
+            CodebaseSpec.ofSize(size, BOUNDED_CONTEXTS));
+        final double thousands = imported.javaClasses().size() / 1000.0;
+
+        final List<LayerRule> rules = rules(imported);
+        index(imported.javaClasses());
+        final long importedBytes = HeapFootprint.retainedBytes(imported.javaClasses(), rules);
+        final double retained = importedBytes / thousands;
+        final double indexed = (HeapFootprint.retainedBytes(imported.javaClasses(), rules,
+            HeapFootprint.memoIndexes()) - importedBytes) / thousands;
+        final Map<String, Double> allocated = new TreeMap<>();
+        allocatedBytes(size).forEach((checker, bytes) -> allocated.put(checker, bytes / thousands));
+
+        System.out.printf("%nHeap footprint per 1000 classes (%d classes imported)%n", imported.javaClasses().size());
+        System.out.printf("  %-20s %,15.0f B (budget %,d B)%n", "retained heap", retained, budget.retainedBytes());
+        System.out.printf("  %-20s %,15.0f B (budget %,d B)%n", "memo indexes", indexed, budget.indexedBytes());
+        allocated.forEach((checker, bytes) -> System.out.printf("  %-20s %,15.0f B (budget %,d B)%n", checker, bytes,
+            budget.allocatedBytes().getOrDefault(checker, 0L)));
+
+        final List<String> regressions = budget.regressions(retained, indexed, allocated);
+        if (!regressions.isEmpty()) {
+            System.out.printf("%nFootprint over budget:%n");
+            regressions.forEach(regression -> System.out.printf("  %s%n", regression));
+            System.exit(1);
+        }
+        System.out.printf("%nFootprint within budget%n");
+    }
+
+    private static List<LayerRule> rules(final ImportedCodebase imported) {
+        new HexagonalArchitecture(imported.codebase().properties());
+
+        return HexagonalArchitecture.rules();
+    }
+
+    /**
+     * Fills every memo index with the entries of all the imported classes and their methods, before both are
+     * measured. Objects shared by the import and the indexes, like the names of the classes, are counted with the
+     * import, so the difference between the two measurements is the heap held by the indexes alone.
+     */
+    private static void index(final JavaClasses javaClasses) {
+        for (JavaClass javaClass : javaClasses) {
+            SupertypeIndex.of(javaClass);
+            GenericTypeIndex.supertypeArguments(javaClass);
+            javaClass.getMethods().forEach(GenericTypeIndex::returnTypeArguments);
+            SignatureIndex.of(javaClass);
+            BytecodeIndex.of(javaClass);
+        }
+    }
+
+    private static Map<String, Double> allocatedBytes(final int size) throws RunnerException {
+        final Options options = new OptionsBuilder()
+            .include(CheckerBenchmark.class.getName())
+            .param("size", String.valueOf(size))
+            .param("boundedContexts", String.valueOf(BOUNDED_CONTEXTS))
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .warmupIterations(2)
+            .warmupTime(TimeValue.seconds(2))
+            .measurementIterations(3)
+            .measurementTime(TimeValue.seconds(2))
+            .build();
+        final Collection<RunResult> results = new Runner(options).run();
+
+        final Map<String, Double> allocated = new TreeMap<>();
+        for (RunResult result : results) {
+            final String benchmark = result.getParams().getBenchmark();
+            final Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_RATE);
+            if (allocation != null) {
+                allocated.put(benchmark.substring(benchmark.lastIndexOf('.') + 1), allocation.getScore());
+            }
+        }
+
+        return allocated;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.emedina.hexagonal.benchmarks.footprint;
+
+import com.emedina.hexagonal.index.BytecodeIndex;
+import com.emedina.hexagonal.index.GenericTypeIndex;
+import com.emedina.hexagonal.index.SignatureIndex;
+import com.emedina.hexagonal.index.SupertypeIndex;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the retained heap of object graphs with JOL, and finds the memo indexes the library holds in static fields.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class HeapFootprint {
+
+    /**
+     * Classes of the library holding memo indexes over the imported classes in static fields.
+     */
+    static final List<Class<?>> INDEXES = List.of(SupertypeIndex.class, GenericTypeIndex.class,
+        SignatureIndex.class, BytecodeIndex.class);
+
+    private static final String WEAK_CACHE = "com.emedina.hexagonal.index.WeakCache";
+
+    private HeapFootprint() {
+    }
+
+    /**
+     * Returns the total size of every object reachable from the given roots, each object counted once.
+     *
+     * @param roots the roots of the object graph
+     * @return the retained heap in bytes
+     */
+    public static long retainedBytes(final Object... roots) {
+        return GraphLayout.parseInstance(roots).totalSize();
+    }
+
+    /**
+     * Returns every memo index held in a static field of the {@link #INDEXES}, with the entries it holds.
+     * <p>
+     * The indexes are package-private caches of the library, so they are found by type rather than by name, and any
+     * index added to these classes is measured as well.
+     *
+     * @return the memo indexes
+     * @throws IllegalStateException if an index cannot be read, or if none is found
+     */
+    public static List<Object> memoIndexes() {
+        final List<Object> indexes = new ArrayList<>();
+        for (Class<?> index : INDEXES) {
+            for (Field field : index.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && WEAK_CACHE.equals(field.getType().getName())) {
+                    indexes.add(read(field));
+                }
+            }
+        }
+        if (indexes.isEmpty()) {
+            throw new IllegalStateException("No memo index found in " + INDEXES);
+        }
+
+        return indexes;
+    }
+
+    private static Object read(final Field field) {
+        try {
+            field.setAccessible(true);
+            return field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Could not read memo index " + field, e);
+        }
+    }
+
+}
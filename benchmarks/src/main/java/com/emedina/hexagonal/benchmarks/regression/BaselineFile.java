@@ -0,0 +1,79 @@
+package com.emedina.hexagonal.benchmarks.regression;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads benchmark scores from JMH JSON result files, as written by {@code -rf json}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class BaselineFile {
+
+    /**
+     * Classpath resource holding the default baseline.
+     */
+    public static final String RESOURCE = "/regression-baseline.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineFile() {
+    }
+
+    /**
+     * Reads the baseline checked in with the benchmarks.
+     *
+     * @return the baseline scores
+     */
+    public static List<BenchmarkScore> read() {
+        try (InputStream input = BaselineFile.class.getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Regression baseline " + RESOURCE + " not found on the classpath");
+            }
+            return scores(MAPPER.readTree(input));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read regression baseline " + RESOURCE, e);
+        }
+    }
+
+    /**
+     * Reads the scores of a JMH JSON result file.
+     *
+     * @param file the result file
+     * @return the scores
+     */
+    public static List<BenchmarkScore> read(final Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            return scores(MAPPER.readTree(input));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read benchmark results " + file, e);
+        }
+    }
+
+    private static List<BenchmarkScore> scores(final JsonNode results) {
+        final List<BenchmarkScore> scores = new ArrayList<>();
+        for (JsonNode result : results) {
+            final Map<String, String> params = new TreeMap<>();
+            result.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+
+            final JsonNode primary = result.path("primaryMetric");
+            final JsonNode confidence = primary.path("scoreConfidence");
+            scores.add(new BenchmarkScore(result.path("benchmark").asText(), params, primary.path("score").asDouble(),
+                confidence.path(0).asDouble(), confidence.path(1).asDouble(), primary.path("scoreUnit").asText(),
+                result.path("jdkVersion").asText()));
+        }
+
+        return scores;
+    }
+
+}
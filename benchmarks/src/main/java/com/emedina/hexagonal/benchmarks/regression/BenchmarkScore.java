@@ -0,0 +1,78 @@
+package com.emedina.hexagonal.benchmarks.regression;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The primary score of one JMH benchmark run, with its confidence interval.
+ *
+ * @param benchmark the fully qualified benchmark method name
+ * @param params    the benchmark parameters
+ * @param score     the mean score
+ * @param lower     the lower bound of the 99.9% confidence interval of the score
+ * @param upper     the upper bound of the 99.9% confidence interval of the score
+ * @param unit      the unit of the score
+ * @param jdk       the version of the JDK the benchmark ran on, as reported by JMH
+ * @author Enrique Medina Montenegro
+ */
+public record BenchmarkScore(String benchmark, Map<String, String> params, double score, double lower, double upper,
+                             String unit, String jdk) {
+
+    public BenchmarkScore {
+        params = Map.copyOf(params);
+    }
+
+    /**
+     * Creates the score of a run of the JMH runner.
+     *
+     * @param result the run result
+     * @return the score of the run
+     */
+    public static BenchmarkScore of(final RunResult result) {
+        final Map<String, String> params = new TreeMap<>();
+        result.getParams().getParamsKeys().forEach(key -> params.put(key, result.getParams().getParam(key)));
+        final Result<?> primary = result.getPrimaryResult();
+        final double[] confidence = primary.getScoreConfidence();
+
+        return new BenchmarkScore(result.getParams().getBenchmark(), params, primary.getScore(), confidence[0],
+            confidence[1], primary.getScoreUnit(), result.getParams().getJdkVersion());
+    }
+
+    /**
+     * Returns the feature release of the JDK the benchmark ran on, like 25 for {@code 25.0.1}.
+     *
+     * @return the feature release, or 0 if the version is unknown
+     */
+    public int jdkFeature() {
+        final String feature = this.jdk.split("[.+-]", 2)[0];
+
+        return feature.chars().allMatch(Character::isDigit) && !feature.isEmpty() ? Integer.parseInt(feature) : 0;
+    }
+
+    /**
+     * Tells whether the confidence interval of the score is too wide to detect the given slowdown, that is, whether
+     * its half-width exceeds that fraction of the score.
+     *
+     * @param threshold the slowdown to detect, as a fraction of the score
+     * @return {@code true} if the score is too noisy
+     */
+    public boolean noisy(final double threshold) {
+        return (this.upper - this.lower) / 2.0 > threshold * this.score;
+    }
+
+    /**
+     * Returns the key identifying the benchmark and its parameters, independently of the score.
+     *
+     * @return the benchmark key
+     */
+    public String key() {
+        return this.benchmark + new TreeMap<>(this.params).entrySet().stream()
+            .map(param -> param.getKey() + "=" + param.getValue())
+            .collect(Collectors.joining(",", "{", "}"));
+    }
+
+}
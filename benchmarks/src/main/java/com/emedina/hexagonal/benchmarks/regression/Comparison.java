@@ -0,0 +1,85 @@
+package com.emedina.hexagonal.benchmarks.regression;
+
+import com.emedina.hexagonal.benchmarks.CheckerRules;
+import com.emedina.hexagonal.benchmarks.codebase.HexagonalCodebaseGenerator;
+
+import java.util.Map;
+
+/**
+ * The comparison of the current score of a benchmark with its baseline.
+ * <p>
+ * A benchmark regresses only when the whole confidence interval of its current score lies above the whole confidence
+ * interval of its baseline, and the mean slowed down by more than the threshold. That test can only detect a slowdown
+ * of the threshold when both intervals are narrower than it, so a comparison with a wider interval is inconclusive
+ * rather than passing.
+ *
+ * @param baseline the baseline score
+ * @param current  the current score
+ * @author Enrique Medina Montenegro
+ */
+public record Comparison(BenchmarkScore baseline, BenchmarkScore current) {
+
+    private static final String RULE_BENCHMARK = "com.emedina.hexagonal.benchmarks.RuleBenchmark.evaluate";
+
+    private static final Map<String, String> CHECKERS = CheckerRules.checkersByRuleId(
+        HexagonalCodebaseGenerator.properties());
+
+    /**
+     * Returns the relative change of the mean score, positive when slower.
+     *
+     * @return the change, as a fraction of the baseline score
+     */
+    public double change() {
+        return this.current.score() / this.baseline.score() - 1.0;
+    }
+
+    /**
+     * Tells whether the benchmark got significantly slower than its baseline.
+     *
+     * @param threshold the minimum slowdown, as a fraction of the baseline score, to report
+     * @return {@code true} if the benchmark regressed
+     */
+    public boolean regressed(final double threshold) {
+        return this.current.lower() > this.baseline.upper() && change() > threshold;
+    }
+
+    /**
+     * Tells whether either score is too noisy for the comparison to detect a slowdown of the threshold.
+     *
+     * @param threshold the minimum slowdown, as a fraction of the baseline score, to report
+     * @return {@code true} if the comparison cannot tell whether the benchmark regressed
+     */
+    public boolean inconclusive(final double threshold) {
+        return this.baseline.noisy(threshold) || this.current.noisy(threshold);
+    }
+
+    /**
+     * Names what the benchmark measures: a whole checker, or one rule of a checker.
+     *
+     * @return the checker, and the rule if the benchmark measures a single rule
+     */
+    public String subject() {
+        final String benchmark = this.current.benchmark();
+        final String rule = this.current.params().get("rule");
+        if (RULE_BENCHMARK.equals(benchmark) && rule != null) {
+            final int separator = rule.indexOf('.');
+            return "%s rule %s".formatted(CHECKERS.getOrDefault(rule, rule.substring(0, separator)),
+                rule.substring(separator + 1));
+        }
+
+        return benchmark.substring(benchmark.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Describes the comparison in one line.
+     *
+     * @return the description
+     */
+    public String describe() {
+        return "%s (size %s): %.3f %s [%.3f, %.3f] vs baseline %.3f [%.3f, %.3f], %+.1f%%".formatted(subject(),
+            this.current.params().getOrDefault("size", "?"), this.current.score(), this.current.unit(),
+            this.current.lower(), this.current.upper(), this.baseline.score(), this.baseline.lower(),
+            this.baseline.upper(), change() * 100.0);
+    }
+
+}
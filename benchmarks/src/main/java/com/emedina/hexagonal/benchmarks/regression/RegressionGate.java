@@ -0,0 +1,165 @@
+package com.emedina.hexagonal.benchmarks.regression;
+
+import com.emedina.hexagonal.benchmarks.CheckerBenchmark;
+import com.emedina.hexagonal.benchmarks.CheckerRules;
+import com.emedina.hexagonal.benchmarks.RuleBenchmark;
+import com.emedina.hexagonal.benchmarks.codebase.HexagonalCodebaseGenerator;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the checker and rule benchmarks with the checked-in baseline and fails when any of them regressed.
+ * <p>
+ * Usage: {@code RegressionGate [baseline.json [results.json]]}. Without a results file, {@link CheckerBenchmark}
+ * and {@link RuleBenchmark} are run with the parameters found in the baseline, except for the rules, which are those of
+ * every checker of {@link CheckerRules}, so that a rule missing from the baseline is reported instead of skipped. Their
+ * results are written to {@code regression-results.json} so they can become the new baseline. The baseline defaults to
+ * the one packaged with the benchmarks, and an empty baseline runs the benchmarks for {@value #BASELINE_SIZE} classes.
+ * The process exits with status 1 when any checker or rule regressed, naming each one of them, and also when the gate
+ * cannot decide: when the baseline is empty or was recorded on another JDK feature release than the current scores,
+ * or when a confidence interval is wider than the threshold, in which case the baseline must be recorded again from
+ * {@code regression-results.json}.
+ * <p>
+ * The minimum slowdown to report defaults to 10% and can be changed with the {@code regression.threshold} system
+ * property.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class RegressionGate {
+
+    private static final String RESULTS_FILE = "regression-results.json";
+    private static final String RULE_PARAM = "rule";
+    private static final String SIZE_PARAM = "size";
+    private static final String BASELINE_SIZE = "10000";
+    private static final double DEFAULT_THRESHOLD = 0.10;
+
+    private RegressionGate() {
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final List<BenchmarkScore> baseline = args.length > 0 ? BaselineFile.read(Path.of(args[0]))
+            : BaselineFile.read();
+        final List<BenchmarkScore> current = args.length > 1 ? BaselineFile.read(Path.of(args[1])) : run(baseline);
+        final double threshold = Double.parseDouble(
+            System.getProperty("regression.threshold", String.valueOf(DEFAULT_THRESHOLD)));
+
+        final String unusable = unusable(baseline, current);
+        if (unusable != null) {
+            System.out.printf("%n%s, so it cannot gate the current scores. Record it again from %s.%n", unusable,
+                RESULTS_FILE);
+            System.exit(1);
+        }
+
+        final List<Comparison> comparisons = compare(baseline, current);
+        final List<Comparison> regressions = comparisons.stream()
+            .filter(comparison -> comparison.regressed(threshold))
+            .toList();
+        final List<Comparison> inconclusive = comparisons.stream()
+            .filter(comparison -> !comparison.regressed(threshold) && comparison.inconclusive(threshold))
+            .toList();
+
+        System.out.printf("%nBenchmarks compared with baseline (threshold %.0f%%)%n", threshold * 100.0);
+        comparisons.forEach(comparison -> System.out.printf("  %s %s%n", regressions.contains(comparison)
+            ? "REGRESSED" : inconclusive.contains(comparison) ? "NOISY    " : "ok       ", comparison.describe()));
+
+        if (!regressions.isEmpty()) {
+            System.out.printf("%n%d regression(s):%n", regressions.size());
+            regressions.forEach(regression -> System.out.printf("  %s%n", regression.describe()));
+        }
+        if (!inconclusive.isEmpty()) {
+            System.out.printf("%n%d comparison(s) with a confidence interval wider than the threshold:%n",
+                inconclusive.size());
+            inconclusive.forEach(comparison -> System.out.printf("  %s%n", comparison.describe()));
+        }
+        if (!regressions.isEmpty() || !inconclusive.isEmpty()) {
+            System.exit(1);
+        }
+        System.out.printf("%nNo regression%n");
+    }
+
+    /**
+     * Tells why the baseline cannot be compared with the current scores: it is empty, or its scores were not all
+     * recorded on the JDK feature release of the current scores, whose JIT compiler and garbage collectors differ.
+     *
+     * @param baseline the baseline scores
+     * @param current  the current scores
+     * @return the reason, or {@code null} if the baseline can be compared
+     */
+    static String unusable(final List<BenchmarkScore> baseline, final List<BenchmarkScore> current) {
+        if (baseline.isEmpty()) {
+            return "The baseline is empty";
+        }
+        final Set<Integer> baselineJdks = baseline.stream().map(BenchmarkScore::jdkFeature)
+            .collect(Collectors.toCollection(TreeSet::new));
+        final Set<Integer> currentJdks = current.stream().map(BenchmarkScore::jdkFeature)
+            .collect(Collectors.toCollection(TreeSet::new));
+        if (baselineJdks.size() > 1 || !currentJdks.isEmpty() && !currentJdks.equals(baselineJdks)) {
+            return "The baseline was recorded on JDK %s, the current scores on JDK %s".formatted(
+                join(baselineJdks), join(currentJdks));
+        }
+
+        return null;
+    }
+
+    private static String join(final Set<Integer> jdks) {
+        return jdks.stream().map(String::valueOf).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Pairs every current score with the baseline score of the same benchmark and parameters.
+     *
+     * @param baseline the baseline scores
+     * @param current  the current scores
+     * @return the comparisons, for the current scores having a baseline
+     */
+    static List<Comparison> compare(final List<BenchmarkScore> baseline, final List<BenchmarkScore> current) {
+        final Map<String, BenchmarkScore> baselineByKey = baseline.stream()
+            .collect(Collectors.toMap(BenchmarkScore::key, Function.identity(), (first, second) -> second));
+        final List<Comparison> comparisons = new ArrayList<>();
+        for (BenchmarkScore score : current) {
+            final BenchmarkScore reference = baselineByKey.get(score.key());
+            if (reference == null) {
+                System.out.printf("  no baseline for %s%n", score.key());
+            } else {
+                comparisons.add(new Comparison(reference, score));
+            }
+        }
+
+        return comparisons;
+    }
+
+    private static List<BenchmarkScore> run(final List<BenchmarkScore> baseline) throws RunnerException {
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(CheckerBenchmark.class.getName() + "\\.")
+            .include(RuleBenchmark.class.getName() + "\\.")
+            .resultFormat(ResultFormatType.JSON)
+            .result(RESULTS_FILE);
+
+        final Map<String, TreeSet<String>> params = new TreeMap<>();
+        baseline.forEach(score -> score.params().forEach((name, value) ->
+            params.computeIfAbsent(name, key -> new TreeSet<>()).add(value)));
+        params.put(RULE_PARAM, new TreeSet<>(CheckerRules.ruleIds(HexagonalCodebaseGenerator.properties())));
+        params.putIfAbsent(SIZE_PARAM, new TreeSet<>(Set.of(BASELINE_SIZE)));
+        params.forEach((name, values) -> options.param(name, values.toArray(new String[0])));
+
+        final Collection<RunResult> results = new Runner(options.build()).run();
+
+        return results.stream().map(BenchmarkScore::of).toList();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.emedina.hexagonal.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.emedina.hexagonal.HexagonalArchitecture;
+import com.emedina.hexagonal.benchmarks.codebase.HexagonalCodebaseGenerator;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests keeping {@link CheckerBenchmark} and {@link RuleBenchmark} in line with the checkers of
+ * {@link HexagonalArchitecture}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("CheckerRules")
+class CheckerRulesTest {
+
+    private static final HexagonalArchitectureProperties PROPERTIES = HexagonalCodebaseGenerator.properties();
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should list the rules of every checker in checking order")
+        void shouldListEveryRule() {
+            // When
+            List<String> ruleIds = CheckerRules.ruleIds(PROPERTIES);
+
+            // Then
+            assertThat(ruleIds).containsExactlyElementsOf(
+                HexagonalArchitecture.rules(PROPERTIES).stream().map(CheckerRules::id).toList());
+        }
+
+        @Test
+        @DisplayName("should attribute the rules to their checker")
+        void shouldAttributeRulesToChecker() {
+            // When & Then
+            assertThat(CheckerRules.checkersByRuleId(PROPERTIES))
+                .containsEntry("domain.domainDependencyRule", "domainChecker")
+                .containsEntry("handler.noBlockingIoRule", "blockingIoChecker")
+                .containsEntry("domain.boxedFieldsRule", "boxingChecker")
+                .containsEntry("adapters.noStaticMutableStateRule", "staticStateChecker");
+        }
+    }
+
+    @Nested
+    @DisplayName("benchmarks")
+    class BenchmarksTest {
+
+        @Test
+        @DisplayName("should benchmark every checker")
+        void shouldBenchmarkEveryChecker() {
+            // When
+            List<String> benchmarks = Arrays.stream(CheckerBenchmark.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Benchmark.class))
+                .map(Method::getName)
+                .toList();
+
+            // Then
+            assertThat(benchmarks).containsExactlyInAnyOrderElementsOf(CheckerRules.checkers());
+        }
+
+        @Test
+        @DisplayName("should benchmark every rule by default")
+        void shouldBenchmarkEveryRule() throws NoSuchFieldException {
+            // When
+            String[] rules = RuleBenchmark.class.getField("rule").getAnnotation(Param.class).value();
+
+            // Then
+            assertThat(rules).containsExactlyElementsOf(CheckerRules.ruleIds(PROPERTIES));
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.emedina.hexagonal.benchmarks.codebase;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.emedina.hexagonal.HexagonalArchitecture;
+import com.emedina.hexagonal.evaluation.ArchitectureImporter;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Large-scale correctness tests running every checker rule over generated codebases.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("HexagonalCodebaseGenerator")
+class HexagonalCodebaseGeneratorTest {
+
+    private static final CodebaseSpec LARGE_CODEBASE = new CodebaseSpec(10, 100, 0.0, 7L);
+
+    @TempDir
+    private Path tempDir;
+
+    @Nested
+    @DisplayName("valid codebases")
+    class ValidCodebaseTest {
+
+        @Test
+        @DisplayName("should satisfy every checker rule")
+        void shouldSatisfyEveryRule() {
+            // Given
+            ImportedCodebase imported = HexagonalCodebaseGenerator.importCodebase(LARGE_CODEBASE);
+
+            // When
+            Map<String, Set<String>> violations = violatingClasses(imported);
+
+            // Then
+            assertThat(imported.javaClasses()).hasSize(LARGE_CODEBASE.classCount());
+            assertThat(imported.codebase().violations()).isEmpty();
+            assertThat(violations).allSatisfy((rule, classes) -> assertThat(classes).as(rule).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should generate the same classes as a directory or a JAR")
+        void shouldGenerateSameClassesInDirectoryAndJar() {
+            // Given
+            CodebaseSpec spec = new CodebaseSpec(2, 5, 0.5, 3L);
+
+            // When
+            GeneratedCodebase directory = HexagonalCodebaseGenerator.generate(tempDir.resolve("classes"), spec);
+            GeneratedCodebase jar = HexagonalCodebaseGenerator.generateJar(tempDir.resolve("codebase.jar"), spec);
+
+            // Then
+            assertThat(names(ArchitectureImporter.importPaths(directory.root())))
+                .isEqualTo(names(ArchitectureImporter.importPaths(jar.root())))
+                .hasSize(spec.classCount());
+            assertThat(directory.violations()).isEqualTo(jar.violations());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("codebases with injected violations")
+    class InjectedViolationsTest {
+
+        @Test
+        @DisplayName("should report exactly the injected violations")
+        void shouldReportExactlyTheInjectedViolations() {
+            // Given
+            ImportedCodebase imported = HexagonalCodebaseGenerator.importCodebase(
+                LARGE_CODEBASE.withViolationRate(0.05));
+            Map<String, Set<String>> expected = imported.codebase().violations().stream()
+                .collect(groupingBy(violation -> violation.kind().layer() + "." + violation.kind().rule(),
+                    mapping(InjectedViolation::className, toSet())));
+
+            // When
+            Map<String, Set<String>> violations = violatingClasses(imported);
+
+            // Then
+            assertThat(expected.keySet()).hasSize(InjectedViolation.Kind.values().length);
+            violations.values().removeIf(Set::isEmpty);
+            assertThat(violations).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("should inject the same violations for the same seed")
+        void shouldBeDeterministic() {
+            // Given
+            CodebaseSpec spec = new CodebaseSpec(3, 20, 0.3, 11L);
+
+            // When
+            GeneratedCodebase first = HexagonalCodebaseGenerator.generate(tempDir.resolve("first"), spec);
+            GeneratedCodebase second = HexagonalCodebaseGenerator.generate(tempDir.resolve("second"), spec);
+
+            // Then
+            assertThat(first.violations()).isNotEmpty().isEqualTo(second.violations());
+        }
+
+    }
+
+    private static Map<String, Set<String>> violatingClasses(final ImportedCodebase imported) {
+        new HexagonalArchitecture(imported.codebase().properties());
+
+        final Map<String, Set<String>> violations = new HashMap<>();
+        for (LayerRule layerRule : HexagonalArchitecture.rules()) {
+            final Set<String> classes = new TreeSet<>();
+            final EvaluationResult result = layerRule.rule().evaluate(imported.javaClasses());
+            result.handleViolations((Collection<JavaClass> objects, String message) ->
+                objects.forEach(javaClass -> classes.add(javaClass.getName())));
+            result.handleViolations((Collection<Dependency> objects, String message) ->
+                objects.forEach(dependency -> classes.add(dependency.getOriginClass().getName())));
+            result.handleViolations((Collection<JavaMember> objects, String message) ->
+                objects.forEach(member -> classes.add(member.getOwner().getName())));
+            violations.put(layerRule.layer() + "." + layerRule.name(), classes);
+        }
+
+        return violations;
+    }
+
+    private static Set<String> names(final JavaClasses javaClasses) {
+        return javaClasses.stream().map(JavaClass::getName).collect(toSet());
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.emedina.hexagonal.benchmarks.footprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.emedina.hexagonal.benchmarks.CheckerRules;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link FootprintBudget}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("FootprintBudget")
+class FootprintBudgetTest {
+
+    @Test
+    @DisplayName("should budget the allocation of every checker")
+    void shouldBudgetEveryChecker() {
+        // When
+        FootprintBudget budget = FootprintBudget.load();
+
+        // Then
+        assertThat(budget.allocatedBytes()).containsOnlyKeys(CheckerRules.checkers());
+    }
+
+    @Test
+    @DisplayName("should report a measured checker without an allocation budget")
+    void shouldReportCheckerWithoutBudget() {
+        // Given
+        FootprintBudget budget = new FootprintBudget(1000, 1000, Map.of("domainChecker", 1000L), 0.10);
+
+        // When
+        List<String> regressions = budget.regressions(1000, 1000,
+            Map.of("domainChecker", 1000.0, "boxingChecker", 500.0));
+
+        // Then
+        assertThat(regressions).containsExactly("boxingChecker has no allocation budget, measured 500 B");
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.emedina.hexagonal.benchmarks.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link RegressionGate} and {@link Comparison}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("RegressionGate")
+class RegressionGateTest {
+
+    private static final String BENCHMARK = "com.emedina.hexagonal.benchmarks.CheckerBenchmark.domainChecker";
+
+    private static BenchmarkScore score(final double score, final double error, final String jdk) {
+        return new BenchmarkScore(BENCHMARK, Map.of("size", "10000"), score, score - error, score + error, "ms/op",
+            jdk);
+    }
+
+    @Nested
+    @DisplayName("baseline")
+    class BaselineTest {
+
+        @Test
+        @DisplayName("should compare a baseline recorded on the same JDK feature release")
+        void shouldCompareSameJdk() {
+            // When & Then
+            assertThat(RegressionGate.unusable(List.of(score(10.0, 0.1, "25.0.1")),
+                List.of(score(10.0, 0.1, "25.0.2")))).isNull();
+        }
+
+        @Test
+        @DisplayName("should not compare a baseline recorded on another JDK")
+        void shouldNotCompareOtherJdk() {
+            // When & Then
+            assertThat(RegressionGate.unusable(List.of(score(10.0, 0.1, "21.0.1")), List.of(score(10.0, 0.1, "25"))))
+                .isEqualTo("The baseline was recorded on JDK 21, the current scores on JDK 25");
+        }
+
+        @Test
+        @DisplayName("should not compare an empty baseline")
+        void shouldNotCompareEmptyBaseline() {
+            // When & Then
+            assertThat(RegressionGate.unusable(List.of(), List.of(score(10.0, 0.1, "25")))).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should only package scores recorded on JDK 25")
+        void shouldHavePackagedBaselineOfTargetJdk() {
+            // When
+            List<BenchmarkScore> baseline = BaselineFile.read();
+
+            // Then
+            assertThat(baseline).allSatisfy(score -> assertThat(score.jdkFeature()).isEqualTo(25));
+        }
+    }
+
+    @Nested
+    @DisplayName("comparison")
+    class ComparisonTest {
+
+        @Test
+        @DisplayName("should report a slowdown beyond both confidence intervals and the threshold")
+        void shouldReportRegression() {
+            // When
+            Comparison comparison = new Comparison(score(10.0, 0.2, "25"), score(12.0, 0.3, "25"));
+
+            // Then
+            assertThat(comparison.regressed(0.10)).isTrue();
+            assertThat(comparison.inconclusive(0.10)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should be inconclusive when a confidence interval is wider than the threshold")
+        void shouldBeInconclusiveForNoisyScores() {
+            // When
+            Comparison comparison = new Comparison(score(7.1, 6.5, "25"), score(9.0, 0.3, "25"));
+
+            // Then
+            assertThat(comparison.regressed(0.10)).isFalse();
+            assertThat(comparison.inconclusive(0.10)).isTrue();
+        }
+    }
+
+}
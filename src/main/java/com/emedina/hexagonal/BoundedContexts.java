@@ -0,0 +1,138 @@
+package com.emedina.hexagonal;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+import com.emedina.hexagonal.config.BoundedContextsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.ArchitectureReport;
+import com.emedina.hexagonal.evaluation.ConcurrentRuleEvaluator;
+import com.emedina.hexagonal.evaluation.EvaluationMode;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchRule;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point evaluating the rules of several bounded contexts at once, each one configured as its own hexagon.
+ * <p>
+ * The rules of every context are evaluated against the same imported classes, so the codebase is imported and
+ * indexed once for all contexts instead of once per context. The layers of the rules are prefixed with the name of
+ * their context, as in {@code ordering/domain}. On top of the rules of each hexagon, the domain of every context
+ * must not depend on the domain of any other context.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class BoundedContexts {
+
+    static final String CONTEXT_SEPARATOR = "/";
+
+    private static BoundedContextsProperties properties;
+
+    /**
+     * Initializes the bounded contexts with the given properties.
+     *
+     * @param properties the bounded contexts properties
+     */
+    public BoundedContexts(final BoundedContextsProperties properties) {
+        BoundedContexts.properties = properties;
+    }
+
+    /**
+     * Checks the rules of all bounded contexts, failing on the first rule with violations.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if no bounded context or a layer of a context is not configured
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Returns the rules of every bounded context, in evaluation order.
+     *
+     * @return the rules of all contexts
+     * @throws IllegalStateException if the bounded contexts have not been initialized or are not configured
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("BoundedContextsProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Returns the rules of every bounded context described by the given properties: the rules of all checkers and
+     * custom rules for the hexagon of the context, followed by the rule isolating its domain from the other
+     * contexts, in the configured order of the contexts.
+     *
+     * @param properties the bounded contexts properties
+     * @return the rules of all contexts
+     * @throws IllegalStateException if no bounded context or a layer of a context is not configured
+     */
+    public static List<LayerRule> rules(final BoundedContextsProperties properties) {
+        final Map<String, HexagonalArchitectureProperties> contexts = properties.contexts();
+        if (contexts == null || contexts.isEmpty()) {
+            throw new IllegalStateException("No bounded context is configured in the properties");
+        }
+
+        final List<LayerRule> rules = new ArrayList<>();
+        contexts.forEach((context, contextProperties) -> {
+            HexagonalArchitecture.rules(contextProperties).forEach(layerRule -> rules.add(new LayerRule(
+                context + CONTEXT_SEPARATOR + layerRule.layer(), layerRule.name(), layerRule.rule())));
+
+            final String[] otherDomainPackages = contexts.entrySet().stream()
+                .filter(other -> !other.getKey().equals(context))
+                .flatMap(other -> other.getValue().domain().fqdns().stream())
+                .toArray(String[]::new);
+            if (otherDomainPackages.length > 0) {
+                final ArchRule crossContextDomainRule = noClasses()
+                    .that().resideInAnyPackage(contextProperties.domain().fqdns().toArray(new String[0]))
+                    .should().dependOnClassesThat().resideInAnyPackage(otherDomainPackages)
+                    .because("The domain of a bounded context should not depend on the domain of another context");
+                rules.add(new LayerRule(context + CONTEXT_SEPARATOR + "domain", "crossContextDomainRule",
+                    crossContextDomainRule));
+            }
+        });
+
+        return List.copyOf(rules);
+    }
+
+    /**
+     * Evaluates the rules of all bounded contexts without failing, up to the limits of the given mode.
+     *
+     * @param javaClasses the Java classes of all contexts
+     * @param mode        how far the evaluation goes once violations are found
+     * @return the report with the violations found, not present in the freeze store
+     * @throws IllegalStateException if the bounded contexts have not been initialized or are not configured
+     */
+    public static ArchitectureReport evaluate(final JavaClasses javaClasses, final EvaluationMode mode) {
+        return RuleEvaluator.evaluateAll(rules(), javaClasses, mode);
+    }
+
+    /**
+     * Evaluates the rules of all bounded contexts concurrently without failing, up to the limits of the given mode.
+     * <p>
+     * The rules of different contexts are evaluated at the same time on {@code parallelism} platform threads, and
+     * the report is the same as the one of {@link #evaluate(JavaClasses, EvaluationMode)}.
+     *
+     * @param javaClasses the Java classes of all contexts
+     * @param mode        how far the evaluation goes once violations are found
+     * @param parallelism the number of rules evaluated at the same time
+     * @return the report with the violations found, not present in the freeze store
+     * @throws IllegalStateException if the bounded contexts have not been initialized or are not configured
+     */
+    public static ArchitectureReport evaluateConcurrently(final JavaClasses javaClasses, final EvaluationMode mode,
+        final int parallelism) {
+        return ConcurrentRuleEvaluator.evaluateAll(rules(), javaClasses, mode, parallelism);
+    }
+
+}
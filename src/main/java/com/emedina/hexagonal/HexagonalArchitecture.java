@@ -0,0 +1,186 @@
+package com.emedina.hexagonal;
+
+import com.emedina.hexagonal.adapters.AdapterChecker;
+import com.emedina.hexagonal.application.command.CommandChecker;
+import com.emedina.hexagonal.application.domain.DomainChecker;
+import com.emedina.hexagonal.application.handler.HandlerChecker;
+import com.emedina.hexagonal.application.ports.in.InputPortChecker;
+import com.emedina.hexagonal.application.ports.out.OutputPortChecker;
+import com.emedina.hexagonal.application.query.QueryChecker;
+import com.emedina.hexagonal.concurrency.ConcurrencyChecker;
+import com.emedina.hexagonal.concurrency.LegacySynchronizationChecker;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.ArchitectureReport;
+import com.emedina.hexagonal.evaluation.ConcurrentRuleEvaluator;
+import com.emedina.hexagonal.evaluation.EvaluationMode;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.evaluation.Violation;
+import com.emedina.hexagonal.exceptions.ExceptionFlowChecker;
+import com.emedina.hexagonal.heap.BoxingChecker;
+import com.emedina.hexagonal.heap.StaticStateChecker;
+import com.emedina.hexagonal.heap.ValueClassChecker;
+import com.emedina.hexagonal.io.BlockingIoChecker;
+import com.emedina.hexagonal.jit.MethodSizeChecker;
+import com.emedina.hexagonal.reflection.ReflectionChecker;
+import com.emedina.hexagonal.sharedkernel.SharedKernelChecker;
+import com.emedina.hexagonal.spi.HexagonalRules;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Entry point evaluating the rules of all checkers at once.
+ * <p>
+ * Unlike the {@code checkRules} method of each checker, which fails on the first rule with violations, the evaluation
+ * runs every rule of every layer and reports all their violations, so a single run over the imported classes gives
+ * the full picture. Custom {@link com.emedina.hexagonal.spi.HexagonalRule}s found on the classpath are evaluated
+ * along with the rules of the checkers.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class HexagonalArchitecture {
+
+    /**
+     * The rules of every checker followed by the custom rules, in evaluation order.
+     */
+    private static final List<Function<HexagonalArchitectureProperties, List<LayerRule>>> CHECKERS = List.of(
+        SharedKernelChecker::rules, DomainChecker::rules, OutputPortChecker::rules, InputPortChecker::rules,
+        CommandChecker::rules, QueryChecker::rules, HandlerChecker::rules, AdapterChecker::rules,
+        ConcurrencyChecker::rules, BlockingIoChecker::rules, ReflectionChecker::rules, MethodSizeChecker::rules,
+        ExceptionFlowChecker::rules, BoxingChecker::rules, ValueClassChecker::rules,
+        LegacySynchronizationChecker::rules, StaticStateChecker::rules, HexagonalRules::rules);
+
+    private static HexagonalArchitectureProperties properties;
+
+    /**
+     * Initializes every checker with the given properties and discovers the custom rules.
+     *
+     * @param properties the hexagonal architecture properties
+     */
+    public HexagonalArchitecture(final HexagonalArchitectureProperties properties) {
+        HexagonalArchitecture.properties = properties;
+        new SharedKernelChecker(properties);
+        new DomainChecker(properties);
+        new OutputPortChecker(properties);
+        new InputPortChecker(properties);
+        new CommandChecker(properties);
+        new QueryChecker(properties);
+        new HandlerChecker(properties);
+        new AdapterChecker(properties);
+        new ConcurrencyChecker(properties);
+        new BlockingIoChecker(properties);
+        new ReflectionChecker(properties);
+        new MethodSizeChecker(properties);
+        new ExceptionFlowChecker(properties);
+        new BoxingChecker(properties);
+        new ValueClassChecker(properties);
+        new LegacySynchronizationChecker(properties);
+        new StaticStateChecker(properties);
+        new HexagonalRules(properties);
+    }
+
+    /**
+     * Returns the rules of every checker followed by the custom rules, for the properties the entry point has been
+     * initialized with, in evaluation order.
+     *
+     * @return the rules of all layers
+     * @throws IllegalStateException if the entry point has not been initialized or a layer is not configured
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Returns the rules of every checker followed by the custom rules for the hexagon described by the given
+     * properties, regardless of the properties the checkers have been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the rules of all layers
+     * @throws IllegalStateException if a layer is not configured
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        return CHECKERS.stream()
+            .flatMap(checker -> checker.apply(properties).stream())
+            .toList();
+    }
+
+    /**
+     * Evaluates the rules of all layers without failing.
+     *
+     * @param javaClasses the Java classes to evaluate
+     * @return the report with the violations of all rules not present in the freeze store
+     * @throws IllegalStateException if the checkers have not been initialized or a layer is not configured
+     */
+    public static ArchitectureReport evaluate(final JavaClasses javaClasses) {
+        return RuleEvaluator.evaluateAll(rules(), javaClasses);
+    }
+
+    /**
+     * Evaluates the rules of all layers without failing, streaming the violations of each rule to the consumer as
+     * soon as the rule has been evaluated instead of collecting them all.
+     *
+     * @param javaClasses the Java classes to evaluate
+     * @param violations  the consumer of the violations not present in the freeze store
+     * @throws IllegalStateException if the checkers have not been initialized or a layer is not configured
+     */
+    public static void evaluate(final JavaClasses javaClasses, final Consumer<Violation> violations) {
+        RuleEvaluator.evaluateAll(rules(), javaClasses, violations);
+    }
+
+    /**
+     * Evaluates the rules of all layers without failing, up to the limits of the given mode.
+     * <p>
+     * With {@link EvaluationMode#failFast()}, the evaluation stops at the first violation, which answers whether the
+     * architecture is broken much sooner on a drifting codebase.
+     *
+     * @param javaClasses the Java classes to evaluate
+     * @param mode        how far the evaluation goes once violations are found
+     * @return the report with the violations found, not present in the freeze store
+     * @throws IllegalStateException if the checkers have not been initialized or a layer is not configured
+     */
+    public static ArchitectureReport evaluate(final JavaClasses javaClasses, final EvaluationMode mode) {
+        return RuleEvaluator.evaluateAll(rules(), javaClasses, mode);
+    }
+
+    /**
+     * Evaluates the rules of all layers without failing, streaming the violations of each rule to the consumer, up
+     * to the limits of the given mode.
+     *
+     * @param javaClasses the Java classes to evaluate
+     * @param mode        how far the evaluation goes once violations are found
+     * @param violations  the consumer of the violations not present in the freeze store
+     * @return {@code true} if every rule has been evaluated against all classes
+     * @throws IllegalStateException if the checkers have not been initialized or a layer is not configured
+     */
+    public static boolean evaluate(final JavaClasses javaClasses, final EvaluationMode mode,
+        final Consumer<Violation> violations) {
+        return RuleEvaluator.evaluateAll(rules(), javaClasses, mode, violations);
+    }
+
+    /**
+     * Evaluates the rules of all layers concurrently without failing, up to the limits of the given mode.
+     * <p>
+     * Rules are evaluated on {@code parallelism} platform threads while freezing and reporting their violations runs
+     * on virtual threads. The report is the same as the one of {@link #evaluate(JavaClasses, EvaluationMode)}.
+     *
+     * @param javaClasses the Java classes to evaluate
+     * @param mode        how far the evaluation goes once violations are found
+     * @param parallelism the number of rules evaluated at the same time
+     * @return the report with the violations found, not present in the freeze store
+     * @throws IllegalStateException if the checkers have not been initialized or a layer is not configured
+     */
+    public static ArchitectureReport evaluateConcurrently(final JavaClasses javaClasses, final EvaluationMode mode,
+        final int parallelism) {
+        return ConcurrentRuleEvaluator.evaluateAll(rules(), javaClasses, mode, parallelism);
+    }
+
+}
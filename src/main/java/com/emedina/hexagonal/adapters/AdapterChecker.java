@@ -7,8 +7,10 @@ import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
-import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.SupertypeIndex;
 import com.emedina.sharedkernel.domain.repository.annotation.Repository;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +25,8 @@ import java.util.stream.Stream;
 @Component
 public class AdapterChecker {
 
+    static final String LAYER = "adapters";
+
     private static HexagonalArchitectureProperties properties;
 
     public AdapterChecker(final HexagonalArchitectureProperties properties) {
@@ -47,10 +51,32 @@ public class AdapterChecker {
      */
     @ArchTest
     public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for adapters, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for adapters
+     * @throws IllegalStateException if the adapters FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
         if (properties == null) {
             throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
         }
 
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for adapters of the hexagon described by the given properties, regardless of the properties the
+     * checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for adapters
+     * @throws IllegalStateException if the adapters FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
         final List<String> adaptersPackages = properties.adapters().fqdns();
         if (adaptersPackages == null || adaptersPackages.isEmpty()) {
             throw new IllegalStateException("Adapters FQDN is not configured in the properties");
@@ -65,11 +91,14 @@ public class AdapterChecker {
             .should().dependOnClassesThat()
             .resideInAnyPackage(coreModulesPackages);
 
-        FreezingArchRule.freeze(coreModulesDependencyRule).check(javaClasses);
+        return List.of(
+            new LayerRule(LAYER, "coreModulesDependencyRule", coreModulesDependencyRule)
+        );
     }
 
     /**
-     * Creates a DescribedPredicate that checks if a class implements an interface annotated with @Repository.
+     * Creates a DescribedPredicate that checks if a class implements an interface annotated with @Repository,
+     * directly or through a sub-interface or superclass, looked up in the {@link SupertypeIndex}.
      *
      * @return a DescribedPredicate that can be used in ArchUnit rules to check for @Repository interface implementation.
      */
@@ -77,8 +106,7 @@ public class AdapterChecker {
         return new DescribedPredicate<>("implement a @Repository interface") {
             @Override
             public boolean test(JavaClass input) {
-                return input.getInterfaces().stream()
-                    .anyMatch(i -> i.toErasure().isAnnotatedWith(Repository.class));
+                return SupertypeIndex.implementsInterfaceAnnotatedWith(input, Repository.class);
             }
         };
     }
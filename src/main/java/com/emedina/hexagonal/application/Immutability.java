@@ -0,0 +1,91 @@
+package com.emedina.hexagonal.application;
+
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutability of the messages dispatched through the buses, shared by the checkers of Commands and Queries.
+ * <p>
+ * Commands and queries cross threads through the buses, so immutable ones can be cached, shared and dispatched
+ * concurrently without defensive copies. A record is immutable by construction; any other class must declare its
+ * instance fields final, declare no setters and never return a collection, map or array field as is, without copying
+ * or wrapping it. Only the methods returning a collection, map or array the field can be assigned to are suspected of
+ * returning the field, so reading its length or comparing it with null is fine.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class Immutability {
+
+    private static final Pattern SETTER = Pattern.compile("set[A-Z].*");
+
+    private Immutability() {
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class is a record or is otherwise immutable.
+     *
+     * @param kind the kind of message, like {@code Command} or {@code Query}, for the violation messages
+     * @return an ArchCondition that can be used in ArchUnit rules to check for immutability
+     */
+    public static ArchCondition<JavaClass> beImmutable(final String kind) {
+        return new ArchCondition<>("be immutable") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                if (item.isAssignableTo(Record.class)) {
+                    return;
+                }
+
+                item.getFields().stream()
+                    .filter(field -> !field.getModifiers().contains(JavaModifier.STATIC))
+                    .filter(field -> !field.getModifiers().contains(JavaModifier.FINAL))
+                    .forEach(field -> events.add(SimpleConditionEvent.violated(item,
+                        String.format("%s field %s is not final", kind, field.getFullName()))));
+
+                item.getMethods().stream()
+                    .filter(Immutability::isPublicInstanceMethod)
+                    .filter(method -> SETTER.matcher(method.getName()).matches())
+                    .forEach(method -> events.add(SimpleConditionEvent.violated(item,
+                        String.format("%s declares setter %s", kind, method.getFullName()))));
+
+                item.getMethods().stream()
+                    .filter(Immutability::isPublicInstanceMethod)
+                    .filter(method -> method.getCallsFromSelf().isEmpty())
+                    .filter(method -> isMutableContainer(method.getRawReturnType()))
+                    .forEach(method -> method.getFieldAccesses().stream()
+                        .filter(access -> access.getAccessType() == AccessType.GET)
+                        .filter(access -> access.getTargetOwner().equals(item))
+                        .filter(access -> isMutableContainer(access.getTarget().getRawType()))
+                        .filter(access -> isReturnableAs(access.getTarget().getRawType(), method.getRawReturnType()))
+                        .map(JavaAccess::getName)
+                        .distinct()
+                        .forEach(field -> events.add(SimpleConditionEvent.violated(item,
+                            String.format("%s method %s exposes mutable field %s without copying it", kind,
+                                method.getFullName(), field)))));
+            }
+        };
+    }
+
+    private static boolean isPublicInstanceMethod(final JavaMethod method) {
+        return method.getModifiers().contains(JavaModifier.PUBLIC)
+            && !method.getModifiers().contains(JavaModifier.STATIC);
+    }
+
+    private static boolean isReturnableAs(final JavaClass fieldType, final JavaClass returnType) {
+        return fieldType.getName().equals(returnType.getName()) || fieldType.isAssignableTo(returnType.getName());
+    }
+
+    private static boolean isMutableContainer(final JavaClass type) {
+        return type.isArray() || type.isAssignableTo(Collection.class) || type.isAssignableTo(Map.class);
+    }
+
+}
@@ -10,8 +10,9 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
-import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
 import com.emedina.sharedkernel.application.annotation.Adapter;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.application.annotation.OutputPort;
@@ -35,6 +36,8 @@ import java.util.List;
 @Component
 public class DomainChecker {
 
+    static final String LAYER = "domain";
+
     private static HexagonalArchitectureProperties properties;
 
     public DomainChecker(final HexagonalArchitectureProperties properties) {
@@ -56,17 +59,39 @@ public class DomainChecker {
      */
     @ArchTest
     public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for the domain module, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for the domain module
+     * @throws IllegalStateException if the domain FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
         if (properties == null) {
             throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
         }
 
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for the domain module of the hexagon described by the given properties, regardless of the
+     * properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for the domain module
+     * @throws IllegalStateException if the domain FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
         final List<String> domainPackage = properties.domain().fqdns();
         if (domainPackage == null || domainPackage.isEmpty()) {
             throw new IllegalStateException("Domain FQDN is not configured in the properties");
         }
 
-        final List<String> allowedLibraries = getAllowedLibraries();
-        final String[] allowedPackages = getAllowedPackages(allowedLibraries);
+        final List<String> allowedLibraries = getAllowedLibraries(properties);
+        final String[] allowedPackages = getAllowedPackages(properties, allowedLibraries);
 
         // Rule 1: Allowed dependencies
         final ArchRule domainDependencyRule = classes()
@@ -87,10 +112,11 @@ public class DomainChecker {
             .orShould().beAnnotatedWith(OutputPort.class)
             .orShould().beAnnotatedWith(ApplicationService.class);
 
-        // Apply and freeze the rules
-        FreezingArchRule.freeze(domainDependencyRule).check(javaClasses);
-        FreezingArchRule.freeze(allowedAnnotationsRule).check(javaClasses);
-        FreezingArchRule.freeze(forbiddenAnnotationsRule).check(javaClasses);
+        return List.of(
+            new LayerRule(LAYER, "domainDependencyRule", domainDependencyRule),
+            new LayerRule(LAYER, "allowedAnnotationsRule", allowedAnnotationsRule),
+            new LayerRule(LAYER, "forbiddenAnnotationsRule", forbiddenAnnotationsRule)
+        );
     }
 
     /**
@@ -137,28 +163,33 @@ public class DomainChecker {
      * This method combines the default allowed libraries with any custom libraries
      * specified in the properties.
      *
+     * @param properties the hexagonal architecture properties
      * @return a list of package names representing the allowed libraries
      */
-    static List<String> getAllowedLibraries() {
+    static List<String> getAllowedLibraries(final HexagonalArchitectureProperties properties) {
         final List<String> defaultLibraries = Arrays.asList(
             "java..", "javax..", "lombok..", "io.vavr..", "org.apache.commons.."
         );
         final List<String> customLibraries = properties.domain().allowedLibraries();
+        final List<String> allowedLibraries = new ArrayList<>();
         if (customLibraries != null && !customLibraries.isEmpty()) {
-            customLibraries.addAll(defaultLibraries);
+            allowedLibraries.addAll(customLibraries);
+            allowedLibraries.addAll(defaultLibraries);
         }
 
-        return customLibraries;
+        return allowedLibraries;
     }
 
     /**
      * Generates an array of allowed package names for the domain.
      * This method combines the allowed libraries with the domain's own package.
      *
+     * @param properties       the hexagonal architecture properties
      * @param allowedLibraries the list of allowed library package names
      * @return an array of package names that the domain is allowed to depend on
      */
-    static String[] getAllowedPackages(final List<String> allowedLibraries) {
+    static String[] getAllowedPackages(final HexagonalArchitectureProperties properties,
+        final List<String> allowedLibraries) {
         final List<String> allowedPackages = new ArrayList<>(allowedLibraries);
         allowedPackages.addAll(properties.domain().fqdns());
 
@@ -11,8 +11,10 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
-import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.SupertypeIndex;
 import com.emedina.sharedkernel.application.annotation.Adapter;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.application.annotation.OutputPort;
@@ -25,7 +27,9 @@ import com.emedina.sharedkernel.domain.service.annotation.DomainService;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Checker for Hexagonal Architecture rules on Handlers.
@@ -34,6 +38,8 @@ import java.util.List;
  */
 public class HandlerChecker {
 
+    static final String LAYER = "handler";
+
     private static HexagonalArchitectureProperties properties;
 
     public HandlerChecker(final HexagonalArchitectureProperties properties) {
@@ -57,17 +63,39 @@ public class HandlerChecker {
      */
     @ArchTest
     public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for handler services, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for handler services
+     * @throws IllegalStateException if the handler services FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
         if (properties == null) {
             throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
         }
 
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for handler services of the hexagon described by the given properties, regardless of the
+     * properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for handler services
+     * @throws IllegalStateException if the handler services FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
         final List<String> applicationServicesPackage = properties.handler().fqdns();
         if (applicationServicesPackage == null || applicationServicesPackage.isEmpty()) {
             throw new IllegalStateException("Handler FQDN is not configured in the properties");
         }
 
-        final List<String> allowedLibraries = getAllowedLibraries();
-        final String[] allowedPackages = getAllowedPackages(allowedLibraries);
+        final List<String> allowedLibraries = getAllowedLibraries(properties);
+        final String[] allowedPackages = getAllowedPackages(properties, allowedLibraries);
 
         // Rule 1: Allowed dependencies
         final ArchRule allowedDependenciesRule = classes()
@@ -99,15 +127,17 @@ public class HandlerChecker {
             .and(implementUseCaseInterface())
             .should(followUseCaseNamingConvention());
 
-        // Apply and freeze the rules
-        FreezingArchRule.freeze(allowedDependenciesRule).check(javaClasses);
-        FreezingArchRule.freeze(mustHaveApplicationServiceAnnotationRule).check(javaClasses);
-        FreezingArchRule.freeze(forbiddenAnnotationsRule).check(javaClasses);
-        FreezingArchRule.freeze(useCaseNamingConventionRule).check(javaClasses);
+        return List.of(
+            new LayerRule(LAYER, "allowedDependenciesRule", allowedDependenciesRule),
+            new LayerRule(LAYER, "mustHaveApplicationServiceAnnotationRule", mustHaveApplicationServiceAnnotationRule),
+            new LayerRule(LAYER, "forbiddenAnnotationsRule", forbiddenAnnotationsRule),
+            new LayerRule(LAYER, "useCaseNamingConventionRule", useCaseNamingConventionRule)
+        );
     }
 
     /**
-     * Creates a DescribedPredicate that checks if a class implements an interface annotated with @UseCase.
+     * Creates a DescribedPredicate that checks if a class implements an interface annotated with @UseCase, directly
+     * or through a sub-interface or superclass, looked up in the {@link SupertypeIndex}.
      *
      * @return a DescribedPredicate that can be used in ArchUnit rules to check for @UseCase interface implementation.
      */
@@ -115,8 +145,7 @@ public class HandlerChecker {
         return new DescribedPredicate<>("implement a @UseCase interface") {
             @Override
             public boolean test(JavaClass input) {
-                return input.getInterfaces().stream()
-                    .anyMatch(i -> i.toErasure().isAnnotatedWith(UseCase.class));
+                return SupertypeIndex.implementsInterfaceAnnotatedWith(input, UseCase.class);
             }
         };
     }
@@ -124,6 +153,9 @@ public class HandlerChecker {
     /**
      * Creates an ArchCondition that checks if a class follows the naming convention for UseCase implementations.
      * The class name should be the same as the UseCase interface it implements, minus "UseCase" and plus "Handler".
+     * Like {@link #implementUseCaseInterface()}, the @UseCase interfaces are found among all the interfaces of the
+     * class, direct or inherited; the class may then be named after the @UseCase interface or any of its
+     * sub-interfaces the class implements.
      *
      * @return an ArchCondition that can be used in ArchUnit rules to check for the UseCase naming convention.
      */
@@ -131,15 +163,21 @@ public class HandlerChecker {
         return new ArchCondition<>("follow UseCase naming convention") {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
-                item.getInterfaces().stream()
-                    .filter(i -> i.toErasure().isAnnotatedWith(UseCase.class))
+                final Set<JavaClass> interfaces = item.getAllRawInterfaces();
+                interfaces.stream()
+                    .filter(i -> i.isAnnotatedWith(UseCase.class))
+                    .sorted(Comparator.comparing(JavaClass::getName))
                     .forEach(useCaseInterface -> {
-                        final String expectedName =
-                            useCaseInterface.toErasure().getSimpleName().replace("UseCase", "") + "Handler";
-                        if (!item.getSimpleName().equals(expectedName)) {
+                        final List<String> expectedNames = interfaces.stream()
+                            .filter(i -> i.isAssignableTo(useCaseInterface.getName()))
+                            .map(i -> i.getSimpleName().replace("UseCase", "") + "Handler")
+                            .sorted()
+                            .toList();
+                        if (!expectedNames.contains(item.getSimpleName())) {
                             events.add(SimpleConditionEvent.violated(item,
                                 String.format("Handler %s implements %s, but is not named %s",
-                                    item.getSimpleName(), useCaseInterface.toErasure().getSimpleName(), expectedName)));
+                                    item.getSimpleName(), useCaseInterface.getSimpleName(),
+                                    String.join(" or ", expectedNames))));
                         }
                     });
             }
@@ -151,28 +189,33 @@ public class HandlerChecker {
      * This method combines the default allowed libraries with any custom libraries
      * specified in the properties.
      *
+     * @param properties the hexagonal architecture properties
      * @return a list of package names representing the allowed libraries.
      */
-    static List<String> getAllowedLibraries() {
+    static List<String> getAllowedLibraries(final HexagonalArchitectureProperties properties) {
         final List<String> defaultLibraries = Arrays.asList(
             "java..", "javax..", "lombok..", "io.vavr..", "org.apache.commons.."
         );
         final List<String> customLibraries = properties.handler().allowedLibraries();
+        final List<String> allowedLibraries = new ArrayList<>();
         if (customLibraries != null && !customLibraries.isEmpty()) {
-            customLibraries.addAll(defaultLibraries);
+            allowedLibraries.addAll(customLibraries);
+            allowedLibraries.addAll(defaultLibraries);
         }
 
-        return customLibraries;
+        return allowedLibraries;
     }
 
     /**
      * Generates an array of allowed package names for handler services.
      * This method combines the allowed libraries with the handler services' own package.
      *
+     * @param properties       the hexagonal architecture properties
      * @param allowedLibraries the list of allowed library package names.
      * @return an array of package names that the handler services are allowed to depend on.
      */
-    static String[] getAllowedPackages(final List<String> allowedLibraries) {
+    static String[] getAllowedPackages(final HexagonalArchitectureProperties properties,
+        final List<String> allowedLibraries) {
         final List<String> allowedPackages = new ArrayList<>(allowedLibraries);
         allowedPackages.addAll(properties.handler().fqdns());
 
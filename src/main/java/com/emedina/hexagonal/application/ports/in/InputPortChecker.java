@@ -5,14 +5,16 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
-import com.tngtech.archunit.core.domain.JavaParameterizedType;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
-import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.GenericTypeIndex;
+import com.emedina.hexagonal.index.GenericTypeIndex.TypeArgument;
 import com.emedina.sharedkernel.application.annotation.Adapter;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.application.annotation.OutputPort;
@@ -38,6 +40,8 @@ import java.util.List;
  */
 public class InputPortChecker {
 
+    static final String LAYER = "input-ports";
+
     private static HexagonalArchitectureProperties properties;
 
     public InputPortChecker(final HexagonalArchitectureProperties properties) {
@@ -63,17 +67,39 @@ public class InputPortChecker {
      */
     @ArchTest
     public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for the input ports, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for the input ports
+     * @throws IllegalStateException if the input ports FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
         if (properties == null) {
             throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
         }
 
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for the input ports of the hexagon described by the given properties, regardless of the
+     * properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for the input ports
+     * @throws IllegalStateException if the input ports FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
         final List<String> inputPortsPackage = properties.inputPorts().fqdns();
         if (inputPortsPackage == null || inputPortsPackage.isEmpty()) {
             throw new IllegalStateException("Input Ports FQDN is not configured in the properties");
         }
 
-        final List<String> allowedLibraries = getAllowedLibraries();
-        final String[] allowedPackages = getAllowedPackages(allowedLibraries);
+        final List<String> allowedLibraries = getAllowedLibraries(properties);
+        final String[] allowedPackages = getAllowedPackages(properties, allowedLibraries);
 
         // Rule 1: Allowed dependencies
         final ArchRule inputPortDependencyRule = classes()
@@ -113,22 +139,23 @@ public class InputPortChecker {
         final ArchRule commandHandlerRule = classes()
             .that().resideInAnyPackage(inputPortsPackage.toArray(new String[0]))
             .and().areAssignableTo(CommandHandler.class)
-            .should(haveGenericTypeAssignableTo(Command.class, 1));
+            .should(haveGenericTypeAssignableTo(CommandHandler.class, Command.class, 2));
 
         // Rule 7: QueryHandler specifics
         final ArchRule queryHandlerRule = classes()
             .that().resideInAnyPackage(inputPortsPackage.toArray(new String[0]))
             .and().areAssignableTo(QueryHandler.class)
-            .should(haveGenericTypeAssignableTo(Query.class, 2));
-
-        // Apply and freeze the rules
-        FreezingArchRule.freeze(inputPortDependencyRule).check(javaClasses);
-        FreezingArchRule.freeze(mustHaveUseCaseAnnotationRule).check(javaClasses);
-        FreezingArchRule.freeze(forbiddenAnnotationsRule).check(javaClasses);
-        FreezingArchRule.freeze(mustBeInterfaceRule).check(javaClasses);
-        FreezingArchRule.freeze(mustExtendHandlerRule).check(javaClasses);
-        FreezingArchRule.freeze(commandHandlerRule).check(javaClasses);
-        FreezingArchRule.freeze(queryHandlerRule).check(javaClasses);
+            .should(haveGenericTypeAssignableTo(QueryHandler.class, Query.class, 3));
+
+        return List.of(
+            new LayerRule(LAYER, "inputPortDependencyRule", inputPortDependencyRule),
+            new LayerRule(LAYER, "mustHaveUseCaseAnnotationRule", mustHaveUseCaseAnnotationRule),
+            new LayerRule(LAYER, "forbiddenAnnotationsRule", forbiddenAnnotationsRule),
+            new LayerRule(LAYER, "mustBeInterfaceRule", mustBeInterfaceRule),
+            new LayerRule(LAYER, "mustExtendHandlerRule", mustExtendHandlerRule),
+            new LayerRule(LAYER, "commandHandlerRule", commandHandlerRule),
+            new LayerRule(LAYER, "queryHandlerRule", queryHandlerRule)
+        );
     }
 
     /**
@@ -137,28 +164,33 @@ public class InputPortChecker {
      * This method combines the default allowed libraries with any custom libraries
      * specified in the properties.
      *
+     * @param properties the hexagonal architecture properties
      * @return a list of package names representing the allowed libraries
      */
-    static List<String> getAllowedLibraries() {
+    static List<String> getAllowedLibraries(final HexagonalArchitectureProperties properties) {
         final List<String> defaultLibraries = Arrays.asList(
             "java..", "javax..", "lombok..", "io.vavr..", "org.apache.commons.."
         );
         final List<String> customLibraries = properties.inputPorts().allowedLibraries();
+        final List<String> allowedLibraries = new ArrayList<>();
         if (customLibraries != null && !customLibraries.isEmpty()) {
-            customLibraries.addAll(defaultLibraries);
+            allowedLibraries.addAll(customLibraries);
+            allowedLibraries.addAll(defaultLibraries);
         }
 
-        return customLibraries;
+        return allowedLibraries;
     }
 
     /**
      * Generates an array of allowed package names for the input ports.
      * This method combines the allowed libraries with the input ports' own package.
      *
+     * @param properties       the hexagonal architecture properties
      * @param allowedLibraries the list of allowed library package names
      * @return an array of package names that the input ports are allowed to depend on
      */
-    static String[] getAllowedPackages(final List<String> allowedLibraries) {
+    static String[] getAllowedPackages(final HexagonalArchitectureProperties properties,
+        final List<String> allowedLibraries) {
         final List<String> allowedPackages = new ArrayList<>(allowedLibraries);
         allowedPackages.addAll(properties.inputPorts().fqdns());
 
@@ -169,22 +201,23 @@ public class InputPortChecker {
      * Creates an {@link ArchCondition} that verifies if a class implementing a generic interface has a type parameter
      * that is assignable to the specified expected type.
      * <p>
-     * This condition inspects classes that implement parametrized interfaces and ensures that the first generic type
-     * argument is a subtype of the provided expected type.
+     * This condition inspects every generic interface and superclass of the class, direct or inherited, with its type
+     * arguments resolved through intermediate generic types by the {@link GenericTypeIndex}, and ensures that the
+     * type argument at the given position is a subtype of the provided expected type.
      * </p>
      *
      * <p>
      * For example:
      * <ul>
-     *     <li>If a class implements {@code CommandHandler<T>}, this condition will check whether {@code T} is assignable to {@code Command}.</li>
-     *     <li>If a class implements {@code QueryHandler<R, T>}, this condition can be used to check whether {@code T} is assignable to {@code Query}.</li>
+     *     <li>If a class implements {@code CommandHandler<E, T>}, this condition will check whether {@code T} is assignable to {@code Command}.</li>
+     *     <li>If a class implements {@code QueryHandler<E, R, T>}, this condition can be used to check whether {@code T} is assignable to {@code Query}.</li>
      * </ul>
      * </p>
      *
      * @param expectedType the {@link Class} object representing the expected superclass or interface that the generic type must be assignable to.
      *                     For example, this could be {@code Command.class} or {@code Query.class}.
      * @param position     the position of the generic type argument to check. The first generic type argument is at position 1.
-     * @return an {@link ArchCondition} that can be used to check whether a class's first generic type argument is assignable to the given expected type.
+     * @return an {@link ArchCondition} that can be used to check whether a class's generic type argument is assignable to the given expected type.
      * If the class does not have a type parameter that is assignable to the expected type, the condition will result in a violation.
      */
     static ArchCondition<JavaClass> haveGenericTypeAssignableTo(final Class<?> expectedType,
@@ -193,28 +226,53 @@ public class InputPortChecker {
 
             @Override
             public void check(JavaClass item, ConditionEvents events) {
-                item.getInterfaces().stream()
-                    .filter(JavaParameterizedType.class::isInstance)
-                    .map(JavaParameterizedType.class::cast)
-                    .forEach(paramType -> {
-                        // Extract the generic type argument in the specified position,
-                        // and check if it's assignable to the expected type
-                        if (position <= paramType.getActualTypeArguments().size()) {
-                            final JavaClass genericType = paramType.getActualTypeArguments().get(position - 1)
-                                .toErasure();
-                            if (!genericType.isAssignableTo(expectedType)) {
-                                // If the type is not assignable, register a violation event
-                                final String message = String.format(
-                                    "Class %s has a generic type %s at position %d that is not assignable to %s",
-                                    item.getName(), genericType.getSimpleName(), position,
-                                    expectedType.getSimpleName());
-                                events.add(SimpleConditionEvent.violated(item, message));
-                            }
-                        }
-                    });
+                GenericTypeIndex.supertypeArguments(item).values()
+                    .forEach(typeArguments -> checkTypeArgument(item, typeArguments, expectedType, position, events));
+            }
+
+        };
+    }
+
+    /**
+     * Creates an {@link ArchCondition} that verifies if the type argument at the given position of a generic
+     * interface, as resolved for the class through intermediate generic types, is assignable to the expected type.
+     * <p>
+     * Classes that do not extend the generic interface with type arguments are not checked.
+     * </p>
+     *
+     * @param genericInterface the generic interface whose type argument is checked, such as {@code CommandHandler.class}
+     * @param expectedType     the type that the generic type argument must be assignable to
+     * @param position         the position of the generic type argument to check, starting at 1
+     * @return an {@link ArchCondition} checking the type argument of the generic interface
+     */
+    static ArchCondition<JavaClass> haveGenericTypeAssignableTo(final Class<?> genericInterface,
+        final Class<?> expectedType, final Integer position) {
+        return new ArchCondition<>("have a generic type of " + genericInterface.getSimpleName() + " assignable to "
+            + expectedType.getSimpleName()) {
+
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                checkTypeArgument(item, GenericTypeIndex.supertypeArguments(item, genericInterface), expectedType,
+                    position, events);
             }
 
         };
     }
 
+    private static void checkTypeArgument(final JavaClass item, final List<TypeArgument> typeArguments,
+        final Class<?> expectedType, final Integer position, final ConditionEvents events) {
+        // Extract the generic type argument in the specified position,
+        // and check if it's assignable to the expected type
+        if (position <= typeArguments.size()) {
+            final TypeArgument genericType = typeArguments.get(position - 1);
+            if (!genericType.isAssignableTo(expectedType)) {
+                // If the type is not assignable, register a violation event
+                final String message = String.format(
+                    "Class %s has a generic type %s at position %d that is not assignable to %s",
+                    item.getName(), genericType.simpleName(), position, expectedType.getSimpleName());
+                events.add(SimpleConditionEvent.violated(item, message));
+            }
+        }
+    }
+
 }
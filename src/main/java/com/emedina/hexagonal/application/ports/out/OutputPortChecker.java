@@ -6,8 +6,9 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
-import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
 import com.emedina.sharedkernel.application.annotation.Adapter;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.application.annotation.OutputPort;
@@ -29,6 +30,8 @@ import java.util.List;
  */
 public class OutputPortChecker {
 
+    static final String LAYER = "output-ports";
+
     private static HexagonalArchitectureProperties properties;
 
     public OutputPortChecker(final HexagonalArchitectureProperties properties) {
@@ -51,17 +54,39 @@ public class OutputPortChecker {
      */
     @ArchTest
     public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for the output ports, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for the output ports
+     * @throws IllegalStateException if the output ports FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
         if (properties == null) {
             throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
         }
 
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for the output ports of the hexagon described by the given properties, regardless of the
+     * properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for the output ports
+     * @throws IllegalStateException if the output ports FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
         final List<String> outputPortsPackage = properties.outputPorts().fqdns();
         if (outputPortsPackage == null || outputPortsPackage.isEmpty()) {
             throw new IllegalStateException("Output Ports FQDN is not configured in the properties");
         }
 
-        final List<String> allowedLibraries = getAllowedLibraries();
-        final String[] allowedPackages = getAllowedPackages(allowedLibraries);
+        final List<String> allowedLibraries = getAllowedLibraries(properties);
+        final String[] allowedPackages = getAllowedPackages(properties, allowedLibraries);
 
         // Rule 1: Allowed dependencies
         final ArchRule outputPortDependencyRule = classes()
@@ -91,11 +116,12 @@ public class OutputPortChecker {
             .that().resideInAnyPackage(outputPortsPackage.toArray(new String[0]))
             .should().beInterfaces();
 
-        // Apply and freeze the rules
-        FreezingArchRule.freeze(outputPortDependencyRule).check(javaClasses);
-        FreezingArchRule.freeze(mustHaveOutputPortAnnotationRule).check(javaClasses);
-        FreezingArchRule.freeze(forbiddenAnnotationsRule).check(javaClasses);
-        FreezingArchRule.freeze(mustBeInterfaceRule).check(javaClasses);
+        return List.of(
+            new LayerRule(LAYER, "outputPortDependencyRule", outputPortDependencyRule),
+            new LayerRule(LAYER, "mustHaveOutputPortAnnotationRule", mustHaveOutputPortAnnotationRule),
+            new LayerRule(LAYER, "forbiddenAnnotationsRule", forbiddenAnnotationsRule),
+            new LayerRule(LAYER, "mustBeInterfaceRule", mustBeInterfaceRule)
+        );
     }
 
     /**
@@ -104,28 +130,33 @@ public class OutputPortChecker {
      * This method combines the default allowed libraries with any custom libraries
      * specified in the properties.
      *
+     * @param properties the hexagonal architecture properties
      * @return a list of package names representing the allowed libraries
      */
-    static List<String> getAllowedLibraries() {
+    static List<String> getAllowedLibraries(final HexagonalArchitectureProperties properties) {
         final List<String> defaultLibraries = Arrays.asList(
             "java..", "javax..", "lombok..", "io.vavr..", "org.apache.commons.."
         );
         final List<String> customLibraries = properties.outputPorts().allowedLibraries();
+        final List<String> allowedLibraries = new ArrayList<>();
         if (customLibraries != null && !customLibraries.isEmpty()) {
-            customLibraries.addAll(defaultLibraries);
+            allowedLibraries.addAll(customLibraries);
+            allowedLibraries.addAll(defaultLibraries);
         }
 
-        return customLibraries;
+        return allowedLibraries;
     }
 
     /**
      * Generates an array of allowed package names for the output ports.
      * This method combines the allowed libraries with the output ports' own package.
      *
+     * @param properties       the hexagonal architecture properties
      * @param allowedLibraries the list of allowed library package names
      * @return an array of package names that the output ports are allowed to depend on
      */
-    static String[] getAllowedPackages(final List<String> allowedLibraries) {
+    static String[] getAllowedPackages(final HexagonalArchitectureProperties properties,
+        final List<String> allowedLibraries) {
         final List<String> allowedPackages = new ArrayList<>(allowedLibraries);
         allowedPackages.addAll(properties.outputPorts().fqdns());
 
@@ -5,16 +5,18 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
-import com.tngtech.archunit.core.domain.JavaModifier;
-import com.tngtech.archunit.core.domain.JavaParameterizedType;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
-import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import io.vavr.control.Validation;
+import com.emedina.hexagonal.application.Immutability;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.GenericTypeIndex.TypeArgument;
+import com.emedina.hexagonal.index.SignatureIndex;
 import com.emedina.sharedkernel.application.annotation.Adapter;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.application.annotation.OutputPort;
@@ -37,6 +39,8 @@ import java.util.List;
  */
 public class QueryChecker {
 
+    static final String LAYER = "query";
+
     private static HexagonalArchitectureProperties properties;
 
     public QueryChecker(final HexagonalArchitectureProperties properties) {
@@ -52,23 +56,46 @@ public class QueryChecker {
      * 3. Verifies that queries are always classes that implement Query.class.
      * 4. Ensures that queries always define a public static factory method named validateThenCreate.
      * 5. Checks that queries cannot be instantiated with the default constructor.
+     * 6. If enabled in the properties, ensures that queries are immutable.
      *
      * @param javaClasses the Java classes to check
      * @throws IllegalStateException if the queries FQDN is not configured in the properties
      */
     @ArchTest
     public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for queries, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for queries
+     * @throws IllegalStateException if the queries FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
         if (properties == null) {
             throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
         }
 
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for queries of the hexagon described by the given properties, regardless of the properties the
+     * checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for queries
+     * @throws IllegalStateException if the queries FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
         final List<String> queriesPackage = properties.query().fqdns();
         if (queriesPackage == null || queriesPackage.isEmpty()) {
             throw new IllegalStateException("Queries FQDN is not configured in the properties");
         }
 
-        final List<String> allowedLibraries = getAllowedLibraries();
-        final String[] allowedPackages = getAllowedPackages(allowedLibraries);
+        final List<String> allowedLibraries = getAllowedLibraries(properties);
+        final String[] allowedPackages = getAllowedPackages(properties, allowedLibraries);
 
         // Rule 1: Allowed dependencies
         final ArchRule queryDependencyRule = classes()
@@ -104,18 +131,30 @@ public class QueryChecker {
             .that().resideInAnyPackage(queriesPackage.toArray(new String[0]))
             .should(notHavePublicDefaultConstructor());
 
-        // Apply and freeze the rules
-        FreezingArchRule.freeze(queryDependencyRule).check(javaClasses);
-        FreezingArchRule.freeze(forbiddenAnnotationsRule).check(javaClasses);
-        FreezingArchRule.freeze(mustImplementQueryRule).check(javaClasses);
-        FreezingArchRule.freeze(mustHaveValidateThenCreateMethod).check(javaClasses);
-        FreezingArchRule.freeze(noDefaultConstructorRule).check(javaClasses);
+        final List<LayerRule> rules = new ArrayList<>(List.of(
+            new LayerRule(LAYER, "queryDependencyRule", queryDependencyRule),
+            new LayerRule(LAYER, "forbiddenAnnotationsRule", forbiddenAnnotationsRule),
+            new LayerRule(LAYER, "mustImplementQueryRule", mustImplementQueryRule),
+            new LayerRule(LAYER, "mustHaveValidateThenCreateMethod", mustHaveValidateThenCreateMethod),
+            new LayerRule(LAYER, "noDefaultConstructorRule", noDefaultConstructorRule)
+        ));
+
+        // Rule 6: Immutable queries, if enabled
+        if (properties.query().immutable()) {
+            final ArchRule immutabilityRule = classes()
+                .that().resideInAnyPackage(queriesPackage.toArray(new String[0]))
+                .should(Immutability.beImmutable("Query"));
+            rules.add(new LayerRule(LAYER, "immutabilityRule", immutabilityRule));
+        }
+
+        return List.copyOf(rules);
     }
 
     /**
      * Creates an ArchCondition that checks if a class has a valid validateThenCreate method.
      * The method should be public, static, named "validateThenCreate", and return a Validation
-     * where the success type is the class itself.
+     * where the success type is the class itself. The static methods of the class are looked up in the
+     * {@link SignatureIndex}, so a raw Validation is reported instead of failing the evaluation.
      *
      * @return an ArchCondition that can be used in ArchUnit rules to check for the validateThenCreate method.
      */
@@ -123,15 +162,11 @@ public class QueryChecker {
         return new ArchCondition<>("have validateThenCreate method") {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
-                boolean hasValidMethod = item.getMethods().stream()
+                boolean hasValidMethod = SignatureIndex.of(item).staticMethods("validateThenCreate").stream()
                     .anyMatch(method ->
-                        method.getName().equals("validateThenCreate") &&
-                            method.getModifiers().contains(JavaModifier.PUBLIC) &&
-                            method.getModifiers().contains(JavaModifier.STATIC) &&
-                            method.getRawReturnType().isAssignableTo(Validation.class) &&
-                            ((JavaParameterizedType) method.getReturnType()).getActualTypeArguments().size() == 2 &&
-                            ((JavaParameterizedType) method.getReturnType()).getActualTypeArguments().get(1).toErasure()
-                                .equals(item)
+                        method.isPublic() &&
+                            method.returnType().isAssignableTo(Validation.class) &&
+                            isValidationOf(method.returnTypeArguments(), item)
                     );
 
                 if (!hasValidMethod) {
@@ -142,8 +177,13 @@ public class QueryChecker {
         };
     }
 
+    private static boolean isValidationOf(final List<TypeArgument> typeArguments, final JavaClass item) {
+        return typeArguments.size() == 2 && typeArguments.get(1).name().equals(item.getName());
+    }
+
     /**
-     * Creates an ArchCondition that checks if a class does not have a public default constructor.
+     * Creates an ArchCondition that checks if a class does not have a public default constructor, as recorded in the
+     * {@link SignatureIndex}.
      *
      * @return an ArchCondition that can be used in ArchUnit rules to check for the absence of a public default constructor.
      */
@@ -151,13 +191,7 @@ public class QueryChecker {
         return new ArchCondition<>("not have public default constructor") {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
-                boolean hasPublicDefaultConstructor = item.getConstructors().stream()
-                    .anyMatch(constructor ->
-                        constructor.getParameters().isEmpty() &&
-                            constructor.getModifiers().contains(JavaModifier.PUBLIC)
-                    );
-
-                if (hasPublicDefaultConstructor) {
+                if (SignatureIndex.of(item).publicNoArgConstructor()) {
                     events.add(SimpleConditionEvent.violated(item,
                         "Query has a public default constructor"));
                 }
@@ -170,28 +204,33 @@ public class QueryChecker {
      * This method combines the default allowed libraries with any custom libraries
      * specified in the properties.
      *
+     * @param properties the hexagonal architecture properties
      * @return a list of package names representing the allowed libraries.
      */
-    static List<String> getAllowedLibraries() {
+    static List<String> getAllowedLibraries(final HexagonalArchitectureProperties properties) {
         final List<String> defaultLibraries = Arrays.asList(
             "java..", "javax..", "lombok..", "io.vavr..", "org.apache.commons.."
         );
         final List<String> customLibraries = properties.query().allowedLibraries();
+        final List<String> allowedLibraries = new ArrayList<>();
         if (customLibraries != null && !customLibraries.isEmpty()) {
-            customLibraries.addAll(defaultLibraries);
+            allowedLibraries.addAll(customLibraries);
+            allowedLibraries.addAll(defaultLibraries);
         }
 
-        return customLibraries;
+        return allowedLibraries;
     }
 
     /**
      * Generates an array of allowed package names for queries.
      * This method combines the allowed libraries with the queries' own package.
      *
+     * @param properties       the hexagonal architecture properties
      * @param allowedLibraries the list of allowed library package names.
      * @return an array of package names that the queries are allowed to depend on.
      */
-    static String[] getAllowedPackages(final List<String> allowedLibraries) {
+    static String[] getAllowedPackages(final HexagonalArchitectureProperties properties,
+        final List<String> allowedLibraries) {
         final List<String> allowedPackages = new ArrayList<>(allowedLibraries);
         allowedPackages.addAll(properties.query().fqdns());
 
@@ -0,0 +1,246 @@
+package com.emedina.hexagonal.concurrency;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.ConcurrencyProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.BytecodeIndex;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.domain.JavaStaticInitializer;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checker for constructs pinning the carrier thread of a virtual thread in Handlers and Adapters.
+ * <p>
+ * Handlers and the adapters they call through output ports run on virtual threads. A native frame pins the carrier
+ * thread of a virtual thread on every JDK, so {@code native} methods are always reported. Up to JDK 23, a virtual
+ * thread blocking inside a {@code synchronized} method or block, or in {@link Object#wait()}, pinned its carrier
+ * thread too; since JDK 24 it no longer does, so these monitors are only reported when
+ * {@code performance.concurrency.monitors} is enabled, for services still running on older JDKs or avoiding the
+ * contention of monitors shared by every request. Classes listed in {@code performance.concurrency.allowed-classes}
+ * are exempted, with their nested classes. A layer without classes is already reported by its own checker, so these
+ * rules allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class ConcurrencyChecker {
+
+    static final String HANDLER_LAYER = "handler";
+    static final String ADAPTERS_LAYER = "adapters";
+
+    private static final Set<List<String>> OBJECT_WAIT_PARAMETERS = Set.of(List.of(), List.of("long"),
+        List.of("long", "int"));
+
+    private static HexagonalArchitectureProperties properties;
+
+    public ConcurrencyChecker(final HexagonalArchitectureProperties properties) {
+        ConcurrencyChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for constructs pinning virtual threads.
+     * <p>
+     * This method performs the following checks on handlers and adapters:
+     * <ol>
+     * <li>Ensures that no method is declared {@code native}.</li>
+     * <li>Ensures that no method is declared {@code synchronized}, if monitors are reported.</li>
+     * <li>Ensures that no method contains a {@code synchronized} block, if monitors are reported.</li>
+     * <li>Ensures that no method calls {@link Object#wait()}, if monitors are reported.</li>
+     * </ol>
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if the handler or adapters FQDN is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for constructs pinning virtual threads, in the order they are checked by
+     * {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for handlers, then for adapters
+     * @throws IllegalStateException if the handler or adapters FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for constructs pinning virtual threads of the hexagon described by the given properties,
+     * regardless of the properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for handlers, then for adapters
+     * @throws IllegalStateException if the handler or adapters FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        final List<String> handlerPackages = properties.handler().fqdns();
+        if (handlerPackages == null || handlerPackages.isEmpty()) {
+            throw new IllegalStateException("Handler FQDN is not configured in the properties");
+        }
+        final List<String> adaptersPackages = properties.adapters().fqdns();
+        if (adaptersPackages == null || adaptersPackages.isEmpty()) {
+            throw new IllegalStateException("Adapters FQDN is not configured in the properties");
+        }
+
+        final ConcurrencyProperties concurrency = properties.performance().concurrency();
+        final List<LayerRule> rules = new ArrayList<>(layerRules(HANDLER_LAYER, handlerPackages, concurrency));
+        rules.addAll(layerRules(ADAPTERS_LAYER, adaptersPackages, concurrency));
+
+        return List.copyOf(rules);
+    }
+
+    private static List<LayerRule> layerRules(final String layer, final List<String> packages,
+        final ConcurrencyProperties concurrency) {
+        final String[] layerPackages = packages.toArray(new String[0]);
+        final List<String> allowedClasses = concurrency.allowedClasses();
+
+        // Rule 1: No native methods
+        final ArchRule nativeMethodRule = classes()
+            .that().resideInAnyPackage(layerPackages)
+            .and(notBeAllowed(allowedClasses))
+            .should(notDeclareMethodsWith(JavaModifier.NATIVE))
+            .allowEmptyShould(true);
+        if (!concurrency.monitors()) {
+            return List.of(new LayerRule(layer, "nativeMethodRule", nativeMethodRule));
+        }
+
+        // Rule 2: No synchronized methods
+        final ArchRule synchronizedMethodRule = classes()
+            .that().resideInAnyPackage(layerPackages)
+            .and(notBeAllowed(allowedClasses))
+            .should(notDeclareMethodsWith(JavaModifier.SYNCHRONIZED))
+            .allowEmptyShould(true);
+
+        // Rule 3: No synchronized blocks
+        final ArchRule synchronizedBlockRule = classes()
+            .that().resideInAnyPackage(layerPackages)
+            .and(notBeAllowed(allowedClasses))
+            .should(notEnterMonitors())
+            .allowEmptyShould(true);
+
+        // Rule 4: No Object.wait
+        final ArchRule objectWaitRule = classes()
+            .that().resideInAnyPackage(layerPackages)
+            .and(notBeAllowed(allowedClasses))
+            .should(notCallObjectWait())
+            .allowEmptyShould(true);
+
+        return List.of(
+            new LayerRule(layer, "nativeMethodRule", nativeMethodRule),
+            new LayerRule(layer, "synchronizedMethodRule", synchronizedMethodRule),
+            new LayerRule(layer, "synchronizedBlockRule", synchronizedBlockRule),
+            new LayerRule(layer, "objectWaitRule", objectWaitRule)
+        );
+    }
+
+    /**
+     * Creates a DescribedPredicate that excludes the allowed classes and their nested classes.
+     *
+     * @param allowedClasses the fully qualified names of the allowed classes
+     * @return a DescribedPredicate matching the classes that are not allowed to pin virtual threads
+     */
+    static DescribedPredicate<JavaClass> notBeAllowed(final List<String> allowedClasses) {
+        return new DescribedPredicate<>("are not allowed to pin virtual threads") {
+            @Override
+            public boolean test(JavaClass input) {
+                return allowedClasses.stream().noneMatch(allowed ->
+                    input.getName().equals(allowed) || input.getName().startsWith(allowed + "$"));
+            }
+        };
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class declares no method or constructor with the given modifier.
+     *
+     * @param modifier the forbidden modifier, like {@code synchronized} or {@code native}
+     * @return an ArchCondition that can be used in ArchUnit rules to check for the modifier
+     */
+    static ArchCondition<JavaClass> notDeclareMethodsWith(final JavaModifier modifier) {
+        final String keyword = modifier.name().toLowerCase();
+        final String consequence = modifier == JavaModifier.NATIVE
+            ? "its native frame pins the carrier thread of a virtual thread"
+            : "makes every caller contend for the monitor of its instance or class";
+        return new ArchCondition<>("not declare " + keyword + " methods") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getMethods().stream()
+                    .filter(method -> method.getModifiers().contains(modifier))
+                    .forEach(method -> events.add(SimpleConditionEvent.violated(item,
+                        String.format("Method %s is %s and %s", method.getFullName(), keyword, consequence))));
+            }
+        };
+    }
+
+    /**
+     * Creates an ArchCondition that checks that no method of a class contains a {@code synchronized} block, looking
+     * for {@code monitorenter} instructions in the {@link BytecodeIndex}.
+     *
+     * @return an ArchCondition that can be used in ArchUnit rules to check for synchronized blocks
+     */
+    static ArchCondition<JavaClass> notEnterMonitors() {
+        return new ArchCondition<>("not use synchronized blocks") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getCodeUnits().forEach(codeUnit -> BytecodeIndex.of(codeUnit)
+                    .filter(bytecode -> bytecode.monitorEnters() > 0)
+                    .ifPresent(bytecode -> events.add(SimpleConditionEvent.violated(item,
+                        String.format("%s contains %d synchronized block(s), whose callers contend for their "
+                            + "monitors", describe(codeUnit), bytecode.monitorEnters())))));
+            }
+        };
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class never calls {@link Object#wait()} or its timed variants.
+     *
+     * @return an ArchCondition that can be used in ArchUnit rules to check for calls to Object.wait
+     */
+    static ArchCondition<JavaClass> notCallObjectWait() {
+        return new ArchCondition<>("not call Object.wait") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getMethodCallsFromSelf().stream()
+                    .filter(ConcurrencyChecker::isObjectWait)
+                    .forEach(call -> events.add(SimpleConditionEvent.violated(item,
+                        String.format("%s calls Object.wait, which waits on a monitor the notifying thread must "
+                            + "contend for", call.getDescription()))));
+            }
+        };
+    }
+
+    private static boolean isObjectWait(final JavaMethodCall call) {
+        // Object.wait is final, so these signatures cannot belong to any other method
+        return "wait".equals(call.getName()) && OBJECT_WAIT_PARAMETERS.contains(
+            call.getTarget().getRawParameterTypes().stream().map(JavaClass::getName).toList());
+    }
+
+    private static String describe(final JavaCodeUnit codeUnit) {
+        return codeUnit instanceof JavaStaticInitializer ? "Static initializer of " + codeUnit.getOwner().getName()
+            : "Method " + codeUnit.getFullName();
+    }
+
+}
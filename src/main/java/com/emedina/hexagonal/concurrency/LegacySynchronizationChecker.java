@@ -0,0 +1,148 @@
+package com.emedina.hexagonal.concurrency;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.ApiCatalog;
+import com.emedina.hexagonal.index.SupertypeIndex;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+/**
+ * Checker for the legacy synchronized collections and {@link StringBuffer} in the core layers: Shared Kernel, Domain,
+ * Output Ports, Input Ports, Commands, Queries and Handlers.
+ * <p>
+ * {@link Vector}, {@link Hashtable}, {@link StringBuffer} and the wrappers of {@code Collections.synchronized*} take a
+ * lock on every call, a source of contention even when a single thread uses them. Any dependency on these types or
+ * their subtypes, like {@code Stack} or {@code Properties}, is reported, looked up in the {@link SupertypeIndex}, and
+ * so is any call to the wrapper factories. The rules follow the packages configured for every layer, like the rules
+ * on allowed libraries. A layer without classes is already reported by its own checker, so these rules allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class LegacySynchronizationChecker {
+
+    /**
+     * Types synchronizing every call, with their subtypes.
+     */
+    static final Set<String> LEGACY_SYNCHRONIZED_TYPES = Set.of(Vector.class.getName(), Hashtable.class.getName(),
+        StringBuffer.class.getName());
+
+    /**
+     * Factories of synchronized wrappers of collections.
+     */
+    static final ApiCatalog SYNCHRONIZED_WRAPPERS = new ApiCatalog(Map.of(Collections.class.getName(),
+        Set.of("synchronizedCollection", "synchronizedList", "synchronizedSet", "synchronizedSortedSet",
+            "synchronizedNavigableSet", "synchronizedMap", "synchronizedSortedMap", "synchronizedNavigableMap")));
+
+    private static final List<String> CORE_LAYERS = HexagonalArchitectureProperties.LAYERS.stream()
+        .filter(layer -> !"adapters".equals(layer))
+        .toList();
+
+    private static HexagonalArchitectureProperties properties;
+
+    public LegacySynchronizationChecker(final HexagonalArchitectureProperties properties) {
+        LegacySynchronizationChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for legacy synchronized collections in the core layers.
+     * <p>
+     * This method ensures that no class of the core layers depends on {@link Vector}, {@link Hashtable} or
+     * {@link StringBuffer}, or wraps a collection with {@code Collections.synchronized*}.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if the FQDN of a core layer is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for legacy synchronized collections in the core layers, in the order they are checked by
+     * {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules, one per core layer
+     * @throws IllegalStateException if the FQDN of a core layer is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for legacy synchronized collections in the core layers of the hexagon described by the given
+     * properties, regardless of the properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules, one per core layer
+     * @throws IllegalStateException if the FQDN of a core layer is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        return CORE_LAYERS.stream()
+            .map(layer -> layerRule(layer, properties.fqdns(layer)))
+            .toList();
+    }
+
+    private static LayerRule layerRule(final String layer, final List<String> packages) {
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException("FQDN of layer " + layer + " is not configured in the properties");
+        }
+
+        final ArchRule noLegacySynchronizationRule = classes()
+            .that().resideInAnyPackage(packages.toArray(new String[0]))
+            .should(notUseLegacySynchronization())
+            .allowEmptyShould(true);
+
+        return new LayerRule(layer, "noLegacySynchronizationRule", noLegacySynchronizationRule);
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class neither depends on a legacy synchronized type nor calls a
+     * factory of synchronized wrappers.
+     *
+     * @return an ArchCondition that can be used in ArchUnit rules to check for legacy synchronization
+     */
+    static ArchCondition<JavaClass> notUseLegacySynchronization() {
+        return new ArchCondition<>("not use legacy synchronized collections or StringBuffer") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getDirectDependenciesFromSelf().stream()
+                    .filter(dependency -> isLegacySynchronized(dependency.getTargetClass()))
+                    .forEach(dependency -> events.add(SimpleConditionEvent.violated(item,
+                        dependency.getDescription() + ", which synchronizes every call")));
+
+                item.getMethodCallsFromSelf().stream()
+                    .filter(SYNCHRONIZED_WRAPPERS::matches)
+                    .forEach(call -> events.add(SimpleConditionEvent.violated(item,
+                        call.getDescription() + ", which synchronizes every call to the collection")));
+            }
+        };
+    }
+
+    private static boolean isLegacySynchronized(final JavaClass javaClass) {
+        return LEGACY_SYNCHRONIZED_TYPES.contains(javaClass.getName())
+            || SupertypeIndex.of(javaClass).superclasses().stream().anyMatch(LEGACY_SYNCHRONIZED_TYPES::contains);
+    }
+
+}
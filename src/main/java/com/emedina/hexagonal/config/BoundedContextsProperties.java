@@ -0,0 +1,16 @@
+package com.emedina.hexagonal.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Configuration properties for a codebase hosting several bounded contexts, each one a hexagon with its own packages.
+ *
+ * @param contexts the properties of each bounded context, by context name
+ * @author Enrique Medina Montenegro
+ */
+@ConfigurationProperties(prefix = "hexagonal")
+public record BoundedContextsProperties(Map<String, HexagonalArchitectureProperties> contexts) {
+
+}
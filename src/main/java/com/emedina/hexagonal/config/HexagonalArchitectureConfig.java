@@ -9,6 +9,6 @@ import org.springframework.context.annotation.Configuration;
  * @author Enrique Medina Montenegro
  */
 @Configuration
-@EnableConfigurationProperties(HexagonalArchitectureProperties.class)
+@EnableConfigurationProperties({HexagonalArchitectureProperties.class, BoundedContextsProperties.class})
 public class HexagonalArchitectureConfig {
 }
@@ -1,6 +1,7 @@
 package com.emedina.hexagonal.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 import java.util.List;
 
@@ -15,13 +16,66 @@ import java.util.List;
  * @param query        the properties for the query
  * @param handler      the properties for the handler
  * @param adapters     the properties for the adapters
+ * @param performance  the properties for the performance rules, with their defaults if not configured
  * @author Enrique Medina Montenegro (em54029)
  */
 @ConfigurationProperties(prefix = "hexagonal.architecture")
 public record HexagonalArchitectureProperties(SharedKernelProperties sharedKernel, DomainProperties domain,
                                               OutputPortsProperties outputPorts, InputPortsProperties inputPorts,
                                               CommandProperties command, QueryProperties query,
-                                              HandlerProperties handler, AdapterProperties adapters) {
+                                              HandlerProperties handler, AdapterProperties adapters,
+                                              PerformanceProperties performance) {
+
+    /**
+     * Names of the layers, as used in the configuration and reported in the violations.
+     */
+    public static final List<String> LAYERS = List.of("shared-kernel", "domain", "output-ports", "input-ports",
+        "command", "query", "handler", "adapters");
+
+    @ConstructorBinding
+    public HexagonalArchitectureProperties {
+        performance = performance == null ? PerformanceProperties.defaults() : performance;
+    }
+
+    /**
+     * Creates the properties of the layers, with the default properties for the performance rules.
+     *
+     * @param sharedKernel the properties for the shared kernel
+     * @param domain       the properties for the domain
+     * @param outputPorts  the properties for the output ports
+     * @param inputPorts   the properties for the input ports
+     * @param command      the properties for the command
+     * @param query        the properties for the query
+     * @param handler      the properties for the handler
+     * @param adapters     the properties for the adapters
+     */
+    public HexagonalArchitectureProperties(final SharedKernelProperties sharedKernel, final DomainProperties domain,
+        final OutputPortsProperties outputPorts, final InputPortsProperties inputPorts,
+        final CommandProperties command, final QueryProperties query, final HandlerProperties handler,
+        final AdapterProperties adapters) {
+        this(sharedKernel, domain, outputPorts, inputPorts, command, query, handler, adapters, null);
+    }
+
+    /**
+     * Returns the configured packages of the given layer.
+     *
+     * @param layer the layer name, one of {@link #LAYERS}
+     * @return the package identifiers of the layer, {@code null} or empty if not configured
+     * @throws IllegalArgumentException if the layer is unknown
+     */
+    public List<String> fqdns(final String layer) {
+        return switch (layer) {
+            case "shared-kernel" -> this.sharedKernel.fqdns();
+            case "domain" -> this.domain.fqdns();
+            case "output-ports" -> this.outputPorts.fqdns();
+            case "input-ports" -> this.inputPorts.fqdns();
+            case "command" -> this.command.fqdns();
+            case "query" -> this.query.fqdns();
+            case "handler" -> this.handler.fqdns();
+            case "adapters" -> this.adapters.fqdns();
+            default -> throw new IllegalArgumentException("Unknown layer " + layer + ", expected one of " + LAYERS);
+        };
+    }
 
     /**
      * Configuration properties for the shared kernel.
@@ -64,8 +118,24 @@ public record HexagonalArchitectureProperties(SharedKernelProperties sharedKerne
      *
      * @param fqdns            the fully qualified domain name of the packages where the commands are located
      * @param allowedLibraries the allowed libraries for the command
+     * @param immutable        whether commands must be immutable, {@code false} by default
      */
-    public record CommandProperties(List<String> fqdns, List<String> allowedLibraries) {
+    public record CommandProperties(List<String> fqdns, List<String> allowedLibraries, boolean immutable) {
+
+        @ConstructorBinding
+        public CommandProperties {
+        }
+
+        /**
+         * Creates the properties for the command, without enforcing immutability.
+         *
+         * @param fqdns            the fully qualified domain name of the packages where the commands are located
+         * @param allowedLibraries the allowed libraries for the command
+         */
+        public CommandProperties(final List<String> fqdns, final List<String> allowedLibraries) {
+            this(fqdns, allowedLibraries, false);
+        }
+
     }
 
     /**
@@ -73,8 +143,24 @@ public record HexagonalArchitectureProperties(SharedKernelProperties sharedKerne
      *
      * @param fqdns            the fully qualified domain name of the packages where the queries are located
      * @param allowedLibraries the allowed libraries for the query
+     * @param immutable        whether queries must be immutable, {@code false} by default
      */
-    public record QueryProperties(List<String> fqdns, List<String> allowedLibraries) {
+    public record QueryProperties(List<String> fqdns, List<String> allowedLibraries, boolean immutable) {
+
+        @ConstructorBinding
+        public QueryProperties {
+        }
+
+        /**
+         * Creates the properties for the query, without enforcing immutability.
+         *
+         * @param fqdns            the fully qualified domain name of the packages where the queries are located
+         * @param allowedLibraries the allowed libraries for the query
+         */
+        public QueryProperties(final List<String> fqdns, final List<String> allowedLibraries) {
+            this(fqdns, allowedLibraries, false);
+        }
+
     }
 
     /**
@@ -94,4 +180,278 @@ public record HexagonalArchitectureProperties(SharedKernelProperties sharedKerne
     public record AdapterProperties(List<String> fqdns) {
     }
 
+    /**
+     * Configuration properties for the performance rules, which go beyond the dependencies between layers.
+     * <p>
+     * Start from {@link #defaults()} and override the properties of single rules with the {@code with} methods, so
+     * that the properties of new rules do not change existing callers.
+     *
+     * @param concurrency  the properties for the rules on constructs pinning virtual threads
+     * @param reflection   the properties for the rules on reflection and dynamic proxies
+     * @param methodSize   the properties for the rules on the bytecode size of methods
+     * @param exceptions   the properties for the rules on exceptions used as control flow
+     * @param boxing       the properties for the rules on boxed primitives
+     * @param valueClasses the properties for the rules on the readiness of value objects for value classes
+     */
+    public record PerformanceProperties(ConcurrencyProperties concurrency, ReflectionProperties reflection,
+                                        MethodSizeProperties methodSize, ExceptionsProperties exceptions,
+                                        BoxingProperties boxing, ValueClassesProperties valueClasses) {
+
+        public PerformanceProperties {
+            concurrency = concurrency == null ? ConcurrencyProperties.defaults() : concurrency;
+            reflection = reflection == null ? ReflectionProperties.defaults() : reflection;
+            methodSize = methodSize == null ? MethodSizeProperties.defaults() : methodSize;
+            exceptions = exceptions == null ? ExceptionsProperties.defaults() : exceptions;
+            boxing = boxing == null ? BoxingProperties.defaults() : boxing;
+            valueClasses = valueClasses == null ? ValueClassesProperties.defaults() : valueClasses;
+        }
+
+        /**
+         * Returns the default properties of every performance rule.
+         *
+         * @return the default performance properties
+         */
+        public static PerformanceProperties defaults() {
+            return new PerformanceProperties(null, null, null, null, null, null);
+        }
+
+        /**
+         * Returns a copy of these properties with the given properties for the concurrency rules.
+         *
+         * @param concurrency the properties for the rules on constructs pinning virtual threads
+         * @return the performance properties with the given concurrency properties
+         */
+        public PerformanceProperties withConcurrency(final ConcurrencyProperties concurrency) {
+            return new PerformanceProperties(concurrency, reflection, methodSize, exceptions, boxing, valueClasses);
+        }
+
+        /**
+         * Returns a copy of these properties with the given properties for the reflection rules.
+         *
+         * @param reflection the properties for the rules on reflection and dynamic proxies
+         * @return the performance properties with the given reflection properties
+         */
+        public PerformanceProperties withReflection(final ReflectionProperties reflection) {
+            return new PerformanceProperties(concurrency, reflection, methodSize, exceptions, boxing, valueClasses);
+        }
+
+        /**
+         * Returns a copy of these properties with the given properties for the method size rules.
+         *
+         * @param methodSize the properties for the rules on the bytecode size of methods
+         * @return the performance properties with the given method size properties
+         */
+        public PerformanceProperties withMethodSize(final MethodSizeProperties methodSize) {
+            return new PerformanceProperties(concurrency, reflection, methodSize, exceptions, boxing, valueClasses);
+        }
+
+        /**
+         * Returns a copy of these properties with the given properties for the exception flow rules.
+         *
+         * @param exceptions the properties for the rules on exceptions used as control flow
+         * @return the performance properties with the given exceptions properties
+         */
+        public PerformanceProperties withExceptions(final ExceptionsProperties exceptions) {
+            return new PerformanceProperties(concurrency, reflection, methodSize, exceptions, boxing, valueClasses);
+        }
+
+        /**
+         * Returns a copy of these properties with the given properties for the boxing rules.
+         *
+         * @param boxing the properties for the rules on boxed primitives
+         * @return the performance properties with the given boxing properties
+         */
+        public PerformanceProperties withBoxing(final BoxingProperties boxing) {
+            return new PerformanceProperties(concurrency, reflection, methodSize, exceptions, boxing, valueClasses);
+        }
+
+        /**
+         * Returns a copy of these properties with the given properties for the value class rules.
+         *
+         * @param valueClasses the properties for the rules on the readiness of value objects for value classes
+         * @return the performance properties with the given value classes properties
+         */
+        public PerformanceProperties withValueClasses(final ValueClassesProperties valueClasses) {
+            return new PerformanceProperties(concurrency, reflection, methodSize, exceptions, boxing, valueClasses);
+        }
+
+    }
+
+    /**
+     * Configuration properties for the rules on constructs pinning virtual threads in handlers and adapters.
+     *
+     * @param allowedClasses the fully qualified names of the classes allowed to use such constructs, with their
+     *                       nested classes
+     * @param monitors       whether {@code synchronized} methods and blocks and calls to {@code Object.wait} are
+     *                       reported, {@code false} by default since they no longer pin virtual threads from JDK 24
+     */
+    public record ConcurrencyProperties(List<String> allowedClasses, Boolean monitors) {
+
+        @ConstructorBinding
+        public ConcurrencyProperties {
+            allowedClasses = allowedClasses == null ? List.of() : List.copyOf(allowedClasses);
+            monitors = monitors != null && monitors;
+        }
+
+        /**
+         * Creates the properties of the concurrency rules, without reporting monitors.
+         *
+         * @param allowedClasses the fully qualified names of the classes allowed to use such constructs, with their
+         *                       nested classes
+         */
+        public ConcurrencyProperties(final List<String> allowedClasses) {
+            this(allowedClasses, null);
+        }
+
+        /**
+         * Returns the default properties of the concurrency rules.
+         *
+         * @return the default concurrency properties
+         */
+        public static ConcurrencyProperties defaults() {
+            return new ConcurrencyProperties(null, null);
+        }
+
+    }
+
+    /**
+     * Configuration properties for the rules on reflection and dynamic proxies.
+     *
+     * @param layers the layers whose classes must not use reflection, by default the domain, commands, queries and
+     *               handlers
+     */
+    public record ReflectionProperties(List<String> layers) {
+
+        public ReflectionProperties {
+            layers = layers == null ? List.of("domain", "command", "query", "handler") : List.copyOf(layers);
+        }
+
+        /**
+         * Returns the default properties of the reflection rules.
+         *
+         * @return the default reflection properties
+         */
+        public static ReflectionProperties defaults() {
+            return new ReflectionProperties(null);
+        }
+
+    }
+
+    /**
+     * Configuration properties for the rules on the bytecode size of methods, against the thresholds of the HotSpot
+     * JIT compiler.
+     *
+     * @param layers          the layers whose methods are checked, by default the handlers, domain and adapters
+     * @param hotInlineLimit  the size in bytes above which a hot method is not inlined, by default 325 as
+     *                        {@code -XX:FreqInlineSize}
+     * @param hugeMethodLimit the size in bytes above which a method is not compiled at all, by default 8000 as
+     *                        {@code -XX:HugeMethodLimit}
+     */
+    public record MethodSizeProperties(List<String> layers, Integer hotInlineLimit, Integer hugeMethodLimit) {
+
+        public MethodSizeProperties {
+            layers = layers == null ? List.of("handler", "domain", "adapters") : List.copyOf(layers);
+            hotInlineLimit = hotInlineLimit == null ? 325 : hotInlineLimit;
+            hugeMethodLimit = hugeMethodLimit == null ? 8000 : hugeMethodLimit;
+        }
+
+        /**
+         * Returns the default properties of the method size rules.
+         *
+         * @return the default method size properties
+         */
+        public static MethodSizeProperties defaults() {
+            return new MethodSizeProperties(null, null, null);
+        }
+
+    }
+
+    /**
+     * Configuration properties for the rules on exceptions used as control flow in validateThenCreate methods and
+     * handlers.
+     *
+     * @param allowedExceptions the fully qualified names of the exception types allowed to be created and thrown, with
+     *                          their subclasses
+     */
+    public record ExceptionsProperties(List<String> allowedExceptions) {
+
+        public ExceptionsProperties {
+            allowedExceptions = allowedExceptions == null ? List.of() : List.copyOf(allowedExceptions);
+        }
+
+        /**
+         * Returns the default properties of the exception flow rules.
+         *
+         * @return the default exception flow properties
+         */
+        public static ExceptionsProperties defaults() {
+            return new ExceptionsProperties(null);
+        }
+
+    }
+
+    /**
+     * Configuration properties for the rules on boxed primitives in the fields of the domain, commands and queries.
+     *
+     * @param mode     whether boxed fields above the maximum score only log a warning, by default, or fail the rules
+     * @param maxScore the highest boxing score a class can have before failing the rules, by default 0
+     */
+    public record BoxingProperties(BoxingMode mode, Integer maxScore) {
+
+        public BoxingProperties {
+            mode = mode == null ? BoxingMode.WARN : mode;
+            maxScore = maxScore == null ? 0 : maxScore;
+        }
+
+        /**
+         * Returns the default properties of the boxing rules.
+         *
+         * @return the default boxing properties
+         */
+        public static BoxingProperties defaults() {
+            return new BoxingProperties(null, null);
+        }
+
+    }
+
+    /**
+     * How boxed primitives are reported.
+     */
+    public enum BoxingMode {
+
+        /**
+         * Classes scoring above the maximum are logged as warnings, without failing any rule.
+         */
+        WARN,
+
+        /**
+         * Classes scoring above the maximum fail the rules.
+         */
+        FAIL
+
+    }
+
+    /**
+     * Configuration properties for the rules on the readiness of value objects and identities for value classes.
+     *
+     * @param enforce whether value objects and identities that are not ready fail the rules, {@code false} by
+     *                default to only report their readiness
+     */
+    public record ValueClassesProperties(Boolean enforce) {
+
+        public ValueClassesProperties {
+            enforce = enforce != null && enforce;
+        }
+
+        /**
+         * Returns the default properties of the value class rules.
+         *
+         * @return the default value class properties
+         */
+        public static ValueClassesProperties defaults() {
+            return new ValueClassesProperties(null);
+        }
+
+    }
+
 }
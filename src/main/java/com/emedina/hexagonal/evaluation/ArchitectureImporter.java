@@ -0,0 +1,69 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.emedina.hexagonal.jfr.HexagonalImportEvent;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.Location;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the Java classes to check, emitting a {@link HexagonalImportEvent} around the import.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class ArchitectureImporter {
+
+    private ArchitectureImporter() {
+    }
+
+    /**
+     * Imports all classes of the given packages found on the classpath.
+     *
+     * @param packages the packages to import
+     * @return the imported Java classes
+     */
+    public static JavaClasses importPackages(final String... packages) {
+        return monitor(String.join(",", packages), () -> new ClassFileImporter().importPackages(packages));
+    }
+
+    /**
+     * Imports all classes found under the given paths (directories or JAR files).
+     *
+     * @param paths the paths to import
+     * @return the imported Java classes
+     */
+    public static JavaClasses importPaths(final Path... paths) {
+        return monitor(Arrays.stream(paths).map(Path::toString).collect(Collectors.joining(",")),
+            () -> new ClassFileImporter().importLocations(Arrays.stream(paths).map(ArchitectureImporter::location)
+                .toList()));
+    }
+
+    private static Location location(final Path path) {
+        // ArchUnit treats every file path as a class file location, so JAR files need an explicit jar URI
+        return path.getFileName().toString().endsWith(".jar")
+            ? Location.of(URI.create("jar:" + path.toUri() + "!/"))
+            : Location.of(path);
+    }
+
+    private static JavaClasses monitor(final String locations, final Supplier<JavaClasses> importer) {
+        final HexagonalImportEvent event = new HexagonalImportEvent();
+        event.begin();
+
+        final JavaClasses javaClasses = importer.get();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.locations = locations;
+            event.classCount = javaClasses.size();
+            event.commit();
+        }
+
+        return javaClasses;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.emedina.hexagonal.evaluation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The aggregated result of evaluating the rules of every layer.
+ *
+ * @param ruleCount  the number of evaluated rules
+ * @param violations the violations of all rules, in evaluation order
+ * @param complete   whether every rule has been evaluated against all classes, {@code false} if the
+ *                   {@link EvaluationMode} stopped the evaluation early and further violations may exist
+ * @author Enrique Medina Montenegro
+ */
+public record ArchitectureReport(int ruleCount, List<Violation> violations, boolean complete) {
+
+    public ArchitectureReport {
+        violations = List.copyOf(violations);
+    }
+
+    /**
+     * Tells whether any rule has been violated.
+     *
+     * @return {@code true} if there is at least one violation
+     */
+    public boolean hasViolations() {
+        return !this.violations.isEmpty();
+    }
+
+    /**
+     * Returns the violations of the rules of one layer.
+     *
+     * @param layer the layer, like {@code domain} or {@code handler}
+     * @return the violations of the layer, in evaluation order
+     */
+    public List<Violation> violationsOf(final String layer) {
+        return this.violations.stream().filter(violation -> violation.layer().equals(layer)).toList();
+    }
+
+    /**
+     * Fails with every violation of every rule, grouped by rule.
+     *
+     * @throws AssertionError if any rule has been violated
+     */
+    public void assertNoViolations() {
+        if (!hasViolations()) {
+            return;
+        }
+
+        final Map<String, List<String>> messagesByRule = this.violations.stream()
+            .collect(Collectors.groupingBy(violation -> violation.layer() + "." + violation.rule(),
+                LinkedHashMap::new, Collectors.mapping(Violation::message, Collectors.toList())));
+        final StringBuilder report = new StringBuilder()
+            .append(this.violations.size()).append(" violation(s) in ").append(messagesByRule.size())
+            .append(" of ").append(this.ruleCount).append(" rule(s):");
+        messagesByRule.forEach((rule, messages) -> {
+            report.append(System.lineSeparator()).append(System.lineSeparator()).append(rule);
+            messages.forEach(message -> report.append(System.lineSeparator()).append("  ").append(message));
+        });
+
+        throw new AssertionError(report.toString());
+    }
+
+}
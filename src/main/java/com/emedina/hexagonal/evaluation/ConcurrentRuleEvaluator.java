@@ -0,0 +1,136 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Evaluates rules concurrently, overlapping the CPU-bound evaluation of the rules with the I/O of freezing and
+ * reporting their violations.
+ * <p>
+ * Rules are evaluated on a bounded pool of platform threads, one rule per thread. Every rule freezes into a single
+ * {@link SharedViolationStore}, whose writes run on virtual threads, and the violations are passed to the consumer
+ * from a virtual thread as well, in the declared order of the rules, while later rules are still being evaluated. All
+ * threads are owned by the evaluation: when it returns or fails, pending rules are cancelled and every started task
+ * has completed. In capped modes, rules already being evaluated are interrupted and stop before their next partition
+ * of classes, so a fail-fast evaluation returns soon after its first failing rule; in full mode, they run to the
+ * end.
+ * <p>
+ * The reported violations are the same as those of {@link RuleEvaluator}, in the same order. The
+ * {@link RuleCostModel} does not apply, since every rule is started as soon as a thread is free.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class ConcurrentRuleEvaluator {
+
+    private ConcurrentRuleEvaluator() {
+    }
+
+    /**
+     * Evaluates the given rules concurrently without failing, collecting their violations up to the limits of the
+     * mode.
+     *
+     * @param layerRules  the rules to evaluate
+     * @param javaClasses the Java classes to evaluate the rules against
+     * @param mode        how far the evaluation goes once violations are found
+     * @param parallelism the number of rules evaluated at the same time
+     * @return the report with the violations not present in the freeze store
+     */
+    public static ArchitectureReport evaluateAll(final List<LayerRule> layerRules, final JavaClasses javaClasses,
+        final EvaluationMode mode, final int parallelism) {
+        final List<Violation> violations = new ArrayList<>();
+        final boolean complete = evaluateAll(layerRules, javaClasses, mode, parallelism, violations::add);
+
+        return new ArchitectureReport(layerRules.size(), violations, complete);
+    }
+
+    /**
+     * Evaluates the given rules concurrently without failing, passing the violations to the consumer in the declared
+     * order of the rules, up to the limits of the mode.
+     * <p>
+     * The consumer is called from a single virtual thread, so it may block on I/O without holding back the evaluation
+     * of the rules.
+     *
+     * @param layerRules  the rules to evaluate
+     * @param javaClasses the Java classes to evaluate the rules against
+     * @param mode        how far the evaluation goes once violations are found
+     * @param parallelism the number of rules evaluated at the same time
+     * @param violations  the consumer of the violations not present in the freeze store
+     * @return {@code true} if every rule has been evaluated against all classes, {@code false} if the mode stopped
+     * the evaluation early and further violations may exist
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public static boolean evaluateAll(final List<LayerRule> layerRules, final JavaClasses javaClasses,
+        final EvaluationMode mode, final int parallelism, final Consumer<Violation> violations) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+
+        try (ExecutorService io = Executors.newVirtualThreadPerTaskExecutor()) {
+            final SharedViolationStore store = new SharedViolationStore(
+                MonitoredViolationStore.createConfiguredStore(), io);
+
+            final boolean complete;
+            try (ExecutorService evaluation = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("hexagonal-rule-", 0).daemon(true).factory())) {
+                final List<Future<List<String>>> results = layerRules.stream()
+                    .map(layerRule -> evaluation.submit(() ->
+                        RuleEvaluator.violationsOf(layerRule, javaClasses, mode, store)))
+                    .toList();
+
+                try {
+                    complete = await(io.submit(() -> report(layerRules, results, mode, violations)));
+                } finally {
+                    // Interrupts the rules being evaluated, which stop at their next partition in capped modes
+                    results.forEach(result -> result.cancel(true));
+                }
+            }
+            store.awaitSaves();
+
+            return complete;
+        }
+    }
+
+    private static boolean report(final List<LayerRule> layerRules, final List<Future<List<String>>> results,
+        final EvaluationMode mode, final Consumer<Violation> violations) {
+        boolean complete = true;
+        for (int i = 0; i < layerRules.size(); i++) {
+            final LayerRule layerRule = layerRules.get(i);
+            final List<String> details = await(results.get(i));
+            details.forEach(detail -> violations.accept(new Violation(layerRule.layer(), layerRule.name(), detail)));
+
+            if (details.size() >= mode.violationCap()) {
+                complete = false;
+            }
+            if (!details.isEmpty() && mode.stopAtFirstFailingRule()) {
+                return false;
+            }
+        }
+
+        return complete;
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Rule evaluation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating rules", e);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.emedina.hexagonal.evaluation;
+
+/**
+ * How far the evaluation of the rules goes once violations are found.
+ * <p>
+ * In {@link #FULL full} mode, every rule is evaluated against all classes and the freeze store is updated as usual.
+ * A capped mode stops evaluating a rule as soon as it reached its violation cap, and only reads the freeze store,
+ * since a partial evaluation cannot tell which frozen violations have been solved. Rules that check no class at all
+ * are not reported in capped modes.
+ *
+ * @param violationCap           the maximum number of violations reported per rule
+ * @param stopAtFirstFailingRule whether the evaluation of the remaining rules is skipped after a rule with violations
+ * @author Enrique Medina Montenegro
+ */
+public record EvaluationMode(int violationCap, boolean stopAtFirstFailingRule) {
+
+    /**
+     * Evaluates every rule against all classes and reports all violations.
+     */
+    public static final EvaluationMode FULL = new EvaluationMode(Integer.MAX_VALUE, false);
+
+    public EvaluationMode {
+        if (violationCap < 1) {
+            throw new IllegalArgumentException("The violation cap must be at least 1");
+        }
+    }
+
+    /**
+     * Stops at the first violation found, answering only whether the architecture is broken.
+     *
+     * @return the fail-fast mode
+     */
+    public static EvaluationMode failFast() {
+        return new EvaluationMode(1, true);
+    }
+
+    /**
+     * Evaluates every rule, reporting at most the given number of violations per rule.
+     *
+     * @param violationCap the maximum number of violations reported per rule
+     * @return the capped mode
+     */
+    public static EvaluationMode cappedAt(final int violationCap) {
+        return new EvaluationMode(violationCap, false);
+    }
+
+    /**
+     * Tells whether rules stop being evaluated once they reach the violation cap.
+     *
+     * @return {@code true} if the violations per rule are capped
+     */
+    public boolean isCapped() {
+        return this.violationCap != Integer.MAX_VALUE;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.tngtech.archunit.lang.ArchRule;
+
+/**
+ * A named architecture rule belonging to one layer of the hexagonal architecture.
+ *
+ * @param layer the layer the rule belongs to, as named in the configuration (e.g. {@code command})
+ * @param name  the name of the rule within its checker
+ * @param rule  the ArchUnit rule to evaluate
+ * @author Enrique Medina Montenegro
+ */
+public record LayerRule(String layer, String name, ArchRule rule) {
+
+}
@@ -0,0 +1,122 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.emedina.hexagonal.jfr.HexagonalFreezeEvent;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.freeze.TextFileBasedViolationStore;
+import com.tngtech.archunit.library.freeze.ViolationStore;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * {@link ViolationStore} decorator emitting a {@link HexagonalFreezeEvent} around every store operation.
+ * <p>
+ * The decorated store is created the same way ArchUnit does for {@code FreezingArchRule.freeze(..)}: the
+ * class configured through the {@code freeze.store} property, or a {@link TextFileBasedViolationStore} otherwise.
+ * A read-only store never saves, for evaluations that do not see all classes.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class MonitoredViolationStore implements ViolationStore {
+
+    private static final String FREEZE_STORE_PROPERTY = "freeze.store";
+
+    private final LayerRule layerRule;
+    private final ViolationStore delegate;
+    private final boolean readOnly;
+
+    MonitoredViolationStore(final LayerRule layerRule) {
+        this(layerRule, false);
+    }
+
+    MonitoredViolationStore(final LayerRule layerRule, final boolean readOnly) {
+        this(layerRule, createConfiguredStore(), readOnly);
+    }
+
+    MonitoredViolationStore(final LayerRule layerRule, final ViolationStore delegate) {
+        this(layerRule, delegate, false);
+    }
+
+    MonitoredViolationStore(final LayerRule layerRule, final ViolationStore delegate, final boolean readOnly) {
+        this.layerRule = layerRule;
+        this.delegate = delegate;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public void initialize(final Properties properties) {
+        final HexagonalFreezeEvent event = begin("initialize");
+        this.delegate.initialize(properties);
+        commit(event, 0);
+    }
+
+    @Override
+    public boolean contains(final ArchRule rule) {
+        final HexagonalFreezeEvent event = begin("contains");
+        final boolean contained = this.delegate.contains(rule);
+        commit(event, 0);
+
+        return contained;
+    }
+
+    @Override
+    public void save(final ArchRule rule, final List<String> violations) {
+        if (this.readOnly) {
+            return;
+        }
+        final HexagonalFreezeEvent event = begin("save");
+        this.delegate.save(rule, violations);
+        commit(event, violations.size());
+    }
+
+    @Override
+    public List<String> getViolations(final ArchRule rule) {
+        final HexagonalFreezeEvent event = begin("read");
+        final List<String> violations = this.delegate.getViolations(rule);
+        commit(event, violations.size());
+
+        return violations;
+    }
+
+    private HexagonalFreezeEvent begin(final String operation) {
+        final HexagonalFreezeEvent event = new HexagonalFreezeEvent();
+        event.operation = operation;
+        event.begin();
+
+        return event;
+    }
+
+    private void commit(final HexagonalFreezeEvent event, final int violationCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.layer = this.layerRule.layer();
+            event.rule = this.layerRule.name();
+            event.violationCount = violationCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Creates the violation store configured for ArchUnit's freezing rules.
+     *
+     * @return the configured violation store
+     * @throws IllegalStateException if the configured store class cannot be instantiated
+     */
+    static ViolationStore createConfiguredStore() {
+        final ArchConfiguration configuration = ArchConfiguration.get();
+        if (!configuration.containsProperty(FREEZE_STORE_PROPERTY)) {
+            return new TextFileBasedViolationStore();
+        }
+
+        final String storeClassName = configuration.getProperty(FREEZE_STORE_PROPERTY);
+        try {
+            return (ViolationStore) Class.forName(storeClassName).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException(
+                String.format("Could not instantiate violation store of configured type '%s=%s'",
+                    FREEZE_STORE_PROPERTY, storeClassName), e);
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@link ArchRule} decorator evaluating the rule over partitions of the classes in parallel on a fork/join pool.
+ * <p>
+ * Each partition is evaluated on its own and the results are merged in partition order, so the violations are the
+ * same, in the same order, as those of a single evaluation. This only holds for rules whose predicates and conditions
+ * look at one class at a time, without state across classes: every rule of the checkers is built that way, and their
+ * custom conditions only implement {@code check}, never {@code init} or {@code finish}.
+ * <p>
+ * Partitioning is disabled unless the {@code hexagonal.partitions.parallelism} ArchUnit property is greater than 1.
+ * Codebases with no more classes than {@code hexagonal.partitions.size} (2048 by default) are evaluated in a single
+ * partition.
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class PartitionedArchRule implements ArchRule {
+
+    static final String PARALLELISM_PROPERTY = "hexagonal.partitions.parallelism";
+    static final String PARTITION_SIZE_PROPERTY = "hexagonal.partitions.size";
+    static final int DEFAULT_PARTITION_SIZE = 2048;
+
+    /**
+     * Start of the message of the error ArchUnit raises when a rule not allowing empty should checks no class.
+     */
+    private static final String EMPTY_SHOULD_MESSAGE = "Rule '%s' failed to check any classes.";
+
+    private final ArchRule delegate;
+    private final int parallelism;
+    private final int partitionSize;
+
+    PartitionedArchRule(final ArchRule delegate, final int parallelism, final int partitionSize) {
+        this.delegate = delegate;
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * Partitions the given rule as configured through the ArchUnit properties.
+     *
+     * @param rule the rule to partition
+     * @return the partitioned rule, or the given rule if partitioning is disabled
+     */
+    static ArchRule configured(final ArchRule rule) {
+        final ArchConfiguration configuration = ArchConfiguration.get();
+        final int parallelism = Integer.parseInt(configuration.getPropertyOrDefault(PARALLELISM_PROPERTY, "1"));
+        if (parallelism <= 1) {
+            return rule;
+        }
+
+        return new PartitionedArchRule(rule, parallelism, Integer.parseInt(
+            configuration.getPropertyOrDefault(PARTITION_SIZE_PROPERTY, String.valueOf(DEFAULT_PARTITION_SIZE))));
+    }
+
+    @Override
+    public void check(final JavaClasses classes) {
+        Assertions.assertNoViolation(evaluate(classes));
+    }
+
+    @Override
+    public ArchRule because(final String reason) {
+        return new PartitionedArchRule(this.delegate.because(reason), this.parallelism, this.partitionSize);
+    }
+
+    @Override
+    public ArchRule allowEmptyShould(final boolean allowEmptyShould) {
+        return new PartitionedArchRule(this.delegate.allowEmptyShould(allowEmptyShould), this.parallelism,
+            this.partitionSize);
+    }
+
+    @Override
+    public ArchRule as(final String newDescription) {
+        return new PartitionedArchRule(this.delegate.as(newDescription), this.parallelism, this.partitionSize);
+    }
+
+    @Override
+    public String getDescription() {
+        return this.delegate.getDescription();
+    }
+
+    /**
+     * Evaluates the rule over every partition in parallel.
+     *
+     * @param classes the Java classes to evaluate the rule against
+     * @return the merged result of all partitions
+     * @throws AssertionError if the rule fails to check any class in every partition and empty rules are not allowed,
+     *                        or if evaluating the rule fails on any partition
+     */
+    @Override
+    public EvaluationResult evaluate(final JavaClasses classes) {
+        if (classes.size() <= this.partitionSize) {
+            return this.delegate.evaluate(classes);
+        }
+
+        final List<JavaClass> ordered = classes.stream().toList();
+        final EvaluationResult result;
+        try (ForkJoinPool pool = new ForkJoinPool(this.parallelism)) {
+            result = pool.invoke(new PartitionTask(classes, ordered, 0, ordered.size()));
+        }
+        if (result == null) {
+            // No partition contained a class to check, so the whole codebase does not either
+            return this.delegate.evaluate(classes.that(DescribedPredicate.alwaysFalse()));
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return this.delegate.toString();
+    }
+
+    /**
+     * Evaluates a range of classes, splitting it in halves down to the partition size.
+     */
+    private final class PartitionTask extends RecursiveTask<EvaluationResult> {
+
+        private final JavaClasses classes;
+        private final List<JavaClass> ordered;
+        private final int from;
+        private final int to;
+
+        private PartitionTask(final JavaClasses classes, final List<JavaClass> ordered, final int from,
+            final int to) {
+            this.classes = classes;
+            this.ordered = ordered;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * @return the result of the range, or {@code null} if the rule found no class to check in it
+         */
+        @Override
+        protected EvaluationResult compute() {
+            if (this.to - this.from <= partitionSize) {
+                return evaluatePartition();
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            final PartitionTask right = new PartitionTask(this.classes, this.ordered, middle, this.to);
+            right.fork();
+            final EvaluationResult leftResult = new PartitionTask(this.classes, this.ordered, this.from, middle)
+                .compute();
+            final EvaluationResult rightResult = right.join();
+
+            if (leftResult == null) {
+                return rightResult;
+            }
+            if (rightResult != null) {
+                leftResult.add(rightResult);
+            }
+
+            return leftResult;
+        }
+
+        private EvaluationResult evaluatePartition() {
+            final Set<JavaClass> partition = Collections.newSetFromMap(new IdentityHashMap<>());
+            partition.addAll(this.ordered.subList(this.from, this.to));
+
+            try {
+                return delegate.evaluate(this.classes.that(DescribedPredicate.describe("partition",
+                    partition::contains)));
+            } catch (AssertionError e) {
+                if (isEmptyShould(e)) {
+                    return null;
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Tells whether the error is the one ArchUnit raises when no class of a partition matches the rule, rather
+         * than a failure of the rule itself, such as an assertion of a rule contributed through the SPI.
+         */
+        private boolean isEmptyShould(final AssertionError error) {
+            return error.getClass() == AssertionError.class && error.getMessage() != null
+                && error.getMessage().startsWith(String.format(EMPTY_SHOULD_MESSAGE, delegate.getDescription()));
+        }
+
+    }
+
+}
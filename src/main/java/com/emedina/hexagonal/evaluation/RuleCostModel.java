@@ -0,0 +1,253 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.tngtech.archunit.ArchConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Cost model of the rules, learnt from previous evaluations, ordering the rules so that cheap rules likely to fail
+ * are evaluated first.
+ * <p>
+ * Every evaluation records, per rule, its duration and whether it reported violations. An evaluation stopped early,
+ * because the rule reached the violation cap of its mode, only counts as a failure: its duration says nothing about
+ * the cost of the rule. Rules are then ordered by decreasing ratio between their failure probability and their mean
+ * cost, which finds the first failure soonest in {@link EvaluationMode#failFast() fail-fast} mode. The order never changes what a {@link EvaluationMode#FULL full}
+ * evaluation reports.
+ * <p>
+ * The model is disabled unless the {@code hexagonal.costModel.enabled} ArchUnit property is {@code true}. It is
+ * stored locally, in the file given by the {@code hexagonal.costModel.path} property, which should not be committed
+ * since costs depend on the machine. Entries of the file that cannot be parsed are discarded, so a damaged file only
+ * loses the statistics of its damaged rules.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class RuleCostModel {
+
+    static final String ENABLED_PROPERTY = "hexagonal.costModel.enabled";
+    static final String PATH_PROPERTY = "hexagonal.costModel.path";
+    static final String DEFAULT_PATH = ".archunit-hexagonal/rule-costs.properties";
+
+    /**
+     * Weight of the latest duration in the moving average of the cost of a rule.
+     */
+    private static final double COST_SMOOTHING = 0.3;
+
+    private static final RuleCostModel DISABLED = new RuleCostModel(null);
+
+    private final Path file;
+    private final Map<String, RuleStatistics> statistics = new HashMap<>();
+
+    private RuleCostModel(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the cost model configured through the ArchUnit properties.
+     *
+     * @return the configured cost model, or a disabled one keeping the declared order of the rules
+     */
+    public static RuleCostModel configured() {
+        final ArchConfiguration configuration = ArchConfiguration.get();
+        if (!Boolean.parseBoolean(configuration.getPropertyOrDefault(ENABLED_PROPERTY, "false"))) {
+            return DISABLED;
+        }
+
+        return load(Path.of(configuration.getPropertyOrDefault(PATH_PROPERTY, DEFAULT_PATH)));
+    }
+
+    /**
+     * Loads the cost model stored in the given file, starting empty if the file does not exist yet.
+     *
+     * @param file the file storing the cost model
+     * @return the cost model
+     */
+    public static RuleCostModel load(final Path file) {
+        final RuleCostModel model = new RuleCostModel(file);
+        if (Files.exists(file)) {
+            final Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(file)) {
+                properties.load(input);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read rule cost model " + file, e);
+            }
+            properties.stringPropertyNames().forEach(key -> RuleStatistics.parse(properties.getProperty(key))
+                .ifPresent(statistics -> model.statistics.put(key, statistics)));
+        }
+
+        return model;
+    }
+
+    /**
+     * Orders the rules by decreasing ratio between failure probability and cost, keeping the declared order of
+     * rules with the same ratio. Rules without statistics are assumed to cost as much as the average rule and to
+     * fail half of the time, and rules only ever stopped early to cost as much as the average rule.
+     *
+     * @param layerRules the rules in declared order
+     * @return the rules in evaluation order
+     */
+    public List<LayerRule> order(final List<LayerRule> layerRules) {
+        if (this.file == null || this.statistics.isEmpty()) {
+            return layerRules;
+        }
+
+        final double averageCost = this.statistics.values().stream()
+            .mapToDouble(RuleStatistics::nanos)
+            .filter(nanos -> !Double.isNaN(nanos))
+            .average()
+            .orElse(1.0);
+
+        return layerRules.stream()
+            .sorted(Comparator.comparingDouble((LayerRule layerRule) -> priority(layerRule, averageCost)).reversed())
+            .toList();
+    }
+
+    /**
+     * Records one evaluation of a rule against all classes.
+     *
+     * @param layerRule the evaluated rule
+     * @param nanos     the duration of the evaluation
+     * @param failed    whether the rule reported violations
+     */
+    public void record(final LayerRule layerRule, final long nanos, final boolean failed) {
+        record(layerRule, new RuleStatistics(1, failed ? 1 : 0, nanos));
+    }
+
+    /**
+     * Records one evaluation of a rule stopped early because the rule reached the violation cap of its mode, counting
+     * the failure but not the duration, which would make the rule look cheaper than it is.
+     *
+     * @param layerRule the evaluated rule
+     */
+    public void recordStoppedEarly(final LayerRule layerRule) {
+        record(layerRule, new RuleStatistics(1, 1, Double.NaN));
+    }
+
+    private void record(final LayerRule layerRule, final RuleStatistics latest) {
+        if (this.file == null) {
+            return;
+        }
+
+        this.statistics.merge(key(layerRule), latest, RuleStatistics::add);
+    }
+
+    /**
+     * Stores the cost model, replacing the previous file atomically.
+     */
+    public void save() {
+        if (this.file == null) {
+            return;
+        }
+
+        final Properties properties = new Properties();
+        this.statistics.forEach((key, statistics) -> properties.setProperty(key, statistics.format()));
+        try {
+            final Path directory = this.file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            final Path temporary = Files.createTempFile(directory, "rule-costs", ".tmp");
+            try (OutputStream output = Files.newOutputStream(temporary)) {
+                properties.store(output, "ArchUnit Hexagonal rule costs: runs, failures, mean nanoseconds");
+            }
+            Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write rule cost model " + this.file, e);
+        }
+    }
+
+    private double priority(final LayerRule layerRule, final double averageCost) {
+        final RuleStatistics statistics = this.statistics.get(key(layerRule));
+        if (statistics == null) {
+            return 0.5 / averageCost;
+        }
+        final double cost = Double.isNaN(statistics.nanos()) ? averageCost : statistics.nanos();
+
+        return statistics.failureProbability() / Math.max(cost, 1.0);
+    }
+
+    private static String key(final LayerRule layerRule) {
+        return layerRule.layer() + "." + layerRule.name();
+    }
+
+    /**
+     * Statistics of the previous evaluations of a rule.
+     *
+     * @param runs     the number of evaluations
+     * @param failures the number of evaluations reporting violations
+     * @param nanos    the moving average of the duration of the evaluations against all classes, or
+     *                 {@link Double#NaN} if every evaluation stopped early
+     */
+    record RuleStatistics(long runs, long failures, double nanos) {
+
+        /**
+         * Adds the latest evaluations, moving the average duration towards theirs if known.
+         *
+         * @param latest the statistics of the latest evaluations
+         * @return the statistics of all evaluations
+         */
+        RuleStatistics add(final RuleStatistics latest) {
+            final double mean;
+            if (Double.isNaN(latest.nanos)) {
+                mean = this.nanos;
+            } else if (Double.isNaN(this.nanos)) {
+                mean = latest.nanos;
+            } else {
+                mean = this.nanos + COST_SMOOTHING * (latest.nanos - this.nanos);
+            }
+
+            return new RuleStatistics(this.runs + latest.runs, this.failures + latest.failures, mean);
+        }
+
+        /**
+         * Estimates the probability of the rule failing, smoothed so that a few runs never make it 0 or 1.
+         *
+         * @return the failure probability
+         */
+        double failureProbability() {
+            return (this.failures + 1.0) / (this.runs + 2.0);
+        }
+
+        String format() {
+            final String mean = Double.isNaN(this.nanos) ? "NaN" : String.valueOf(Math.round(this.nanos));
+            return this.runs + "," + this.failures + "," + mean;
+        }
+
+        /**
+         * Parses the statistics formatted by {@link #format()}.
+         *
+         * @param value the formatted statistics
+         * @return the statistics, or empty if the value is truncated or malformed
+         */
+        static Optional<RuleStatistics> parse(final String value) {
+            final String[] fields = value.split(",");
+            if (fields.length != 3) {
+                return Optional.empty();
+            }
+            try {
+                final long runs = Long.parseLong(fields[0].trim());
+                final long failures = Long.parseLong(fields[1].trim());
+                final double nanos = Double.parseDouble(fields[2].trim());
+                if (runs < 1 || failures < 0 || failures > runs || nanos < 0
+                    || Double.isInfinite(nanos)) {
+                    return Optional.empty();
+                }
+
+                return Optional.of(new RuleStatistics(runs, failures, nanos));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+    }
+
+}
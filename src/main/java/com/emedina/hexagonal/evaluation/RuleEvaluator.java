@@ -0,0 +1,288 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.emedina.hexagonal.jfr.HexagonalRuleEvaluationEvent;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.library.freeze.FreezingArchRule;
+import com.tngtech.archunit.library.freeze.ViolationStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Evaluates the frozen rules of the checkers, emitting a {@link HexagonalRuleEvaluationEvent} per rule.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class RuleEvaluator {
+
+    /**
+     * Number of classes a capped evaluation checks first, doubled for every further partition.
+     */
+    static final int FIRST_PARTITION_SIZE = 256;
+
+    private static final String FREEZE_STORE_PROPERTY = "freeze.store";
+
+    private RuleEvaluator() {
+    }
+
+    /**
+     * Freezes and checks every given rule in order, failing on the first rule with violations.
+     *
+     * @param layerRules  the rules to check
+     * @param javaClasses the Java classes to check
+     * @throws AssertionError if any rule reports violations not present in the freeze store
+     */
+    public static void checkAll(final List<LayerRule> layerRules, final JavaClasses javaClasses) {
+        layerRules.forEach(layerRule -> check(layerRule, javaClasses));
+    }
+
+    /**
+     * Freezes and evaluates every given rule in order without failing, collecting the violations of all of them.
+     *
+     * @param layerRules  the rules to evaluate
+     * @param javaClasses the Java classes to evaluate the rules against
+     * @return the report with the violations of all rules not present in the freeze store
+     */
+    public static ArchitectureReport evaluateAll(final List<LayerRule> layerRules, final JavaClasses javaClasses) {
+        return evaluateAll(layerRules, javaClasses, EvaluationMode.FULL);
+    }
+
+    /**
+     * Evaluates the given rules without failing, collecting their violations up to the limits of the mode.
+     * <p>
+     * The violations are reported in the declared order of the rules, whatever order the {@link RuleCostModel}
+     * evaluates them in.
+     *
+     * @param layerRules  the rules to evaluate
+     * @param javaClasses the Java classes to evaluate the rules against
+     * @param mode        how far the evaluation goes once violations are found
+     * @return the report with the violations not present in the freeze store
+     */
+    public static ArchitectureReport evaluateAll(final List<LayerRule> layerRules, final JavaClasses javaClasses,
+        final EvaluationMode mode) {
+        final List<Violation> violations = new ArrayList<>();
+        final boolean complete = evaluateAll(layerRules, javaClasses, mode, violations::add);
+
+        // The cost model may have changed the evaluation order, but the report follows the declared order
+        final Map<String, Integer> declaredOrder = new HashMap<>();
+        layerRules.forEach(layerRule -> declaredOrder.putIfAbsent(layerRule.layer() + "." + layerRule.name(),
+            declaredOrder.size()));
+        violations.sort(Comparator.comparingInt(violation ->
+            declaredOrder.getOrDefault(violation.layer() + "." + violation.rule(), Integer.MAX_VALUE)));
+
+        return new ArchitectureReport(layerRules.size(), violations, complete);
+    }
+
+    /**
+     * Freezes and evaluates every given rule in order without failing, passing each violation to the consumer as
+     * soon as the evaluation of its rule completes.
+     * <p>
+     * Only the violations of the rule being evaluated are held in memory, since freezing needs all of them to compare
+     * with the store. A rule that fails to check any class is reported as a violation carrying ArchUnit's message.
+     *
+     * @param layerRules  the rules to evaluate
+     * @param javaClasses the Java classes to evaluate the rules against
+     * @param violations  the consumer of the violations not present in the freeze store
+     */
+    public static void evaluateAll(final List<LayerRule> layerRules, final JavaClasses javaClasses,
+        final Consumer<Violation> violations) {
+        evaluateAll(layerRules, javaClasses, EvaluationMode.FULL, violations);
+    }
+
+    /**
+     * Evaluates the given rules without failing, passing each violation to the consumer as soon as the evaluation of
+     * its rule completes, up to the limits of the mode.
+     * <p>
+     * When the {@link RuleCostModel} is enabled, rules are evaluated cheapest and most likely to fail first, and the
+     * violations reach the consumer in that order; the cost model is updated with the evaluated rules, counting only
+     * the failure of a rule that reached the violation cap, as its evaluation stopped early.
+     *
+     * @param layerRules  the rules to evaluate
+     * @param javaClasses the Java classes to evaluate the rules against
+     * @param mode        how far the evaluation goes once violations are found
+     * @param violations  the consumer of the violations not present in the freeze store
+     * @return {@code true} if every rule has been evaluated against all classes, {@code false} if the mode stopped
+     * the evaluation early and further violations may exist
+     */
+    public static boolean evaluateAll(final List<LayerRule> layerRules, final JavaClasses javaClasses,
+        final EvaluationMode mode, final Consumer<Violation> violations) {
+        final RuleCostModel costModel = RuleCostModel.configured();
+        boolean complete = true;
+        for (LayerRule layerRule : costModel.order(layerRules)) {
+            final long start = System.nanoTime();
+            final List<String> details = violationsOf(layerRule, javaClasses, mode);
+            final boolean stoppedEarly = details.size() >= mode.violationCap();
+            if (stoppedEarly) {
+                costModel.recordStoppedEarly(layerRule);
+            } else {
+                costModel.record(layerRule, System.nanoTime() - start, !details.isEmpty());
+            }
+            details.forEach(detail -> violations.accept(new Violation(layerRule.layer(), layerRule.name(), detail)));
+
+            if (stoppedEarly) {
+                complete = false;
+            }
+            if (!details.isEmpty() && mode.stopAtFirstFailingRule()) {
+                complete = false;
+                break;
+            }
+        }
+        costModel.save();
+
+        return complete;
+    }
+
+    /**
+     * Freezes and checks a single rule.
+     *
+     * @param layerRule   the rule to check
+     * @param javaClasses the Java classes to check
+     * @throws AssertionError if the rule reports violations not present in the freeze store
+     */
+    public static void check(final LayerRule layerRule, final JavaClasses javaClasses) {
+        ArchRule.Assertions.assertNoViolation(evaluate(layerRule, javaClasses));
+    }
+
+    /**
+     * Freezes and evaluates a single rule without failing.
+     * <p>
+     * The rule is evaluated over partitions of the classes in parallel when configured, see
+     * {@link PartitionedArchRule}.
+     *
+     * @param layerRule   the rule to evaluate
+     * @param javaClasses the Java classes to evaluate the rule against
+     * @return the result of the evaluation, containing only the violations not present in the freeze store
+     */
+    public static EvaluationResult evaluate(final LayerRule layerRule, final JavaClasses javaClasses) {
+        return evaluate(layerRule, javaClasses, MonitoredViolationStore.createConfiguredStore());
+    }
+
+    private static EvaluationResult evaluate(final LayerRule layerRule, final JavaClasses javaClasses,
+        final ViolationStore store) {
+        return monitor(layerRule, javaClasses,
+            () -> FreezingArchRule.freeze(PartitionedArchRule.configured(layerRule.rule()))
+                .persistIn(new MonitoredViolationStore(layerRule, store))
+                .evaluate(javaClasses),
+            result -> result.getFailureReport().getDetails().size());
+    }
+
+    /**
+     * Evaluates a single rule against growing partitions of the classes, stopping after the partition where the rule
+     * reached the violation cap.
+     * <p>
+     * The freeze store is only read: known violations are filtered out, but neither new rules nor solved violations
+     * are written back, since the evaluation may not have seen all classes. A rule not yet in the store has no
+     * baseline to filter its violations with, so all of them are reported until a full evaluation freezes the rule.
+     * <p>
+     * The interrupt status of the thread is checked before every partition, so that an evaluation whose result is no
+     * longer needed, like that of a rule cancelled by the {@link ConcurrentRuleEvaluator}, stops early.
+     *
+     * @param layerRule    the rule to evaluate
+     * @param javaClasses  the Java classes to evaluate the rule against
+     * @param violationCap the maximum number of violations to report
+     * @return up to {@code violationCap} violations not present in the freeze store
+     * @throws CancellationException if the thread is interrupted before all partitions have been evaluated
+     */
+    static List<String> evaluateCapped(final LayerRule layerRule, final JavaClasses javaClasses,
+        final int violationCap) {
+        return evaluateCapped(layerRule, javaClasses, violationCap, MonitoredViolationStore.createConfiguredStore());
+    }
+
+    private static List<String> evaluateCapped(final LayerRule layerRule, final JavaClasses javaClasses,
+        final int violationCap, final ViolationStore store) {
+        return monitor(layerRule, javaClasses, () -> {
+            final ArchRule rule = cappedRule(layerRule, new MonitoredViolationStore(layerRule, store, true));
+            final List<JavaClass> classes = javaClasses.stream().toList();
+            final List<String> details = new ArrayList<>();
+
+            int from = 0;
+            for (int size = FIRST_PARTITION_SIZE; from < classes.size() && details.size() < violationCap; size *= 2) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Evaluation of " + layerRule.layer() + "." + layerRule.name()
+                        + " interrupted");
+                }
+                final int to = (int) Math.min((long) from + size, classes.size());
+                final Set<JavaClass> partition = Collections.newSetFromMap(new IdentityHashMap<>());
+                partition.addAll(classes.subList(from, to));
+
+                details.addAll(rule.evaluate(javaClasses.that(DescribedPredicate.describe("partition",
+                    partition::contains))).getFailureReport().getDetails());
+                from = to;
+            }
+
+            return details.size() > violationCap ? List.copyOf(details.subList(0, violationCap)) : details;
+        }, List::size);
+    }
+
+    /**
+     * Returns the rule frozen in the given read-only store if the store already holds its baseline, or the rule
+     * itself otherwise, since freezing a rule missing from a store that never saves would accept all its violations.
+     */
+    private static ArchRule cappedRule(final LayerRule layerRule, final ViolationStore readOnlyStore) {
+        final ArchRule rule = layerRule.rule().allowEmptyShould(true);
+        readOnlyStore.initialize(ArchConfiguration.get().getSubProperties(FREEZE_STORE_PROPERTY));
+
+        return readOnlyStore.contains(rule) ? FreezingArchRule.freeze(rule).persistIn(readOnlyStore) : rule;
+    }
+
+    private static List<String> violationsOf(final LayerRule layerRule, final JavaClasses javaClasses,
+        final EvaluationMode mode) {
+        return violationsOf(layerRule, javaClasses, mode, MonitoredViolationStore.createConfiguredStore());
+    }
+
+    /**
+     * Evaluates a single rule without failing, up to the limits of the mode, freezing it in the given store.
+     *
+     * @param layerRule   the rule to evaluate
+     * @param javaClasses the Java classes to evaluate the rule against
+     * @param mode        how far the evaluation goes once violations are found
+     * @param store       the freeze store of the rule
+     * @return the violations not present in the freeze store, or ArchUnit's message if the rule failed to check any
+     * class
+     */
+    static List<String> violationsOf(final LayerRule layerRule, final JavaClasses javaClasses,
+        final EvaluationMode mode, final ViolationStore store) {
+        try {
+            return mode.isCapped()
+                ? evaluateCapped(layerRule, javaClasses, mode.violationCap(), store)
+                : evaluate(layerRule, javaClasses, store).getFailureReport().getDetails();
+        } catch (AssertionError e) {
+            return List.of(e.getMessage());
+        }
+    }
+
+    private static <T> T monitor(final LayerRule layerRule, final JavaClasses javaClasses,
+        final Supplier<T> evaluation, final ToIntFunction<T> violationCount) {
+        final HexagonalRuleEvaluationEvent event = new HexagonalRuleEvaluationEvent();
+        event.begin();
+
+        final T result = evaluation.get();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.layer = layerRule.layer();
+            event.rule = layerRule.name();
+            event.classCount = javaClasses.size();
+            event.violationCount = violationCount.applyAsInt(result);
+            event.commit();
+        }
+
+        return result;
+    }
+
+}
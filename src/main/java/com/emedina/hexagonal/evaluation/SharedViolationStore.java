@@ -0,0 +1,116 @@
+package com.emedina.hexagonal.evaluation;
+
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.freeze.ViolationStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ViolationStore} shared by the rules evaluated concurrently, writing the frozen violations in the background.
+ * <p>
+ * ArchUnit's stores are not thread-safe, and separate instances would overwrite each other's index of stored rules,
+ * so every rule of a concurrent evaluation goes through a single delegate, initialized once and only accessed under
+ * a lock. Reads stay synchronous since freezing needs their result, but saves are handed off to the given executor
+ * and only awaited at the end of the evaluation. Freeze events of offloaded saves therefore measure the hand-off.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class SharedViolationStore implements ViolationStore {
+
+    private final ViolationStore delegate;
+    private final ExecutorService saveExecutor;
+    private final Lock lock = new ReentrantLock();
+    private final List<Future<?>> pendingSaves = new ArrayList<>();
+    private boolean initialized;
+
+    SharedViolationStore(final ViolationStore delegate, final ExecutorService saveExecutor) {
+        this.delegate = delegate;
+        this.saveExecutor = saveExecutor;
+    }
+
+    @Override
+    public void initialize(final Properties properties) {
+        this.lock.lock();
+        try {
+            if (!this.initialized) {
+                this.delegate.initialize(properties);
+                this.initialized = true;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(final ArchRule rule) {
+        this.lock.lock();
+        try {
+            return this.delegate.contains(rule);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void save(final ArchRule rule, final List<String> violations) {
+        final List<String> snapshot = List.copyOf(violations);
+        final Future<?> save = this.saveExecutor.submit(() -> {
+            this.lock.lock();
+            try {
+                this.delegate.save(rule, snapshot);
+            } finally {
+                this.lock.unlock();
+            }
+        });
+
+        synchronized (this.pendingSaves) {
+            this.pendingSaves.add(save);
+        }
+    }
+
+    @Override
+    public List<String> getViolations(final ArchRule rule) {
+        this.lock.lock();
+        try {
+            return this.delegate.getViolations(rule);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for every save handed off so far.
+     *
+     * @throws RuntimeException if a save failed, as thrown by the delegate
+     * @throws IllegalStateException if the wait was interrupted
+     */
+    void awaitSaves() {
+        final List<Future<?>> saves;
+        synchronized (this.pendingSaves) {
+            saves = List.copyOf(this.pendingSaves);
+            this.pendingSaves.clear();
+        }
+
+        for (Future<?> save : saves) {
+            try {
+                save.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("Could not save frozen violations", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while saving frozen violations", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.emedina.hexagonal.evaluation;
+
+/**
+ * A violation of a hexagonal architecture rule, not present in the freeze store.
+ *
+ * @param layer   the layer of the violated rule, like {@code domain} or {@code handler}
+ * @param rule    the name of the violated rule within its layer
+ * @param message the description of the violation, as reported by ArchUnit
+ * @author Enrique Medina Montenegro
+ */
+public record Violation(String layer, String rule, String message) {
+
+}
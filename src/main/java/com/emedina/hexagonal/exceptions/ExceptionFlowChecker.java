@@ -0,0 +1,209 @@
+package com.emedina.hexagonal.exceptions;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.BytecodeIndex;
+import com.emedina.hexagonal.index.BytecodeIndex.MethodBytecode;
+import com.emedina.hexagonal.index.SupertypeIndex;
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checker for exceptions used as control flow in the validateThenCreate methods of Commands and Queries and in the
+ * methods of Handlers.
+ * <p>
+ * Commands and queries report invalid input through the {@code Validation} returned by validateThenCreate, and
+ * handlers through the {@code Either} of the buses, since creating and throwing exceptions is expensive under load.
+ * Both the {@code athrow} instructions, from the {@link BytecodeIndex}, and the calls to exception constructors are
+ * reported, including those in lambdas, but not the rethrows javac generates for {@code finally}, {@code synchronized}
+ * and try-with-resources blocks. Exception types listed in {@code performance.exceptions.allowed-exceptions}, with
+ * their subclasses, are exempted for the truly exceptional cases. A layer without classes is already reported by its
+ * own checker, so these rules allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class ExceptionFlowChecker {
+
+    static final String VALIDATE_THEN_CREATE = "validateThenCreate";
+
+    private static final String THROWABLE = Throwable.class.getName();
+
+    private static HexagonalArchitectureProperties properties;
+
+    public ExceptionFlowChecker(final HexagonalArchitectureProperties properties) {
+        ExceptionFlowChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for exceptions used as control flow.
+     * <p>
+     * This method performs the following checks:
+     * <ol>
+     * <li>Ensures that no validateThenCreate method of a command creates or throws exceptions.</li>
+     * <li>Ensures that no validateThenCreate method of a query creates or throws exceptions.</li>
+     * <li>Ensures that no method of a handler annotated with @ApplicationService creates or throws exceptions.</li>
+     * </ol>
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if the command, query or handler FQDN is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for exceptions used as control flow, in the order they are checked by
+     * {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for commands, queries and handlers
+     * @throws IllegalStateException if the command, query or handler FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for exceptions used as control flow in the hexagon described by the given properties,
+     * regardless of the properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for commands, queries and handlers
+     * @throws IllegalStateException if the command, query or handler FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        final List<String> allowedExceptions = properties.performance().exceptions().allowedExceptions();
+
+        // Rule 1: No exceptions in the validateThenCreate methods of commands
+        final ArchRule commandRule = classes()
+            .that().resideInAnyPackage(packages("Command", properties.command().fqdns()))
+            .should(notUseExceptionsIn(ExceptionFlowChecker::isValidateThenCreate, VALIDATE_THEN_CREATE,
+                allowedExceptions))
+            .allowEmptyShould(true);
+
+        // Rule 2: No exceptions in the validateThenCreate methods of queries
+        final ArchRule queryRule = classes()
+            .that().resideInAnyPackage(packages("Query", properties.query().fqdns()))
+            .should(notUseExceptionsIn(ExceptionFlowChecker::isValidateThenCreate, VALIDATE_THEN_CREATE,
+                allowedExceptions))
+            .allowEmptyShould(true);
+
+        // Rule 3: No exceptions in the methods of handlers
+        final ArchRule handlerRule = classes()
+            .that().resideInAnyPackage(packages("Handler", properties.handler().fqdns()))
+            .and().areAnnotatedWith(ApplicationService.class)
+            .should(notUseExceptionsIn(method -> true, "handler methods", allowedExceptions))
+            .allowEmptyShould(true);
+
+        return List.of(
+            new LayerRule("command", "noExceptionsInValidateThenCreateRule", commandRule),
+            new LayerRule("query", "noExceptionsInValidateThenCreateRule", queryRule),
+            new LayerRule("handler", "noExceptionsInHandlersRule", handlerRule)
+        );
+    }
+
+    private static String[] packages(final String description, final List<String> packages) {
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException(description + " FQDN is not configured in the properties");
+        }
+
+        return packages.toArray(new String[0]);
+    }
+
+    /**
+     * Checks if a method is a static validateThenCreate method.
+     */
+    static boolean isValidateThenCreate(final JavaMethod method) {
+        return VALIDATE_THEN_CREATE.equals(method.getName()) && method.getModifiers().contains(JavaModifier.STATIC);
+    }
+
+    /**
+     * Returns the bytecode of the lambdas declared in the given method, which ArchUnit merges into the method for
+     * accesses but which hold their own {@code athrow} instructions.
+     */
+    private static Stream<MethodBytecode> lambdas(final JavaClass javaClass, final JavaMethod method) {
+        final String prefix = "lambda$" + method.getName() + "$";
+        return BytecodeIndex.of(javaClass).methods().values().stream()
+            .filter(bytecode -> bytecode.name().startsWith(prefix));
+    }
+
+    /**
+     * Creates an ArchCondition that checks that the selected methods of a class neither throw exceptions nor call
+     * exception constructors, unless the exception type is allowed.
+     *
+     * @param methods           the methods of the class to check
+     * @param description       the description of the methods to check, for the condition
+     * @param allowedExceptions the fully qualified names of the allowed exception types, with their subclasses
+     * @return an ArchCondition that can be used in ArchUnit rules to check for exceptions used as control flow
+     */
+    static ArchCondition<JavaClass> notUseExceptionsIn(final Predicate<JavaMethod> methods, final String description,
+        final List<String> allowedExceptions) {
+        return new ArchCondition<>("not create or throw exceptions in " + description) {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                final Map<String, JavaClass> referencedTypes = item.getDirectDependenciesFromSelf().stream()
+                    .map(Dependency::getTargetClass)
+                    .collect(Collectors.toMap(JavaClass::getName, Function.identity(), (first, second) -> first));
+
+                item.getMethods().stream()
+                    .filter(methods)
+                    .forEach(method -> {
+                        method.getConstructorCallsFromSelf().stream()
+                            .filter(call -> isThrowable(call.getTargetOwner()))
+                            .filter(call -> !isAllowed(call.getTargetOwner(), allowedExceptions))
+                            .forEach(call -> events.add(SimpleConditionEvent.violated(item,
+                                call.getDescription() + ", creating an exception on the functional error path")));
+
+                        Stream.concat(BytecodeIndex.of(method).stream(), lambdas(item, method))
+                            .flatMap(bytecode -> bytecode.thrownTypes().stream())
+                            .filter(thrownType -> !isAllowed(thrownType, referencedTypes, allowedExceptions))
+                            .forEach(thrownType -> events.add(SimpleConditionEvent.violated(item,
+                                String.format("Method %s throws %s instead of returning the error",
+                                    method.getFullName(), thrownType))));
+                    });
+            }
+        };
+    }
+
+    private static boolean isThrowable(final JavaClass javaClass) {
+        return THROWABLE.equals(javaClass.getName())
+            || SupertypeIndex.of(javaClass).superclasses().contains(THROWABLE);
+    }
+
+    private static boolean isAllowed(final JavaClass exception, final List<String> allowedExceptions) {
+        return allowedExceptions.contains(exception.getName())
+            || SupertypeIndex.of(exception).superclasses().stream().anyMatch(allowedExceptions::contains);
+    }
+
+    private static boolean isAllowed(final String thrownType, final Map<String, JavaClass> referencedTypes,
+        final List<String> allowedExceptions) {
+        final JavaClass exception = referencedTypes.get(thrownType);
+        return exception == null ? allowedExceptions.contains(thrownType) : isAllowed(exception, allowedExceptions);
+    }
+
+}
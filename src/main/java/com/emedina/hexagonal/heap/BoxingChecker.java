@@ -0,0 +1,256 @@
+package com.emedina.hexagonal.heap;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.BoxingMode;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.BoxingProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.domain.JavaParameterizedType;
+import com.tngtech.archunit.core.domain.JavaType;
+import com.tngtech.archunit.core.domain.PackageMatchers;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Checker for boxed primitives in the fields of the Domain, Commands and Queries.
+ * <p>
+ * A field of a wrapper type, like {@code Long}, costs an allocation and a pointer where a primitive would do, and a
+ * collection, map, {@code Optional} or array of wrappers costs one per element. Each class gets a boxing score, one
+ * point per boxed field and {@value #BOXED_CONTAINER_SCORE} per container of boxed values, returned by
+ * {@link #scores(JavaClasses)}. Classes scoring above {@code performance.boxing.max-score} fail the rules in
+ * {@code fail} mode; by default ({@code performance.boxing.mode: warn}) the rules never fail, but log a warning for
+ * each of these classes, so that every evaluation of the rules surfaces the scores. A layer without classes is already
+ * reported by its own checker, so these rules allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class BoxingChecker {
+
+    static final int BOXED_FIELD_SCORE = 1;
+    static final int BOXED_CONTAINER_SCORE = 2;
+
+    private static final List<String> LAYERS = List.of("domain", "command", "query");
+
+    private static final Set<String> BOXED_TYPES = Set.of(Boolean.class.getName(), Byte.class.getName(),
+        Character.class.getName(), Short.class.getName(), Integer.class.getName(), Long.class.getName(),
+        Float.class.getName(), Double.class.getName());
+
+    private static final System.Logger LOGGER = System.getLogger(BoxingChecker.class.getName());
+
+    private static HexagonalArchitectureProperties properties;
+
+    public BoxingChecker(final HexagonalArchitectureProperties properties) {
+        BoxingChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for boxed primitives in the domain, commands and queries, which only fail in {@code fail}
+     * mode and log a warning for the classes scoring above the maximum in {@code warn} mode.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if the domain, commands or queries FQDN is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for boxed primitives, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for the domain, commands and queries, failing in {@code fail} mode only
+     * @throws IllegalStateException if the domain, commands or queries FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for boxed primitives of the hexagon described by the given properties, regardless of the
+     * properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for the domain, commands and queries, failing in {@code fail} mode only
+     * @throws IllegalStateException if the domain, commands or queries FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        final BoxingProperties boxing = properties.performance().boxing();
+        final ArchCondition<JavaClass> condition = boxing.mode() == BoxingMode.WARN
+            ? warnAboveScore(boxing.maxScore())
+            : notScoreAbove(boxing.maxScore());
+
+        return LAYERS.stream()
+            .map(layer -> {
+                final ArchRule boxedFieldsRule = classes()
+                    .that().resideInAnyPackage(packages(properties, layer))
+                    .should(condition)
+                    .allowEmptyShould(true);
+                return new LayerRule(layer, "boxedFieldsRule", boxedFieldsRule);
+            })
+            .toList();
+    }
+
+    /**
+     * Scores the classes of the domain, commands and queries with boxed fields, whatever the mode.
+     *
+     * @param javaClasses the Java classes to score
+     * @return the scores of the classes with boxed fields, highest first
+     * @throws IllegalStateException if the domain, commands or queries FQDN is not configured in the properties
+     */
+    public static List<BoxingScore> scores(final JavaClasses javaClasses) {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return scores(properties, javaClasses);
+    }
+
+    /**
+     * Scores the classes with boxed fields of the domain, commands and queries of the hexagon described by the given
+     * properties, regardless of the properties the checker has been initialized with.
+     *
+     * @param properties  the hexagonal architecture properties
+     * @param javaClasses the Java classes to score
+     * @return the scores of the classes with boxed fields, highest first
+     * @throws IllegalStateException if the domain, commands or queries FQDN is not configured in the properties
+     */
+    public static List<BoxingScore> scores(final HexagonalArchitectureProperties properties,
+        final JavaClasses javaClasses) {
+        final List<PackageMatchers> packages = LAYERS.stream()
+            .map(layer -> PackageMatchers.of(packages(properties, layer)))
+            .toList();
+
+        return javaClasses.stream()
+            .filter(javaClass -> packages.stream().anyMatch(matchers -> matchers.test(javaClass.getPackageName())))
+            .map(BoxingChecker::score)
+            .filter(score -> score.score() > 0)
+            .sorted(Comparator.comparingInt(BoxingScore::score).reversed()
+                .thenComparing(BoxingScore::className))
+            .toList();
+    }
+
+    private static String[] packages(final HexagonalArchitectureProperties properties, final String layer) {
+        final List<String> packages = properties.fqdns(layer);
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException("FQDN of layer " + layer + " is not configured in the properties");
+        }
+
+        return packages.toArray(new String[0]);
+    }
+
+    /**
+     * Creates an ArchCondition that checks that the boxing score of a class is not above the given maximum.
+     *
+     * @param maxScore the highest allowed boxing score
+     * @return an ArchCondition that can be used in ArchUnit rules to check for boxed fields
+     */
+    static ArchCondition<JavaClass> notScoreAbove(final int maxScore) {
+        return new ArchCondition<>("not have a boxing score above " + maxScore) {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                final BoxingScore score = score(item);
+                if (score.score() > maxScore) {
+                    events.add(SimpleConditionEvent.violated(item, describe(score, maxScore)));
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates an ArchCondition that is always satisfied, but logs a warning for a class whose boxing score is above
+     * the given maximum.
+     *
+     * @param maxScore the highest boxing score not warned about
+     * @return an ArchCondition that can be used in ArchUnit rules to warn about boxed fields
+     */
+    static ArchCondition<JavaClass> warnAboveScore(final int maxScore) {
+        return new ArchCondition<>("be warned about a boxing score above " + maxScore) {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                final BoxingScore score = score(item);
+                if (score.score() > maxScore) {
+                    LOGGER.log(System.Logger.Level.WARNING, describe(score, maxScore));
+                }
+                events.add(SimpleConditionEvent.satisfied(item, "Class " + item.getName() + " has a boxing score of "
+                    + score.score()));
+            }
+        };
+    }
+
+    private static String describe(final BoxingScore score, final int maxScore) {
+        return String.format("Class %s has a boxing score of %d, above %d, for fields %s", score.className(),
+            score.score(), maxScore, String.join(", ", score.boxedFields()));
+    }
+
+    static BoxingScore score(final JavaClass javaClass) {
+        final List<JavaField> fields = javaClass.getFields().stream()
+            .filter(field -> !field.getModifiers().contains(JavaModifier.STATIC))
+            .filter(field -> fieldScore(field.getType()) > 0)
+            .sorted(Comparator.comparing(JavaField::getName))
+            .toList();
+
+        return new BoxingScore(javaClass.getName(),
+            fields.stream().mapToInt(field -> fieldScore(field.getType())).sum(),
+            fields.stream().map(field -> field.getName() + " (" + field.getType().getName() + ")").toList());
+    }
+
+    private static int fieldScore(final JavaType type) {
+        final JavaClass rawType = type.toErasure();
+        if (BOXED_TYPES.contains(rawType.getName())) {
+            return BOXED_FIELD_SCORE;
+        }
+        if (rawType.isArray()) {
+            return rawType.tryGetComponentType().filter(BoxingChecker::isBoxed).isPresent()
+                ? BOXED_CONTAINER_SCORE : 0;
+        }
+        if (type instanceof JavaParameterizedType parameterized && isContainer(rawType)
+            && parameterized.getActualTypeArguments().stream().anyMatch(BoxingChecker::isBoxed)) {
+            return BOXED_CONTAINER_SCORE;
+        }
+
+        return 0;
+    }
+
+    private static boolean isBoxed(final JavaType type) {
+        return type instanceof JavaClass javaClass && BOXED_TYPES.contains(javaClass.getName());
+    }
+
+    private static boolean isContainer(final JavaClass type) {
+        return Stream.of(Collection.class, Map.class, Optional.class).anyMatch(type::isAssignableTo);
+    }
+
+    /**
+     * The boxing score of a class.
+     *
+     * @param className   the fully qualified name of the class
+     * @param score       the score, one point per boxed field and two per container of boxed values
+     * @param boxedFields the boxed fields, by name and type
+     */
+    public record BoxingScore(String className, int score, List<String> boxedFields) {
+
+    }
+
+}
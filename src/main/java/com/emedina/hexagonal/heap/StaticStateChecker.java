@@ -0,0 +1,254 @@
+package com.emedina.hexagonal.heap;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.BytecodeIndex;
+import com.emedina.hexagonal.index.BytecodeIndex.MethodBytecode;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaFieldAccess;
+import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.domain.JavaStaticInitializer;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checker for static mutable state in the Handlers and Adapters.
+ * <p>
+ * Handlers and adapters serve every request of the service, so their static fields are shared by all threads: a
+ * static field that is not final, or a static final collection or map that can still be modified, is a source of
+ * contention and races. A static final collection or map is known to be unmodifiable when its static initializer
+ * assigns it the result of a factory like {@code List.of}, {@code Collections.unmodifiableMap} or
+ * {@code Collectors.toUnmodifiableList}, or of any method of the Guava immutable collections, found in the
+ * {@link BytecodeIndex}. A static map that grows, through {@code put}, {@code computeIfAbsent} and the like called on
+ * the field itself, and is never evicted from, with {@code remove} or {@code clear} called on the field itself, is
+ * reported as an unbounded cache, unless it is a {@link LinkedHashMap} bounded by {@code removeEldestEntry}. A layer
+ * without classes is already reported by its own checker, so these rules allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class StaticStateChecker {
+
+    private static final List<String> LAYERS = List.of("handler", "adapters");
+
+    /**
+     * Factories of unmodifiable collections and maps, by fully qualified owner and method name.
+     */
+    static final Set<String> UNMODIFIABLE_FACTORIES = Set.of(
+        "java.util.List.of", "java.util.List.copyOf", "java.util.Set.of", "java.util.Set.copyOf",
+        "java.util.Map.of", "java.util.Map.copyOf", "java.util.Map.ofEntries", "java.util.stream.Stream.toList",
+        "java.util.Collections.unmodifiableCollection", "java.util.Collections.unmodifiableList",
+        "java.util.Collections.unmodifiableSet", "java.util.Collections.unmodifiableSortedSet",
+        "java.util.Collections.unmodifiableNavigableSet", "java.util.Collections.unmodifiableMap",
+        "java.util.Collections.unmodifiableSortedMap", "java.util.Collections.unmodifiableNavigableMap",
+        "java.util.Collections.emptyList", "java.util.Collections.emptySet", "java.util.Collections.emptyMap",
+        "java.util.Collections.singletonList", "java.util.Collections.singleton", "java.util.Collections.singletonMap",
+        "java.util.stream.Collectors.toUnmodifiableList", "java.util.stream.Collectors.toUnmodifiableSet",
+        "java.util.stream.Collectors.toUnmodifiableMap");
+
+    /**
+     * Prefix of the Guava immutable collections and their builders, whose factories all return unmodifiable
+     * collections.
+     */
+    private static final String GUAVA_IMMUTABLE_COLLECTIONS = "com.google.common.collect.Immutable";
+
+    private static final Set<String> MAP_GROWTH = Set.of("put", "putAll", "putIfAbsent", "compute",
+        "computeIfAbsent", "merge");
+
+    private static final Set<String> MAP_EVICTION = Set.of("remove", "clear");
+
+    private static final String LAMBDA_PREFIX = "lambda$";
+
+    private static HexagonalArchitectureProperties properties;
+
+    public StaticStateChecker(final HexagonalArchitectureProperties properties) {
+        StaticStateChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for static mutable state in the handlers and adapters.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if the handler or adapters FQDN is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for static mutable state, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for the handlers and adapters
+     * @throws IllegalStateException if the handler or adapters FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for static mutable state of the hexagon described by the given properties, regardless of the
+     * properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for the handlers and adapters
+     * @throws IllegalStateException if the handler or adapters FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        return LAYERS.stream()
+            .map(layer -> {
+                final ArchRule noStaticMutableStateRule = classes()
+                    .that().resideInAnyPackage(packages(properties, layer))
+                    .should(notHoldStaticMutableState())
+                    .allowEmptyShould(true);
+                return new LayerRule(layer, "noStaticMutableStateRule", noStaticMutableStateRule);
+            })
+            .toList();
+    }
+
+    private static String[] packages(final HexagonalArchitectureProperties properties, final String layer) {
+        final List<String> packages = properties.fqdns(layer);
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException("FQDN of layer " + layer + " is not configured in the properties");
+        }
+
+        return packages.toArray(new String[0]);
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class declares neither static fields that are not final, nor static
+     * final collections or maps that can be modified, nor static maps used as unbounded caches.
+     *
+     * @return an ArchCondition that can be used in ArchUnit rules to check for static mutable state
+     */
+    static ArchCondition<JavaClass> notHoldStaticMutableState() {
+        return new ArchCondition<>("not hold static mutable state") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                final Map<String, String> sources = item.getStaticInitializer()
+                    .flatMap(BytecodeIndex::of)
+                    .map(MethodBytecode::staticFieldSources)
+                    .orElse(Map.of());
+
+                item.getFields().stream()
+                    .filter(field -> field.getModifiers().contains(JavaModifier.STATIC))
+                    .filter(field -> !field.getModifiers().contains(JavaModifier.SYNTHETIC))
+                    .forEach(field -> {
+                        final String source = sources.get(field.getName());
+                        final Optional<JavaCodeUnit> growingCodeUnit = unboundedGrowth(field, source);
+                        if (!field.getModifiers().contains(JavaModifier.FINAL)) {
+                            events.add(SimpleConditionEvent.violated(item, String.format(
+                                "Field %s is static but not final, so it is shared and mutable across all threads",
+                                field.getFullName())));
+                        } else if (growingCodeUnit.isEmpty() && isModifiableContainer(field, source)) {
+                            events.add(SimpleConditionEvent.violated(item, String.format(
+                                "Field %s is a static final %s that can be modified, so it is shared and mutable "
+                                    + "across all threads", field.getFullName(), field.getRawType().getName())));
+                        }
+                        growingCodeUnit.ifPresent(codeUnit -> events.add(SimpleConditionEvent.violated(item,
+                            String.format("Field %s is a static Map cache growing in %s and never evicted, so the "
+                                + "heap grows without bound", field.getFullName(), codeUnit.getFullName()))));
+                    });
+            }
+        };
+    }
+
+    private static boolean isModifiableContainer(final JavaField field, final String source) {
+        final JavaClass type = field.getRawType();
+        return (type.isAssignableTo(Collection.class) || type.isAssignableTo(Map.class))
+            && !isUnmodifiable(source);
+    }
+
+    /**
+     * Checks if the given call, assigned to a static field, returns an unmodifiable collection or map.
+     *
+     * @param source the method whose result is assigned to the field, like {@code java.util.List.of}, or {@code null}
+     * @return {@code true} if the method is a known factory of unmodifiable collections or maps
+     */
+    static boolean isUnmodifiable(final String source) {
+        return source != null
+            && (UNMODIFIABLE_FACTORIES.contains(source) || source.startsWith(GUAVA_IMMUTABLE_COLLECTIONS));
+    }
+
+    /**
+     * Returns the first method, other than the static initializer, that grows the given static map while no method
+     * ever evicts from it, or empty if the field is no such unbounded cache. Only the calls made on the field itself
+     * count, so that evicting from another map does not hide an unbounded cache.
+     */
+    private static Optional<JavaCodeUnit> unboundedGrowth(final JavaField field, final String source) {
+        if (!field.getRawType().isAssignableTo(Map.class) || isUnmodifiable(source)
+            || isBoundedByRemoveEldestEntry(field, source)) {
+            return Optional.empty();
+        }
+
+        final List<JavaCodeUnit> readers = field.getAccessesToSelf().stream()
+            .filter(access -> access.getAccessType() == AccessType.GET)
+            .map(JavaFieldAccess::getOrigin)
+            .filter(origin -> !(origin instanceof JavaStaticInitializer))
+            .distinct()
+            .sorted(Comparator.comparing(JavaCodeUnit::getFullName))
+            .toList();
+        if (readers.stream().anyMatch(reader -> callsOn(reader, field).stream().anyMatch(MAP_EVICTION::contains))) {
+            return Optional.empty();
+        }
+
+        return readers.stream()
+            .filter(reader -> callsOn(reader, field).stream().anyMatch(MAP_GROWTH::contains))
+            .findFirst();
+    }
+
+    /**
+     * Returns the names of the methods the given code unit, or the lambdas it declares, calls on the given static
+     * field, since ArchUnit reports the accesses of a lambda as those of its enclosing code unit.
+     */
+    private static Set<String> callsOn(final JavaCodeUnit codeUnit, final JavaField field) {
+        final String lambdas = LAMBDA_PREFIX + codeUnit.getName() + "$";
+        final Stream<MethodBytecode> lambdaBodies = BytecodeIndex.of(codeUnit.getOwner()).methods().values().stream()
+            .filter(bytecode -> bytecode.name().startsWith(lambdas));
+
+        return Stream.concat(BytecodeIndex.of(codeUnit).stream(), lambdaBodies)
+            .flatMap(bytecode -> bytecode.staticFieldCalls().getOrDefault(field.getFullName(), Set.of()).stream())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Checks if the given static map is created as a {@link LinkedHashMap} overriding {@code removeEldestEntry}, like
+     * an anonymous subclass bounding its size.
+     */
+    private static boolean isBoundedByRemoveEldestEntry(final JavaField field, final String source) {
+        return field.getOwner().getStaticInitializer().stream()
+            .flatMap(initializer -> initializer.getConstructorCallsFromSelf().stream())
+            .map(JavaAccess::getTargetOwner)
+            .filter(owner -> (owner.getName() + ".<init>").equals(source))
+            .filter(owner -> !owner.isEquivalentTo(LinkedHashMap.class) && owner.isAssignableTo(LinkedHashMap.class))
+            .anyMatch(owner -> owner.getMethods().stream()
+                .anyMatch(method -> "removeEldestEntry".equals(method.getName())));
+    }
+
+}
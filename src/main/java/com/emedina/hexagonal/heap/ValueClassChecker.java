@@ -0,0 +1,288 @@
+package com.emedina.hexagonal.heap;
+
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.annotatedWith;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.BytecodeIndex;
+import com.emedina.sharedkernel.domain.identity.annotation.Identity;
+import com.emedina.sharedkernel.domain.model.annotation.ValueObject;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.domain.JavaStaticInitializer;
+import com.tngtech.archunit.core.domain.PackageMatchers;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Checker for the readiness of the value objects and identities of the Domain to become value classes.
+ * <p>
+ * Value classes have no identity, so the JVM can flatten and scalarize them instead of allocating them. A class
+ * annotated with {@link ValueObject} or {@link Identity} is ready when it is final, extends nothing but
+ * {@link Object} or {@link Record}, has final fields and no arrays, which are always mutable, never synchronizes and
+ * performs no identity-sensitive operation: comparing instances of its own type with {@code ==} outside
+ * {@code equals}, calling {@link System#identityHashCode(Object)} or creating weak, soft or phantom references. The
+ * readiness of every class is reported by {@link #report(JavaClasses)}; the rule only fails when
+ * {@code performance.value-classes.enforce} is set. A layer without classes is already reported by its own checker,
+ * so the rule allows it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class ValueClassChecker {
+
+    static final String LAYER = "domain";
+
+    private static final List<Function<JavaClass, List<String>>> CRITERIA = List.of(
+        ValueClassChecker::notFinal,
+        ValueClassChecker::superclass,
+        ValueClassChecker::mutableFields,
+        ValueClassChecker::arrayFields,
+        ValueClassChecker::synchronization,
+        ValueClassChecker::identityOperations);
+
+    private static final Set<String> VALUE_SUPERCLASSES = Set.of(Object.class.getName(), Record.class.getName());
+
+    private static final Set<String> REFERENCE_TYPES = Set.of("java.lang.ref.WeakReference",
+        "java.lang.ref.SoftReference", "java.lang.ref.PhantomReference");
+
+    private static final DescribedPredicate<JavaClass> VALUE_OBJECTS_AND_IDENTITIES =
+        annotatedWith(ValueObject.class).or(annotatedWith(Identity.class))
+            .<JavaClass>forSubtype().as("are annotated with @ValueObject or @Identity");
+
+    private static HexagonalArchitectureProperties properties;
+
+    public ValueClassChecker(final HexagonalArchitectureProperties properties) {
+        ValueClassChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rule for the readiness of value objects and identities for value classes, which only fails when
+     * enforced in the properties.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if the domain FQDN is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rule for the readiness of value objects and identities for value classes.
+     *
+     * @return the named rule for the domain if enforced, none otherwise
+     * @throws IllegalStateException if the domain FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rule for the readiness of value objects and identities for value classes of the hexagon described by
+     * the given properties, regardless of the properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rule for the domain if enforced, none otherwise
+     * @throws IllegalStateException if the domain FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        if (!properties.performance().valueClasses().enforce()) {
+            return List.of();
+        }
+
+        final ArchRule valueClassRule = classes()
+            .that().resideInAnyPackage(domainPackages(properties))
+            .and(VALUE_OBJECTS_AND_IDENTITIES)
+            .should(beReadyForValueClasses())
+            .allowEmptyShould(true);
+
+        return List.of(new LayerRule(LAYER, "valueClassRule", valueClassRule));
+    }
+
+    /**
+     * Reports the readiness for value classes of every value object and identity of the domain, whether enforced or
+     * not.
+     *
+     * @param javaClasses the Java classes to report on
+     * @return the readiness of every value object and identity, least ready first
+     * @throws IllegalStateException if the domain FQDN is not configured in the properties
+     */
+    public static List<ValueClassReadiness> report(final JavaClasses javaClasses) {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return report(properties, javaClasses);
+    }
+
+    /**
+     * Reports the readiness for value classes of every value object and identity of the domain of the hexagon
+     * described by the given properties, regardless of the properties the checker has been initialized with.
+     *
+     * @param properties  the hexagonal architecture properties
+     * @param javaClasses the Java classes to report on
+     * @return the readiness of every value object and identity, least ready first
+     * @throws IllegalStateException if the domain FQDN is not configured in the properties
+     */
+    public static List<ValueClassReadiness> report(final HexagonalArchitectureProperties properties,
+        final JavaClasses javaClasses) {
+        final PackageMatchers packages = PackageMatchers.of(domainPackages(properties));
+
+        return javaClasses.stream()
+            .filter(javaClass -> packages.test(javaClass.getPackageName()))
+            .filter(VALUE_OBJECTS_AND_IDENTITIES)
+            .map(ValueClassChecker::readiness)
+            .sorted(Comparator.comparingInt(ValueClassReadiness::passed)
+                .thenComparing(ValueClassReadiness::className))
+            .toList();
+    }
+
+    private static String[] domainPackages(final HexagonalArchitectureProperties properties) {
+        final List<String> packages = properties.domain().fqdns();
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException("Domain FQDN is not configured in the properties");
+        }
+
+        return packages.toArray(new String[0]);
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class meets every criterion to become a value class.
+     *
+     * @return an ArchCondition that can be used in ArchUnit rules to check for the readiness for value classes
+     */
+    static ArchCondition<JavaClass> beReadyForValueClasses() {
+        return new ArchCondition<>("be ready for value classes") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                readiness(item).blockers().forEach(blocker -> events.add(SimpleConditionEvent.violated(item,
+                    blocker + ", which prevents it from becoming a value class")));
+            }
+        };
+    }
+
+    static ValueClassReadiness readiness(final JavaClass javaClass) {
+        final List<String> blockers = new ArrayList<>();
+        int passed = 0;
+        for (final Function<JavaClass, List<String>> criterion : CRITERIA) {
+            final List<String> criterionBlockers = criterion.apply(javaClass);
+            if (criterionBlockers.isEmpty()) {
+                passed++;
+            }
+            blockers.addAll(criterionBlockers);
+        }
+
+        return new ValueClassReadiness(javaClass.getName(), passed, CRITERIA.size(), blockers);
+    }
+
+    private static List<String> notFinal(final JavaClass javaClass) {
+        return javaClass.getModifiers().contains(JavaModifier.FINAL) ? List.of()
+            : List.of("Class " + javaClass.getName() + " is not final");
+    }
+
+    private static List<String> superclass(final JavaClass javaClass) {
+        return javaClass.getRawSuperclass()
+            .filter(superclass -> !VALUE_SUPERCLASSES.contains(superclass.getName()))
+            .map(superclass -> List.of("Class " + javaClass.getName() + " extends " + superclass.getName()))
+            .orElse(List.of());
+    }
+
+    private static List<String> mutableFields(final JavaClass javaClass) {
+        return javaClass.getFields().stream()
+            .filter(field -> !field.getModifiers().contains(JavaModifier.STATIC))
+            .filter(field -> !field.getModifiers().contains(JavaModifier.FINAL))
+            .map(field -> "Field " + field.getFullName() + " is not final")
+            .toList();
+    }
+
+    private static List<String> arrayFields(final JavaClass javaClass) {
+        return javaClass.getFields().stream()
+            .filter(field -> !field.getModifiers().contains(JavaModifier.STATIC))
+            .filter(field -> field.getRawType().isArray())
+            .map(field -> "Field " + field.getFullName() + " is a mutable array")
+            .toList();
+    }
+
+    private static List<String> synchronization(final JavaClass javaClass) {
+        final Stream<String> synchronizedMethods = javaClass.getMethods().stream()
+            .filter(method -> method.getModifiers().contains(JavaModifier.SYNCHRONIZED))
+            .map(method -> "Method " + method.getFullName() + " is synchronized");
+        final Stream<String> synchronizedBlocks = codeUnits(javaClass)
+            .filter(codeUnit -> BytecodeIndex.of(codeUnit).filter(bytecode -> bytecode.monitorEnters() > 0)
+                .isPresent())
+            .map(codeUnit -> "Method " + codeUnit.getFullName() + " contains a synchronized block");
+
+        return Stream.concat(synchronizedMethods, synchronizedBlocks).toList();
+    }
+
+    private static List<String> identityOperations(final JavaClass javaClass) {
+        final Stream<String> comparisons = codeUnits(javaClass)
+            .filter(codeUnit -> !isEquals(codeUnit))
+            .filter(codeUnit -> BytecodeIndex.of(codeUnit)
+                .filter(bytecode -> bytecode.comparedTypes().contains(javaClass.getName())).isPresent())
+            .map(codeUnit -> "Method " + codeUnit.getFullName() + " compares instances of "
+                + javaClass.getSimpleName() + " with ==");
+        final Stream<String> identityHashCodes = javaClass.getMethodCallsFromSelf().stream()
+            .filter(call -> call.getTargetOwner().isEquivalentTo(System.class)
+                && "identityHashCode".equals(call.getName()))
+            .map(call -> call.getDescription() + ", which is identity-sensitive");
+        final Stream<String> references = javaClass.getConstructorCallsFromSelf().stream()
+            .filter(call -> REFERENCE_TYPES.contains(call.getTargetOwner().getName()))
+            .map(call -> call.getDescription() + ", which is identity-sensitive");
+
+        return Stream.of(comparisons, identityHashCodes, references).flatMap(Function.identity()).toList();
+    }
+
+    private static Stream<JavaCodeUnit> codeUnits(final JavaClass javaClass) {
+        return javaClass.getCodeUnits().stream()
+            .filter(codeUnit -> !(codeUnit instanceof JavaStaticInitializer));
+    }
+
+    private static boolean isEquals(final JavaCodeUnit codeUnit) {
+        return "equals".equals(codeUnit.getName()) && codeUnit.getRawParameterTypes().size() == 1
+            && codeUnit.getRawParameterTypes().getFirst().isEquivalentTo(Object.class);
+    }
+
+    /**
+     * The readiness of a class to become a value class.
+     *
+     * @param className the fully qualified name of the class
+     * @param passed    the number of criteria the class meets
+     * @param total     the number of criteria
+     * @param blockers  what prevents the class from becoming a value class, for every criterion it does not meet
+     */
+    public record ValueClassReadiness(String className, int passed, int total, List<String> blockers) {
+
+        /**
+         * Tells whether the class meets every criterion.
+         *
+         * @return {@code true} if nothing prevents the class from becoming a value class
+         */
+        public boolean ready() {
+            return this.passed == this.total;
+        }
+
+    }
+
+}
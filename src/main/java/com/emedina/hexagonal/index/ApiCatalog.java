@@ -0,0 +1,43 @@
+package com.emedina.hexagonal.index;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnitAccess;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Catalog of JDK or library APIs that rules look for in the calls of the imported classes.
+ * <p>
+ * A call matches when the owner of its target, or any supertype of the owner found in the {@link SupertypeIndex},
+ * is cataloged with the name of the target, so calls through subtypes of a cataloged type are matched as well.
+ *
+ * @param apis the cataloged method names by fully qualified type name, an empty set meaning every method and
+ *             constructor of the type
+ * @author Enrique Medina Montenegro
+ */
+public record ApiCatalog(Map<String, Set<String>> apis) {
+
+    public ApiCatalog {
+        apis = Map.copyOf(apis);
+    }
+
+    /**
+     * Checks if the given call targets a cataloged API.
+     *
+     * @param call the method or constructor call
+     * @return {@code true} if the target is cataloged for its owner or any supertype of its owner
+     */
+    public boolean matches(final JavaCodeUnitAccess<?> call) {
+        final JavaClass owner = call.getTargetOwner();
+        final SupertypeIndex.Supertypes supertypes = SupertypeIndex.of(owner);
+
+        return Stream.of(Stream.of(owner.getName()), supertypes.interfaces().stream(),
+                supertypes.superclasses().stream())
+            .flatMap(types -> types)
+            .map(this.apis::get)
+            .anyMatch(methods -> methods != null && (methods.isEmpty() || methods.contains(call.getName())));
+    }
+
+}
@@ -0,0 +1,454 @@
+package com.emedina.hexagonal.index;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.Source;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Memoized facts about the bytecode of the imported classes that ArchUnit does not model, like the size of the code
+ * of a method, the monitors it enters, the exceptions it throws, the references it compares, the calls producing the
+ * values of the static fields it assigns or the methods it calls on static fields, found with an {@link OperandStack}.
+ * <p>
+ * The class file of a class is read from its {@link Source} and scanned once, the first time a rule asks for it.
+ * Entries are weakly keyed by the {@link JavaClass} and thread-safe, like the {@link SupertypeIndex}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class BytecodeIndex {
+
+    private static final String CODE_ATTRIBUTE = "Code";
+    private static final String THROWABLE = Throwable.class.getName();
+    private static final String THROWABLE_INTERNAL = Type.getInternalName(Throwable.class);
+    private static final String ADD_SUPPRESSED = "addSuppressed";
+    private static final String LAMBDA_PREFIX = "lambda$";
+    private static final String STREAM_COLLECT = "java.util.stream.Stream.collect";
+    private static final String COLLECTORS = "java.util.stream.Collectors.";
+
+    private static final WeakCache<JavaClass, Bytecode> BYTECODE = new WeakCache<>(BytecodeIndex::read);
+
+    private BytecodeIndex() {
+    }
+
+    /**
+     * Returns the bytecode facts of every method and constructor declared by the given class.
+     *
+     * @param javaClass the class
+     * @return the bytecode of the class, without methods if the class was not imported from a class file
+     * @throws UncheckedIOException if the class file cannot be read
+     */
+    public static Bytecode of(final JavaClass javaClass) {
+        return BYTECODE.get(javaClass);
+    }
+
+    /**
+     * Returns the bytecode facts of the given method, constructor or static initializer.
+     *
+     * @param codeUnit the method, constructor or static initializer
+     * @return the bytecode of the code unit, or empty if it is a bridge method or its class was not imported from a
+     * class file
+     * @throws UncheckedIOException if the class file cannot be read
+     */
+    public static Optional<MethodBytecode> of(final JavaCodeUnit codeUnit) {
+        return Optional.ofNullable(of(codeUnit.getOwner()).methods()
+            .get(codeUnit.getName() + codeUnit.getDescriptor()));
+    }
+
+    private static Bytecode read(final JavaClass javaClass) {
+        final Optional<Source> source = javaClass.getSource();
+        if (source.isEmpty()) {
+            return new Bytecode(Map.of());
+        }
+
+        final byte[] classFile;
+        try (InputStream in = source.get().getUri().toURL().openStream()) {
+            classFile = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the class file of " + javaClass.getName(), e);
+        }
+
+        final ClassReader reader = new ClassReader(classFile);
+        final Map<String, Integer> codeLengths = codeLengths(reader);
+        final Map<String, MethodBytecode> methods = new LinkedHashMap<>();
+        reader.accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public MethodVisitor visitMethod(final int access, final String name, final String descriptor,
+                final String signature, final String[] exceptions) {
+                if (isCompilerGenerated(access, name)) {
+                    return null;
+                }
+
+                final String key = name + descriptor;
+                final Map<Integer, String> parameterTypes = parameterTypes(javaClass.getName(), access, descriptor);
+                final String internalName = javaClass.getName().replace('.', '/');
+                return new MethodVisitor(Opcodes.ASM9) {
+                    private final List<String> thrownTypes = new ArrayList<>();
+                    private final List<String> comparedTypes = new ArrayList<>();
+                    private final Map<String, String> staticFieldSources = new LinkedHashMap<>();
+                    private final Map<String, Set<String>> staticFieldCalls = new LinkedHashMap<>();
+                    private final OperandStack stack = new OperandStack();
+                    private final Set<Label> catchAnyHandlers = new HashSet<>();
+                    private final Set<Integer> rethrownLocals = new HashSet<>();
+                    private boolean caughtByCatchAny;
+                    private int monitorEnters;
+                    private String lastType;
+                    private String lastCall;
+
+                    @Override
+                    public void visitInsn(final int opcode) {
+                        if (opcode == Opcodes.MONITORENTER) {
+                            this.monitorEnters++;
+                        } else if (opcode == Opcodes.ATHROW
+                            && !this.rethrownLocals.contains(this.stack.localBelow(0))) {
+                            this.thrownTypes.add(this.lastType == null ? THROWABLE : this.lastType);
+                        }
+                        if (opcode == Opcodes.ATHROW || opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) {
+                            this.stack.stop();
+                        } else {
+                            this.stack.apply(opcode);
+                        }
+                        this.lastType = null;
+                        this.lastCall = null;
+                    }
+
+                    @Override
+                    public void visitMethodInsn(final int opcode, final String owner, final String name,
+                        final String descriptor, final boolean isInterface) {
+                        this.lastType = opcode == Opcodes.INVOKESPECIAL && "<init>".equals(name)
+                            ? Type.getObjectType(owner).getClassName()
+                            : referenceTypeName(Type.getReturnType(descriptor));
+                        final String call = Type.getObjectType(owner).getClassName() + "." + name;
+                        // The collector passed to Stream.collect tells what the stream is collected into
+                        this.lastCall = STREAM_COLLECT.equals(call) && this.lastCall != null
+                            && this.lastCall.startsWith(COLLECTORS) ? this.lastCall : call;
+
+                        final int sizes = Type.getArgumentsAndReturnSizes(descriptor);
+                        // The size of the arguments counts a receiver, even for static methods
+                        final int argumentSlots = (sizes >> 2) - 1;
+                        // try-with-resources adds the exception closing the resource to the one it then rethrows
+                        if (THROWABLE_INTERNAL.equals(owner) && ADD_SUPPRESSED.equals(name)) {
+                            this.rethrownLocals.add(this.stack.localBelow(argumentSlots));
+                        }
+                        if (opcode == Opcodes.INVOKESTATIC) {
+                            this.stack.pop(argumentSlots);
+                        } else {
+                            final String receiver = this.stack.receiverOf(argumentSlots);
+                            if (receiver != null) {
+                                this.staticFieldCalls.computeIfAbsent(receiver, field -> new HashSet<>()).add(name);
+                            }
+                            this.stack.pop(argumentSlots + 1);
+                        }
+                        this.stack.push(sizes & 0x03);
+                    }
+
+                    @Override
+                    public void visitFieldInsn(final int opcode, final String owner, final String name,
+                        final String descriptor) {
+                        if (opcode == Opcodes.PUTSTATIC && internalName.equals(owner) && this.lastCall != null) {
+                            this.staticFieldSources.put(name, this.lastCall);
+                        }
+                        this.lastType = referenceTypeName(Type.getType(descriptor));
+                        this.lastCall = null;
+
+                        final int slots = Type.getType(descriptor).getSize();
+                        switch (opcode) {
+                            case Opcodes.GETSTATIC -> {
+                                if (this.lastType != null) {
+                                    this.stack.pushField(Type.getObjectType(owner).getClassName() + "." + name);
+                                } else {
+                                    this.stack.push(slots);
+                                }
+                            }
+                            case Opcodes.PUTSTATIC -> this.stack.pop(slots);
+                            case Opcodes.GETFIELD -> {
+                                this.stack.pop(1);
+                                this.stack.push(slots);
+                            }
+                            default -> this.stack.pop(slots + 1);
+                        }
+                    }
+
+                    @Override
+                    public void visitTypeInsn(final int opcode, final String type) {
+                        this.lastType = opcode == Opcodes.CHECKCAST ? Type.getObjectType(type).getClassName() : null;
+                        if (opcode != Opcodes.CHECKCAST) {
+                            this.lastCall = null;
+                        }
+                        if (opcode == Opcodes.NEW) {
+                            this.stack.push(1);
+                        }
+                    }
+
+                    @Override
+                    public void visitVarInsn(final int opcode, final int varIndex) {
+                        this.lastType = opcode == Opcodes.ALOAD ? parameterTypes.get(varIndex) : null;
+                        this.lastCall = null;
+
+                        // javac stores the exception caught by a finally or synchronized block first, to rethrow it
+                        if (opcode == Opcodes.ASTORE && this.caughtByCatchAny) {
+                            this.rethrownLocals.add(varIndex);
+                        } else if (opcode == Opcodes.ASTORE) {
+                            this.rethrownLocals.remove(varIndex);
+                        }
+                        this.caughtByCatchAny = false;
+
+                        switch (opcode) {
+                            case Opcodes.ALOAD -> this.stack.pushLocal(varIndex);
+                            case Opcodes.ILOAD, Opcodes.FLOAD -> this.stack.push(1);
+                            case Opcodes.LLOAD, Opcodes.DLOAD -> this.stack.push(2);
+                            case Opcodes.ISTORE, Opcodes.FSTORE, Opcodes.ASTORE -> this.stack.pop(1);
+                            case Opcodes.LSTORE, Opcodes.DSTORE -> this.stack.pop(2);
+                            default -> this.stack.stop();
+                        }
+                    }
+
+                    @Override
+                    public void visitIntInsn(final int opcode, final int operand) {
+                        this.lastType = null;
+                        this.lastCall = null;
+                        if (opcode != Opcodes.NEWARRAY) {
+                            this.stack.push(1);
+                        }
+                    }
+
+                    @Override
+                    public void visitLdcInsn(final Object value) {
+                        this.lastType = null;
+                        this.lastCall = null;
+                        this.stack.push(value instanceof Long || value instanceof Double ? 2 : 1);
+                    }
+
+                    @Override
+                    public void visitJumpInsn(final int opcode, final Label label) {
+                        if ((opcode == Opcodes.IF_ACMPEQ || opcode == Opcodes.IF_ACMPNE) && this.lastType != null) {
+                            this.comparedTypes.add(this.lastType);
+                        }
+                        this.lastType = null;
+                        this.lastCall = null;
+
+                        if (opcode >= Opcodes.IF_ICMPEQ && opcode <= Opcodes.IF_ACMPNE) {
+                            this.stack.pop(2);
+                        } else if (opcode != Opcodes.GOTO && opcode != Opcodes.JSR) {
+                            this.stack.pop(1);
+                        }
+                        this.stack.jump(label);
+                        if (opcode == Opcodes.GOTO) {
+                            this.stack.stop();
+                        }
+                    }
+
+                    @Override
+                    public void visitTableSwitchInsn(final int min, final int max, final Label dflt,
+                        final Label... labels) {
+                        switchTo(dflt, labels);
+                    }
+
+                    @Override
+                    public void visitLookupSwitchInsn(final Label dflt, final int[] keys, final Label[] labels) {
+                        switchTo(dflt, labels);
+                    }
+
+                    private void switchTo(final Label dflt, final Label... labels) {
+                        this.lastType = null;
+                        this.lastCall = null;
+                        this.stack.pop(1);
+                        this.stack.jump(dflt);
+                        for (final Label label : labels) {
+                            this.stack.jump(label);
+                        }
+                        this.stack.stop();
+                    }
+
+                    @Override
+                    public void visitMultiANewArrayInsn(final String descriptor, final int numDimensions) {
+                        this.lastType = null;
+                        this.lastCall = null;
+                        this.stack.pop(numDimensions);
+                        this.stack.push(1);
+                    }
+
+                    @Override
+                    public void visitTryCatchBlock(final Label start, final Label end, final Label handler,
+                        final String type) {
+                        this.stack.handler(handler);
+                        if (type == null) {
+                            this.catchAnyHandlers.add(handler);
+                        }
+                    }
+
+                    @Override
+                    public void visitLabel(final Label label) {
+                        this.stack.label(label);
+                        this.caughtByCatchAny = this.catchAnyHandlers.contains(label);
+                    }
+
+                    @Override
+                    public void visitInvokeDynamicInsn(final String name, final String descriptor,
+                        final Handle bootstrapMethodHandle, final Object... bootstrapMethodArguments) {
+                        this.lastType = referenceTypeName(Type.getReturnType(descriptor));
+                        this.lastCall = null;
+
+                        final int sizes = Type.getArgumentsAndReturnSizes(descriptor);
+                        this.stack.pop((sizes >> 2) - 1);
+                        this.stack.push(sizes & 0x03);
+                    }
+
+                    @Override
+                    public void visitEnd() {
+                        final Map<String, Set<String>> calls = new HashMap<>();
+                        this.staticFieldCalls.forEach((field, names) -> calls.put(field, Set.copyOf(names)));
+                        methods.put(key, new MethodBytecode(name, codeLengths.getOrDefault(name + descriptor, 0),
+                            this.monitorEnters, List.copyOf(this.thrownTypes), List.copyOf(this.comparedTypes),
+                            Map.copyOf(this.staticFieldSources), Map.copyOf(calls)));
+                    }
+                };
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+        return new Bytecode(Collections.unmodifiableMap(methods));
+    }
+
+    /**
+     * Reads the {@code code_length} of the {@code Code} attribute of every method, which ASM does not expose, by
+     * walking the structure of the class file: fields and methods only carry attributes of known length, so the
+     * instructions never need to be decoded.
+     */
+    private static Map<String, Integer> codeLengths(final ClassReader reader) {
+        final char[] buffer = new char[reader.getMaxStringLength()];
+        // access_flags, this_class and super_class, then the interfaces
+        int offset = reader.header + 6;
+        offset += 2 + 2 * reader.readUnsignedShort(offset);
+
+        final int fieldCount = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < fieldCount; i++) {
+            offset = skipAttributes(reader, offset + 6);
+        }
+
+        final Map<String, Integer> codeLengths = new HashMap<>();
+        final int methodCount = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < methodCount; i++) {
+            final String method = reader.readUTF8(offset + 2, buffer) + reader.readUTF8(offset + 4, buffer);
+            final int attributeCount = reader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int j = 0; j < attributeCount; j++) {
+                if (CODE_ATTRIBUTE.equals(reader.readUTF8(offset, buffer))) {
+                    // attribute_name_index, attribute_length, max_stack and max_locals precede code_length
+                    codeLengths.put(method, reader.readInt(offset + 10));
+                }
+                offset += 6 + reader.readInt(offset + 2);
+            }
+        }
+
+        return codeLengths;
+    }
+
+    private static int skipAttributes(final ClassReader reader, final int attributesOffset) {
+        final int attributeCount = reader.readUnsignedShort(attributesOffset);
+        int offset = attributesOffset + 2;
+        for (int i = 0; i < attributeCount; i++) {
+            offset += 6 + reader.readInt(offset + 2);
+        }
+
+        return offset;
+    }
+
+    /**
+     * Checks if a method is generated by the compiler with no code of its own, like the bridge method of a covariant
+     * override, which shares its name and parameter types with the method it delegates to. The bodies of lambdas are
+     * synthetic too, but hold the code of the lambda, so they are kept.
+     */
+    private static boolean isCompilerGenerated(final int access, final String name) {
+        return (access & Opcodes.ACC_BRIDGE) != 0
+            || (access & Opcodes.ACC_SYNTHETIC) != 0 && !name.startsWith(LAMBDA_PREFIX);
+    }
+
+    /**
+     * Types the local variables holding {@code this} and the reference parameters of a method, by slot, as
+     * {@code long} and {@code double} parameters take two slots.
+     */
+    private static Map<Integer, String> parameterTypes(final String owner, final int access,
+        final String descriptor) {
+        final Map<Integer, String> parameterTypes = new HashMap<>();
+        int slot = 0;
+        if ((access & Opcodes.ACC_STATIC) == 0) {
+            parameterTypes.put(slot++, owner);
+        }
+        for (final Type type : Type.getArgumentTypes(descriptor)) {
+            final String typeName = referenceTypeName(type);
+            if (typeName != null) {
+                parameterTypes.put(slot, typeName);
+            }
+            slot += type.getSize();
+        }
+
+        return parameterTypes;
+    }
+
+    /**
+     * Names a reference type, or returns {@code null} for primitive types and {@code void}, which cannot be thrown.
+     */
+    private static String referenceTypeName(final Type type) {
+        return type.getSort() == Type.OBJECT ? type.getClassName() : null;
+    }
+
+    /**
+     * Bytecode facts of the methods declared by a class, holding no reference to the imported classes.
+     *
+     * @param methods the bytecode of every method, constructor, static initializer and lambda body, by name and
+     *                descriptor, like {@code handle(Ljava/lang/String;)V}, leaving out bridge and other synthetic
+     *                methods
+     */
+    public record Bytecode(Map<String, MethodBytecode> methods) {
+
+    }
+
+    /**
+     * Bytecode facts of a method, constructor or static initializer.
+     *
+     * @param name               the name of the method, {@code <init>} for constructors and {@code <clinit>} for
+     *                           static initializers
+     * @param codeLength         the size in bytes of the code of the method, 0 for abstract and native methods
+     * @param monitorEnters      the number of {@code monitorenter} instructions, one per {@code synchronized} block
+     * @param thrownTypes        the type thrown by every {@code athrow} instruction, as created, returned, read, cast
+     *                           or received as parameter by the instruction before it, or {@link Throwable} when not
+     *                           known, like for a rethrow; the rethrows generated by javac for {@code finally},
+     *                           {@code synchronized} and try-with-resources blocks are left out, as they throw nothing
+     *                           that the source does not already throw
+     * @param comparedTypes      the type of the second operand of every reference comparison with {@code ==} or
+     *                           {@code !=}, when known in the same way, like {@code this} or a parameter
+     * @param staticFieldSources the method or constructor whose result is assigned to a static field of the class, like
+     *                           {@code java.util.List.of} or {@code java.util.HashMap.<init>}, by field name, for the
+     *                           fields assigned the result of a call; for a {@code Stream.collect} call with a
+     *                           collector of {@code Collectors}, the collector, like
+     *                           {@code java.util.stream.Collectors.toUnmodifiableList}
+     * @param staticFieldCalls   the names of the methods called on a reference read from a static field, of any class,
+     *                           by full field name, like {@code com.example.Handler.CACHE}
+     */
+    public record MethodBytecode(String name, int codeLength, int monitorEnters, List<String> thrownTypes,
+                                 List<String> comparedTypes, Map<String, String> staticFieldSources,
+                                 Map<String, Set<String>> staticFieldCalls) {
+
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.emedina.hexagonal.index;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaParameterizedType;
+import com.tngtech.archunit.core.domain.JavaType;
+import com.tngtech.archunit.core.domain.JavaTypeVariable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Memoized resolution of the generic signatures of the imported classes.
+ * <p>
+ * For a class, the actual type arguments of every generic supertype are resolved once, following intermediate
+ * generic interfaces and superclasses: given {@code interface BaseUseCase<C> extends CommandHandler<Throwable, C>},
+ * a class implementing {@code BaseUseCase<PlaceOrder>} resolves {@code CommandHandler} to
+ * {@code <Throwable, PlaceOrder>}. For a method, the type arguments of its return type are resolved once as well.
+ * Entries are weakly keyed by the imported class or method and thread-safe, like the {@link SupertypeIndex}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class GenericTypeIndex {
+
+    private static final WeakCache<JavaClass, Map<String, List<TypeArgument>>> SUPERTYPE_ARGUMENTS =
+        new WeakCache<>(GenericTypeIndex::resolveSupertypeArguments);
+    private static final WeakCache<JavaMethod, List<TypeArgument>> RETURN_TYPE_ARGUMENTS =
+        new WeakCache<>(method -> typeArguments(method.getReturnType()));
+
+    private GenericTypeIndex() {
+    }
+
+    /**
+     * Returns the resolved type arguments of every generic supertype of the given class, direct or inherited.
+     *
+     * @param javaClass the class
+     * @return the type arguments by the name of the generic supertype, nearest supertypes first
+     */
+    public static Map<String, List<TypeArgument>> supertypeArguments(final JavaClass javaClass) {
+        return SUPERTYPE_ARGUMENTS.get(javaClass);
+    }
+
+    /**
+     * Returns the resolved type arguments of the given generic supertype of the class.
+     *
+     * @param javaClass the class
+     * @param supertype the generic interface or superclass
+     * @return the type arguments, or an empty list if the class does not extend the supertype with type arguments
+     */
+    public static List<TypeArgument> supertypeArguments(final JavaClass javaClass, final Class<?> supertype) {
+        return supertypeArguments(javaClass).getOrDefault(supertype.getName(), List.of());
+    }
+
+    /**
+     * Returns the type arguments of the return type of the given method.
+     *
+     * @param method the method
+     * @return the type arguments, or an empty list if the return type is not parameterized
+     */
+    public static List<TypeArgument> returnTypeArguments(final JavaMethod method) {
+        return RETURN_TYPE_ARGUMENTS.get(method);
+    }
+
+    private static Map<String, List<TypeArgument>> resolveSupertypeArguments(final JavaClass javaClass) {
+        final Map<String, List<TypeArgument>> resolved = new LinkedHashMap<>();
+        final Set<String> visited = new HashSet<>();
+        supertypes(javaClass).forEach(supertype -> resolve(supertype, Map.of(), resolved, visited));
+
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    private static void resolve(final JavaType type, final Map<String, JavaType> bindings,
+        final Map<String, List<TypeArgument>> resolved, final Set<String> visited) {
+        final JavaClass rawType = type.toErasure();
+        final List<JavaType> arguments = type instanceof JavaParameterizedType parameterizedType
+            ? parameterizedType.getActualTypeArguments().stream().map(argument -> bind(argument, bindings)).toList()
+            : List.of();
+        if (!arguments.isEmpty()) {
+            resolved.putIfAbsent(rawType.getName(), arguments.stream().map(TypeArgument::of).toList());
+        }
+        if (!visited.add(rawType.getName())) {
+            return;
+        }
+
+        // The type parameters of the supertype are bound to the arguments just resolved
+        final List<? extends JavaTypeVariable<JavaClass>> parameters = rawType.getTypeParameters();
+        final Map<String, JavaType> supertypeBindings = new HashMap<>();
+        for (int i = 0; i < Math.min(parameters.size(), arguments.size()); i++) {
+            supertypeBindings.put(parameters.get(i).getName(), arguments.get(i));
+        }
+        supertypes(rawType).forEach(supertype -> resolve(supertype, supertypeBindings, resolved, visited));
+    }
+
+    private static Stream<JavaType> supertypes(final JavaClass javaClass) {
+        return Stream.concat(javaClass.getInterfaces().stream(), javaClass.getSuperclass().stream());
+    }
+
+    private static JavaType bind(final JavaType type, final Map<String, JavaType> bindings) {
+        if (type instanceof JavaTypeVariable<?> variable && bindings.containsKey(variable.getName())) {
+            return bindings.get(variable.getName());
+        }
+
+        return type;
+    }
+
+    static List<TypeArgument> typeArguments(final JavaType type) {
+        return type instanceof JavaParameterizedType parameterizedType
+            ? parameterizedType.getActualTypeArguments().stream().map(TypeArgument::of).toList()
+            : List.of();
+    }
+
+    /**
+     * Erasure of a resolved type argument or return type, by name, holding no reference to the imported classes.
+     *
+     * @param name            the fully qualified name of the erasure
+     * @param simpleName      the simple name of the erasure
+     * @param assignableTypes the names of the erasure and all its supertypes
+     */
+    public record TypeArgument(String name, String simpleName, Set<String> assignableTypes) {
+
+        static TypeArgument of(final JavaType type) {
+            final JavaClass erasure = type.toErasure();
+            final SupertypeIndex.Supertypes supertypes = SupertypeIndex.of(erasure);
+            final Set<String> assignableTypes = new HashSet<>(supertypes.interfaces());
+            assignableTypes.addAll(supertypes.superclasses());
+            assignableTypes.add(erasure.getName());
+
+            return new TypeArgument(erasure.getName(), erasure.getSimpleName(), Set.copyOf(assignableTypes));
+        }
+
+        /**
+         * Checks if the type argument is assignable to the given type.
+         *
+         * @param type the type
+         * @return {@code true} if the erasure of the type argument is the type or one of its subtypes
+         */
+        public boolean isAssignableTo(final Class<?> type) {
+            return this.assignableTypes.contains(type.getName());
+        }
+
+    }
+
+}
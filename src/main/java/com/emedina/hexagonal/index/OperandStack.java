@@ -0,0 +1,226 @@
+package com.emedina.hexagonal.index;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Depth of the operand stack of a method while its instructions are visited, in slots, tracking which values were read
+ * from a static field or loaded from a local variable so that the calls made on them, and what they are thrown as, are
+ * known.
+ * <p>
+ * Only the depth is simulated, which is enough to find the receiver of a call below its arguments without the frames
+ * or the analysis package of ASM. The depth at a jump target is the one of the first jump to it, and an exception
+ * handler starts with the exception alone. Values moved under the top of the stack, by {@code swap} or the
+ * {@code dup_x} instructions, are no longer tracked.
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class OperandStack {
+
+    /**
+     * A value read from a static field, or loaded from a local variable, at the given depth of the stack.
+     *
+     * @param depth the depth of the value
+     * @param field the full name of the static field, or {@code null} if the value was loaded from a local
+     * @param local the index of the local variable, or {@link #NO_LOCAL} if the value was read from a static field
+     */
+    private record TrackedValue(int depth, String field, int local) {
+
+    }
+
+    private record Snapshot(int size, List<TrackedValue> trackedValues) {
+
+    }
+
+    /**
+     * Returned for a value that was not loaded from a local variable.
+     */
+    static final int NO_LOCAL = -1;
+
+    private final List<TrackedValue> trackedValues = new ArrayList<>();
+    private final Map<Label, Snapshot> jumpTargets = new HashMap<>();
+    private final Set<Label> handlers = new HashSet<>();
+    private int size;
+    private boolean reachable = true;
+
+    /**
+     * Pushes a value that was not read from a static field.
+     *
+     * @param slots the slots of the value, 2 for {@code long} and {@code double}, 0 for {@code void}
+     */
+    void push(final int slots) {
+        this.size += slots;
+    }
+
+    /**
+     * Pushes a reference read from the given static field.
+     *
+     * @param field the full name of the static field
+     */
+    void pushField(final String field) {
+        this.trackedValues.add(new TrackedValue(this.size, field, NO_LOCAL));
+        this.size++;
+    }
+
+    /**
+     * Pushes a reference loaded from the given local variable.
+     *
+     * @param local the index of the local variable
+     */
+    void pushLocal(final int local) {
+        this.trackedValues.add(new TrackedValue(this.size, null, local));
+        this.size++;
+    }
+
+    /**
+     * Pops the given number of slots.
+     *
+     * @param slots the number of slots
+     */
+    void pop(final int slots) {
+        this.size = Math.max(0, this.size - slots);
+        this.trackedValues.removeIf(value -> value.depth() >= this.size);
+    }
+
+    /**
+     * Returns the static field the receiver of a call was read from, the receiver lying below the arguments.
+     *
+     * @param argumentSlots the slots of the arguments of the call
+     * @return the full name of the field, or {@code null} if the receiver was not read from a static field
+     */
+    String receiverOf(final int argumentSlots) {
+        return valueBelow(argumentSlots)
+            .map(TrackedValue::field)
+            .orElse(null);
+    }
+
+    /**
+     * Returns the local variable the value lying below the given number of slots was loaded from, like the receiver
+     * of a call below its arguments, or the top of the stack for 0 slots.
+     *
+     * @param slots the slots above the value
+     * @return the index of the local variable, or {@link #NO_LOCAL} if the value was not loaded from a local
+     */
+    int localBelow(final int slots) {
+        return valueBelow(slots)
+            .filter(value -> value.field() == null)
+            .map(TrackedValue::local)
+            .orElse(NO_LOCAL);
+    }
+
+    private Optional<TrackedValue> valueBelow(final int slots) {
+        final int depth = this.size - slots - 1;
+        return this.trackedValues.stream()
+            .filter(value -> value.depth() == depth)
+            .findFirst();
+    }
+
+    /**
+     * Applies an instruction without operand, other than a return or {@code athrow}.
+     *
+     * @param opcode the opcode of the instruction
+     */
+    void apply(final int opcode) {
+        if (opcode == Opcodes.SWAP || opcode >= Opcodes.DUP_X1 && opcode <= Opcodes.DUP2_X2
+            && opcode != Opcodes.DUP2) {
+            forgetTop(4);
+        }
+        final int delta = delta(opcode);
+        if (delta < 0) {
+            pop(-delta);
+        } else {
+            push(delta);
+        }
+    }
+
+    /**
+     * Records the depth of the stack at the target of a jump, after the jump popped its operands.
+     *
+     * @param target the target of the jump
+     */
+    void jump(final Label target) {
+        this.jumpTargets.putIfAbsent(target, new Snapshot(this.size, List.copyOf(this.trackedValues)));
+    }
+
+    /**
+     * Marks the next instruction as unreachable from the current one, after a return, {@code athrow}, {@code goto} or
+     * switch.
+     */
+    void stop() {
+        this.reachable = false;
+    }
+
+    /**
+     * Declares the start of an exception handler.
+     *
+     * @param handler the label of the handler
+     */
+    void handler(final Label handler) {
+        this.handlers.add(handler);
+    }
+
+    /**
+     * Moves to a label, restoring the depth of the stack recorded by the jumps to it if the previous instruction does
+     * not fall through.
+     *
+     * @param label the label
+     */
+    void label(final Label label) {
+        if (this.handlers.contains(label)) {
+            restore(new Snapshot(1, List.of()));
+        } else if (!this.reachable) {
+            restore(this.jumpTargets.getOrDefault(label, new Snapshot(0, List.of())));
+        }
+        this.reachable = true;
+    }
+
+    private void restore(final Snapshot snapshot) {
+        this.size = snapshot.size();
+        this.trackedValues.clear();
+        this.trackedValues.addAll(snapshot.trackedValues());
+    }
+
+    private void forgetTop(final int slots) {
+        this.trackedValues.removeIf(value -> value.depth() >= this.size - slots);
+    }
+
+    /**
+     * Returns the change of the depth of the stack, in slots, made by an instruction without operand.
+     */
+    private static int delta(final int opcode) {
+        if (opcode >= Opcodes.IADD && opcode <= Opcodes.DREM) {
+            // int and float operations alternate with long and double ones
+            return (opcode - Opcodes.IADD) % 2 == 0 ? -1 : -2;
+        }
+        if (opcode >= Opcodes.IAND && opcode <= Opcodes.LXOR) {
+            return (opcode - Opcodes.IAND) % 2 == 0 ? -1 : -2;
+        }
+
+        return switch (opcode) {
+            case Opcodes.ACONST_NULL, Opcodes.ICONST_M1, Opcodes.ICONST_0, Opcodes.ICONST_1, Opcodes.ICONST_2,
+                 Opcodes.ICONST_3, Opcodes.ICONST_4, Opcodes.ICONST_5, Opcodes.FCONST_0, Opcodes.FCONST_1,
+                 Opcodes.FCONST_2, Opcodes.DUP, Opcodes.DUP_X1, Opcodes.DUP_X2, Opcodes.I2L, Opcodes.I2D,
+                 Opcodes.F2L, Opcodes.F2D -> 1;
+            case Opcodes.LCONST_0, Opcodes.LCONST_1, Opcodes.DCONST_0, Opcodes.DCONST_1, Opcodes.DUP2,
+                 Opcodes.DUP2_X1, Opcodes.DUP2_X2 -> 2;
+            case Opcodes.IALOAD, Opcodes.FALOAD, Opcodes.AALOAD, Opcodes.BALOAD, Opcodes.CALOAD, Opcodes.SALOAD,
+                 Opcodes.POP, Opcodes.ISHL, Opcodes.LSHL, Opcodes.ISHR, Opcodes.LSHR, Opcodes.IUSHR, Opcodes.LUSHR,
+                 Opcodes.L2I, Opcodes.L2F, Opcodes.D2I, Opcodes.D2F, Opcodes.FCMPL, Opcodes.FCMPG,
+                 Opcodes.MONITORENTER, Opcodes.MONITOREXIT -> -1;
+            case Opcodes.POP2 -> -2;
+            case Opcodes.IASTORE, Opcodes.FASTORE, Opcodes.AASTORE, Opcodes.BASTORE, Opcodes.CASTORE,
+                 Opcodes.SASTORE, Opcodes.LCMP, Opcodes.DCMPL, Opcodes.DCMPG -> -3;
+            case Opcodes.LASTORE, Opcodes.DASTORE -> -4;
+            default -> 0;
+        };
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.emedina.hexagonal.index;
+
+import com.emedina.hexagonal.index.GenericTypeIndex.TypeArgument;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaModifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Memoized factory-method and constructor signatures of the imported classes.
+ * <p>
+ * The static methods and constructors of a class are scanned once, the first time any rule asks for them, and kept
+ * as {@link Signatures} holding no reference to the import. Rules about factory methods or constructors look them up
+ * here instead of streaming over the members of every class again. Entries are weakly keyed and thread-safe, like
+ * the {@link SupertypeIndex}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class SignatureIndex {
+
+    private static final WeakCache<JavaClass, Signatures> SIGNATURES = new WeakCache<>(Signatures::of);
+
+    private SignatureIndex() {
+    }
+
+    /**
+     * Returns the factory-method and constructor signatures of the given class.
+     *
+     * @param javaClass the class
+     * @return the signatures of the class
+     */
+    public static Signatures of(final JavaClass javaClass) {
+        return SIGNATURES.get(javaClass);
+    }
+
+    /**
+     * Factory-method and constructor signatures of a class.
+     *
+     * @param staticMethods          the static methods declared by the class, by name
+     * @param publicNoArgConstructor whether the class declares a public constructor without parameters
+     */
+    public record Signatures(Map<String, List<StaticMethod>> staticMethods, boolean publicNoArgConstructor) {
+
+        static Signatures of(final JavaClass javaClass) {
+            final Map<String, List<StaticMethod>> staticMethods = javaClass.getMethods().stream()
+                .filter(method -> method.getModifiers().contains(JavaModifier.STATIC))
+                .map(StaticMethod::of)
+                .collect(Collectors.groupingBy(StaticMethod::name, Collectors.toUnmodifiableList()));
+            final boolean publicNoArgConstructor = javaClass.getConstructors().stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                    && constructor.getModifiers().contains(JavaModifier.PUBLIC));
+
+            return new Signatures(Map.copyOf(staticMethods), publicNoArgConstructor);
+        }
+
+        /**
+         * Returns the static methods declared by the class with the given name.
+         *
+         * @param name the name of the methods
+         * @return the static methods with the name, or an empty list if there is none
+         */
+        public List<StaticMethod> staticMethods(final String name) {
+            return this.staticMethods.getOrDefault(name, List.of());
+        }
+
+    }
+
+    /**
+     * Signature of a static method, with its return type resolved by name.
+     *
+     * @param name                the name of the method
+     * @param isPublic            whether the method is public
+     * @param returnType          the erasure of the return type
+     * @param returnTypeArguments the type arguments of the return type, empty if it is not parameterized
+     */
+    public record StaticMethod(String name, boolean isPublic, TypeArgument returnType,
+                               List<TypeArgument> returnTypeArguments) {
+
+        static StaticMethod of(final JavaMethod method) {
+            return new StaticMethod(method.getName(), method.getModifiers().contains(JavaModifier.PUBLIC),
+                TypeArgument.of(method.getRawReturnType()), GenericTypeIndex.typeArguments(method.getReturnType()));
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.emedina.hexagonal.index;
+
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Memoized transitive supertype closure of the imported classes.
+ * <p>
+ * The closure of a class, with the annotations of its supertypes, is computed the first time a rule asks for it and
+ * then answered in constant time by every other rule. Entries are weakly keyed by the {@link JavaClass}, so they live
+ * exactly as long as the import they belong to. The index is thread-safe, for rules evaluated concurrently.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public final class SupertypeIndex {
+
+    private static final WeakCache<JavaClass, Supertypes> CLOSURES = new WeakCache<>(Supertypes::of);
+
+    private SupertypeIndex() {
+    }
+
+    /**
+     * Returns the transitive supertypes of the given class.
+     *
+     * @param javaClass the class
+     * @return the interfaces and superclasses of the class, direct or inherited
+     */
+    public static Supertypes of(final JavaClass javaClass) {
+        return CLOSURES.get(javaClass);
+    }
+
+    /**
+     * Checks if the given class implements, directly or through any supertype, an interface annotated with the given
+     * annotation.
+     *
+     * @param javaClass  the class
+     * @param annotation the annotation of the interface
+     * @return {@code true} if any transitive interface of the class is annotated with the annotation
+     */
+    public static boolean implementsInterfaceAnnotatedWith(final JavaClass javaClass,
+        final Class<? extends Annotation> annotation) {
+        return of(javaClass).interfaceAnnotations().contains(annotation.getName());
+    }
+
+    /**
+     * Transitive supertypes of a class, by name, holding no reference to the imported classes.
+     *
+     * @param interfaces            the names of the interfaces implemented by the class or any superclass
+     * @param superclasses          the names of the superclasses of the class
+     * @param interfaceAnnotations  the annotation types present on any of the interfaces
+     * @param superclassAnnotations the annotation types present on any of the superclasses
+     */
+    public record Supertypes(Set<String> interfaces, Set<String> superclasses, Set<String> interfaceAnnotations,
+                             Set<String> superclassAnnotations) {
+
+        static Supertypes of(final JavaClass javaClass) {
+            final Set<JavaClass> interfaces = javaClass.getAllRawInterfaces();
+            final Set<JavaClass> superclasses = Set.copyOf(javaClass.getAllRawSuperclasses());
+
+            return new Supertypes(names(interfaces), names(superclasses), annotations(interfaces),
+                annotations(superclasses));
+        }
+
+        private static Set<String> names(final Collection<JavaClass> classes) {
+            return classes.stream().map(JavaClass::getName).collect(Collectors.toUnmodifiableSet());
+        }
+
+        private static Set<String> annotations(final Collection<JavaClass> classes) {
+            return classes.stream()
+                .flatMap(javaClass -> javaClass.getAnnotations().stream())
+                .map(JavaAnnotation::getRawType)
+                .map(JavaClass::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        }
+
+    }
+
+}
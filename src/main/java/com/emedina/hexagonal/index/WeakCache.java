@@ -0,0 +1,47 @@
+package com.emedina.hexagonal.index;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe memo weakly keyed by imported objects, so that entries live exactly as long as their import.
+ * <p>
+ * Values must not reference the imported objects, or the keys would never become weakly reachable.
+ *
+ * @param <K> the type of the imported objects
+ * @param <V> the type of the memoized values
+ * @author Enrique Medina Montenegro
+ */
+final class WeakCache<K, V> {
+
+    private final Map<K, V> entries = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Function<K, V> computation;
+
+    WeakCache(final Function<K, V> computation) {
+        this.computation = computation;
+    }
+
+    /**
+     * Returns the memoized value of the key, computing it on first access.
+     * <p>
+     * The value is computed outside the lock, so concurrent first accesses to the same key may compute it twice; the
+     * first stored value wins.
+     *
+     * @param key the imported object
+     * @return the value of the key
+     */
+    V get(final K key) {
+        final V cached = this.entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final V computed = this.computation.apply(key);
+        final V previous = this.entries.putIfAbsent(key, computed);
+
+        return previous != null ? previous : computed;
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.emedina.hexagonal.io;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.ApiCatalog;
+import com.emedina.hexagonal.index.SupertypeIndex;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Checker for blocking I/O in the core layers: Shared Kernel, Domain, Commands, Queries and Handlers.
+ * <p>
+ * Blocking I/O belongs in adapters, behind output ports. The allowed libraries of the core layers usually include all
+ * of {@code java..}, so calls into the blocking APIs of the JDK are looked up in a catalog instead: files, sockets,
+ * HTTP, JDBC and processes. Calls through subtypes of a cataloged type, like a JDBC driver's connection, are found
+ * through the {@link SupertypeIndex}. A layer without classes is already reported by its own checker, so these rules
+ * allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class BlockingIoChecker {
+
+    /**
+     * Blocking JDK APIs, by type: an empty set of methods means every method and constructor of the type blocks.
+     */
+    static final ApiCatalog BLOCKING_APIS = blockingApis();
+
+    private static HexagonalArchitectureProperties properties;
+
+    public BlockingIoChecker(final HexagonalArchitectureProperties properties) {
+        BlockingIoChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for blocking I/O in the core layers.
+     * <p>
+     * This method ensures that no class of the shared kernel, domain, commands, queries and handlers calls a
+     * blocking JDK API.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if the FQDN of a core layer is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for blocking I/O in the core layers, in the order they are checked by
+     * {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules, one per core layer
+     * @throws IllegalStateException if the FQDN of a core layer is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for blocking I/O in the core layers of the hexagon described by the given properties,
+     * regardless of the properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules, one per core layer
+     * @throws IllegalStateException if the FQDN of a core layer is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        return Stream.of(
+                layerRule("shared-kernel", "Shared kernel", properties.sharedKernel().fqdns()),
+                layerRule("domain", "Domain", properties.domain().fqdns()),
+                layerRule("command", "Commands", properties.command().fqdns()),
+                layerRule("query", "Queries", properties.query().fqdns()),
+                layerRule("handler", "Handler", properties.handler().fqdns()))
+            .toList();
+    }
+
+    private static LayerRule layerRule(final String layer, final String description, final List<String> packages) {
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException(description + " FQDN is not configured in the properties");
+        }
+
+        final ArchRule noBlockingIoRule = classes()
+            .that().resideInAnyPackage(packages.toArray(new String[0]))
+            .should(notCallBlockingIo())
+            .because("Blocking I/O belongs in adapters, behind output ports")
+            .allowEmptyShould(true);
+
+        return new LayerRule(layer, "noBlockingIoRule", noBlockingIoRule);
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class never calls a blocking JDK API of the catalog.
+     *
+     * @return an ArchCondition that can be used in ArchUnit rules to check for blocking I/O
+     */
+    static ArchCondition<JavaClass> notCallBlockingIo() {
+        return new ArchCondition<>("not call blocking I/O APIs") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getCodeUnitCallsFromSelf().stream()
+                    .filter(BLOCKING_APIS::matches)
+                    .forEach(call -> events.add(SimpleConditionEvent.violated(item,
+                        call.getDescription() + ", which blocks on I/O")));
+            }
+        };
+    }
+
+    private static ApiCatalog blockingApis() {
+        final Map<String, Set<String>> apis = new HashMap<>();
+
+        // Files
+        apis.put("java.io.FileInputStream", Set.of());
+        apis.put("java.io.FileOutputStream", Set.of());
+        apis.put("java.io.FileReader", Set.of());
+        apis.put("java.io.FileWriter", Set.of());
+        apis.put("java.io.RandomAccessFile", Set.of());
+        apis.put("java.io.File", Set.of("exists", "canRead", "canWrite", "isFile", "isDirectory", "length",
+            "lastModified", "createNewFile", "delete", "list", "listFiles", "mkdir", "mkdirs", "renameTo"));
+        apis.put("java.nio.file.Files", Set.of());
+        apis.put("java.nio.channels.FileChannel", Set.of());
+
+        // Network
+        apis.put("java.net.Socket", Set.of());
+        apis.put("java.net.ServerSocket", Set.of());
+        apis.put("java.net.DatagramSocket", Set.of());
+        apis.put("java.net.URLConnection", Set.of());
+        apis.put("java.net.URL", Set.of("openConnection", "openStream", "getContent"));
+        apis.put("java.net.InetAddress", Set.of("getByName", "getAllByName", "getLocalHost", "getHostName",
+            "getCanonicalHostName", "isReachable"));
+        apis.put("java.net.http.HttpClient", Set.of("send"));
+        apis.put("java.nio.channels.SocketChannel", Set.of());
+        apis.put("java.nio.channels.ServerSocketChannel", Set.of());
+        apis.put("java.nio.channels.DatagramChannel", Set.of());
+
+        // JDBC
+        apis.put("java.sql.DriverManager", Set.of());
+        apis.put("java.sql.Connection", Set.of());
+        apis.put("java.sql.Statement", Set.of());
+        apis.put("java.sql.ResultSet", Set.of());
+        apis.put("javax.sql.DataSource", Set.of("getConnection"));
+
+        // Processes
+        apis.put("java.lang.ProcessBuilder", Set.of("start"));
+        apis.put("java.lang.Runtime", Set.of("exec"));
+        apis.put("java.lang.Process", Set.of("waitFor"));
+
+        return new ApiCatalog(apis);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.emedina.hexagonal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted around each operation on the freeze violation store.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Name("com.emedina.hexagonal.Freeze")
+@Label("Hexagonal Freeze Store Operation")
+@Category({"ArchUnit Hexagonal"})
+@Description("Read or write of the violation store backing the frozen hexagonal architecture rules")
+@StackTrace(false)
+public class HexagonalFreezeEvent extends jdk.jfr.Event {
+
+    @Label("Layer")
+    @Description("Layer of the hexagonal architecture the frozen rule belongs to")
+    public String layer;
+
+    @Label("Rule")
+    @Description("Name of the frozen rule within its checker")
+    public String rule;
+
+    @Label("Operation")
+    @Description("Store operation: initialize, contains, read or save")
+    public String operation;
+
+    @Label("Violation Count")
+    @Description("Number of violations read from or saved to the store")
+    public int violationCount;
+
+}
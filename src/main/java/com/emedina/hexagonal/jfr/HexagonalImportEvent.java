@@ -0,0 +1,29 @@
+package com.emedina.hexagonal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted around the import of the classes to check.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Name("com.emedina.hexagonal.Import")
+@Label("Hexagonal Class Import")
+@Category({"ArchUnit Hexagonal"})
+@Description("Import of the Java classes checked by the hexagonal architecture rules")
+@StackTrace(false)
+public class HexagonalImportEvent extends jdk.jfr.Event {
+
+    @Label("Locations")
+    @Description("Packages or paths the classes have been imported from")
+    public String locations;
+
+    @Label("Class Count")
+    @Description("Number of classes imported")
+    public int classCount;
+
+}
@@ -0,0 +1,37 @@
+package com.emedina.hexagonal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted around the evaluation of a single hexagonal architecture rule.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Name("com.emedina.hexagonal.RuleEvaluation")
+@Label("Hexagonal Rule Evaluation")
+@Category({"ArchUnit Hexagonal"})
+@Description("Evaluation of a frozen hexagonal architecture rule against the imported classes")
+@StackTrace(false)
+public class HexagonalRuleEvaluationEvent extends jdk.jfr.Event {
+
+    @Label("Layer")
+    @Description("Layer of the hexagonal architecture the rule belongs to")
+    public String layer;
+
+    @Label("Rule")
+    @Description("Name of the rule within its checker")
+    public String rule;
+
+    @Label("Class Count")
+    @Description("Number of classes the rule has been evaluated against")
+    public int classCount;
+
+    @Label("Violation Count")
+    @Description("Number of violations reported after freezing")
+    public int violationCount;
+
+}
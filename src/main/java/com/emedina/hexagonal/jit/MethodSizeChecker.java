@@ -0,0 +1,145 @@
+package com.emedina.hexagonal.jit;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.MethodSizeProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.BytecodeIndex;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaStaticInitializer;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Checker for the bytecode size of methods against the thresholds of the HotSpot JIT compiler, by default in the
+ * Handlers, Domain and Adapters.
+ * <p>
+ * HotSpot does not inline hot methods larger than {@code -XX:FreqInlineSize} and does not compile methods larger than
+ * {@code -XX:HugeMethodLimit} at all, leaving them interpreted. The code length of every method is read from the class
+ * files through the {@link BytecodeIndex}, and the layers and limits are configured in
+ * {@code performance.method-size}. Static initializers run once and are not checked. A layer without classes is
+ * already reported by its own checker, so these rules allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class MethodSizeChecker {
+
+    private static HexagonalArchitectureProperties properties;
+
+    public MethodSizeChecker(final HexagonalArchitectureProperties properties) {
+        MethodSizeChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for the bytecode size of methods in the configured layers.
+     * <p>
+     * This method performs the following checks:
+     * <ol>
+     * <li>Ensures that no method is too large to be inlined when hot, without being huge.</li>
+     * <li>Ensures that no method is too large to be compiled.</li>
+     * </ol>
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException    if the FQDN of a configured layer is not configured in the properties
+     * @throws IllegalArgumentException if a configured layer is unknown
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for the bytecode size of methods in the configured layers, in the order they are checked by
+     * {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules, two per configured layer
+     * @throws IllegalStateException    if the FQDN of a configured layer is not configured in the properties
+     * @throws IllegalArgumentException if a configured layer is unknown
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for the bytecode size of methods in the configured layers of the hexagon described by the
+     * given properties, regardless of the properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules, two per configured layer
+     * @throws IllegalStateException    if the FQDN of a configured layer is not configured in the properties
+     * @throws IllegalArgumentException if a configured layer is unknown
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        final MethodSizeProperties methodSize = properties.performance().methodSize();
+
+        return methodSize.layers().stream()
+            .flatMap(layer -> layerRules(layer, properties.fqdns(layer), methodSize).stream())
+            .toList();
+    }
+
+    private static List<LayerRule> layerRules(final String layer, final List<String> packages,
+        final MethodSizeProperties methodSize) {
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException("FQDN of layer " + layer + " is not configured in the properties");
+        }
+
+        // Rule 1: Hot methods can be inlined
+        final ArchRule hotInlineMethodSizeRule = classes()
+            .that().resideInAnyPackage(packages.toArray(new String[0]))
+            .should(haveMethodsNotLargerThan(methodSize.hotInlineLimit(), methodSize.hugeMethodLimit(),
+                "too large to be inlined when hot"))
+            .allowEmptyShould(true);
+
+        // Rule 2: Methods can be compiled
+        final ArchRule hugeMethodSizeRule = classes()
+            .that().resideInAnyPackage(packages.toArray(new String[0]))
+            .should(haveMethodsNotLargerThan(methodSize.hugeMethodLimit(), Integer.MAX_VALUE,
+                "too large to be compiled and always interpreted"))
+            .allowEmptyShould(true);
+
+        return List.of(
+            new LayerRule(layer, "hotInlineMethodSizeRule", hotInlineMethodSizeRule),
+            new LayerRule(layer, "hugeMethodSizeRule", hugeMethodSizeRule)
+        );
+    }
+
+    /**
+     * Creates an ArchCondition that checks that no method or constructor of a class has a code length above the
+     * given limit, up to an upper bound left to another rule.
+     *
+     * @param limit       the largest allowed code length, in bytes
+     * @param upperBound  the code length, in bytes, above which methods are not reported by this condition
+     * @param consequence what happens to the methods above the limit, for the violation message
+     * @return an ArchCondition that can be used in ArchUnit rules to check the size of methods
+     */
+    static ArchCondition<JavaClass> haveMethodsNotLargerThan(final int limit, final int upperBound,
+        final String consequence) {
+        return new ArchCondition<>("have methods not larger than " + limit + " bytes of bytecode") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getCodeUnits().stream()
+                    .filter(codeUnit -> !(codeUnit instanceof JavaStaticInitializer))
+                    .forEach(codeUnit -> BytecodeIndex.of(codeUnit)
+                        .filter(bytecode -> bytecode.codeLength() > limit && bytecode.codeLength() <= upperBound)
+                        .ifPresent(bytecode -> events.add(SimpleConditionEvent.violated(item,
+                            String.format("Method %s has %d bytes of bytecode, above %d, and is %s",
+                                codeUnit.getFullName(), bytecode.codeLength(), limit, consequence)))));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.emedina.hexagonal.reflection;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.emedina.hexagonal.index.ApiCatalog;
+import com.emedina.sharedkernel.domain.factory.annotation.Factory;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checker for reflection and dynamic proxies in the layers on the hot path, by default the Domain, Commands, Queries
+ * and Handlers.
+ * <p>
+ * Reflective calls defeat inlining by the JIT compiler. The layers are configured in
+ * {@code performance.reflection.layers}, and classes annotated with {@link Factory} are exempted, since building
+ * objects is their purpose. A layer without classes is already reported by its own checker, so these rules allow it.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+public class ReflectionChecker {
+
+    /**
+     * Reflective JDK APIs, by type: an empty set of methods means every method and constructor of the type.
+     */
+    static final ApiCatalog REFLECTIVE_APIS = reflectiveApis();
+
+    private static HexagonalArchitectureProperties properties;
+
+    public ReflectionChecker(final HexagonalArchitectureProperties properties) {
+        ReflectionChecker.properties = properties;
+    }
+
+    /**
+     * Checks the rules for reflection in the configured layers.
+     * <p>
+     * This method ensures that no class of the configured layers, unless annotated with @Factory, calls a reflective
+     * API or creates a dynamic proxy.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException    if the FQDN of a configured layer is not configured in the properties
+     * @throws IllegalArgumentException if a configured layer is unknown
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for reflection in the configured layers, in the order they are checked by
+     * {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules, one per configured layer
+     * @throws IllegalStateException    if the FQDN of a configured layer is not configured in the properties
+     * @throws IllegalArgumentException if a configured layer is unknown
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for reflection in the configured layers of the hexagon described by the given properties,
+     * regardless of the properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules, one per configured layer
+     * @throws IllegalStateException    if the FQDN of a configured layer is not configured in the properties
+     * @throws IllegalArgumentException if a configured layer is unknown
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        return properties.performance().reflection().layers().stream()
+            .map(layer -> layerRule(layer, properties.fqdns(layer)))
+            .toList();
+    }
+
+    private static LayerRule layerRule(final String layer, final List<String> packages) {
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException("FQDN of layer " + layer + " is not configured in the properties");
+        }
+
+        final ArchRule noReflectionRule = classes()
+            .that().resideInAnyPackage(packages.toArray(new String[0]))
+            .and().areNotAnnotatedWith(Factory.class)
+            .should(notUseReflection())
+            .allowEmptyShould(true);
+
+        return new LayerRule(layer, "noReflectionRule", noReflectionRule);
+    }
+
+    /**
+     * Creates an ArchCondition that checks that a class never calls a reflective API or creates a dynamic proxy.
+     *
+     * @return an ArchCondition that can be used in ArchUnit rules to check for reflection
+     */
+    static ArchCondition<JavaClass> notUseReflection() {
+        return new ArchCondition<>("not use reflection or dynamic proxies") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                item.getCodeUnitCallsFromSelf().stream()
+                    .filter(REFLECTIVE_APIS::matches)
+                    .forEach(call -> events.add(SimpleConditionEvent.violated(item,
+                        call.getDescription() + ", which is reflective and defeats inlining")));
+            }
+        };
+    }
+
+    private static ApiCatalog reflectiveApis() {
+        final Map<String, Set<String>> apis = new HashMap<>();
+
+        // Lookups and instantiation through Class
+        apis.put("java.lang.Class", Set.of("forName", "newInstance", "getMethod", "getMethods",
+            "getDeclaredMethod", "getDeclaredMethods", "getField", "getFields", "getDeclaredField",
+            "getDeclaredFields", "getConstructor", "getConstructors", "getDeclaredConstructor",
+            "getDeclaredConstructors"));
+
+        // Reflective invocation and access
+        apis.put("java.lang.reflect.Method", Set.of("invoke"));
+        apis.put("java.lang.reflect.Constructor", Set.of("newInstance"));
+        apis.put("java.lang.reflect.Field", Set.of("get", "getBoolean", "getByte", "getChar", "getShort", "getInt",
+            "getLong", "getFloat", "getDouble", "set", "setBoolean", "setByte", "setChar", "setShort", "setInt",
+            "setLong", "setFloat", "setDouble"));
+        apis.put("java.lang.reflect.AccessibleObject", Set.of("setAccessible", "trySetAccessible"));
+
+        // Dynamic proxies
+        apis.put("java.lang.reflect.Proxy", Set.of("newProxyInstance", "getProxyClass"));
+
+        return new ApiCatalog(apis);
+    }
+
+}
@@ -5,8 +5,9 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
-import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -21,6 +22,8 @@ import java.util.List;
 @Component
 public class SharedKernelChecker {
 
+    static final String LAYER = "shared-kernel";
+
     private static HexagonalArchitectureProperties properties;
 
     public SharedKernelChecker(final HexagonalArchitectureProperties properties) {
@@ -45,24 +48,48 @@ public class SharedKernelChecker {
      */
     @ArchTest
     public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds the rules for the shared kernel, in the order they are checked by {@link #checkRules(JavaClasses)}.
+     *
+     * @return the named rules for the shared kernel
+     * @throws IllegalStateException if the shared kernel FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules() {
         if (properties == null) {
             throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
         }
 
+        return rules(properties);
+    }
+
+    /**
+     * Builds the rules for the shared kernel of the hexagon described by the given properties, regardless of the
+     * properties the checker has been initialized with.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named rules for the shared kernel
+     * @throws IllegalStateException if the shared kernel FQDN is not configured in the properties
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
         final List<String> sharedKernelPackage = properties.sharedKernel().fqdns();
         if (sharedKernelPackage == null || sharedKernelPackage.isEmpty()) {
             throw new IllegalStateException("Shared kernel FQDN is not configured in the properties");
         }
 
-        final List<String> allowedLibraries = getAllowedLibraries();
-        final String[] allowedPackages = getAllowedPackages(allowedLibraries);
+        final List<String> allowedLibraries = getAllowedLibraries(properties);
+        final String[] allowedPackages = getAllowedPackages(properties, allowedLibraries);
 
         final ArchRule sharedKernelDependencyRule = classes()
             .that().resideInAnyPackage(sharedKernelPackage.toArray(new String[0]))
             .should().onlyDependOnClassesThat()
             .resideInAnyPackage(allowedPackages);
 
-        FreezingArchRule.freeze(sharedKernelDependencyRule).check(javaClasses);
+        return List.of(
+            new LayerRule(LAYER, "sharedKernelDependencyRule", sharedKernelDependencyRule)
+        );
     }
 
     /**
@@ -71,28 +98,33 @@ public class SharedKernelChecker {
      * This method combines the default allowed libraries with any custom libraries
      * specified in the properties.
      *
+     * @param properties the hexagonal architecture properties
      * @return a list of package names representing the allowed libraries
      */
-    static List<String> getAllowedLibraries() {
+    static List<String> getAllowedLibraries(final HexagonalArchitectureProperties properties) {
         final List<String> defaultLibraries = Arrays.asList(
             "java..", "javax..", "lombok..", "io.vavr..", "org.apache.commons.."
         );
         final List<String> customLibraries = properties.sharedKernel().allowedLibraries();
+        final List<String> allowedLibraries = new ArrayList<>();
         if (customLibraries != null && !customLibraries.isEmpty()) {
-            customLibraries.addAll(defaultLibraries);
+            allowedLibraries.addAll(customLibraries);
+            allowedLibraries.addAll(defaultLibraries);
         }
 
-        return customLibraries;
+        return allowedLibraries;
     }
 
     /**
      * Generates an array of allowed package names for the shared kernel.
      * This method combines the allowed libraries with the shared kernel's own package.
      *
+     * @param properties       the hexagonal architecture properties
      * @param allowedLibraries The list of allowed library package names
      * @return an array of package names that the shared kernel is allowed to depend on
      */
-    static String[] getAllowedPackages(final List<String> allowedLibraries) {
+    static String[] getAllowedPackages(final HexagonalArchitectureProperties properties,
+        final List<String> allowedLibraries) {
         final List<String> allowedPackages = new ArrayList<>(allowedLibraries);
         allowedPackages.addAll(properties.sharedKernel().fqdns());
 
@@ -0,0 +1,45 @@
+package com.emedina.hexagonal.spi;
+
+import com.tngtech.archunit.lang.ArchRule;
+
+import java.util.Set;
+
+/**
+ * Service provider interface for custom rules evaluated together with the rules of the built-in checkers.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}, by listing them in
+ * {@code META-INF/services/com.emedina.hexagonal.spi.HexagonalRule}, and need a public no-arg constructor. Each
+ * implementation builds one rule per declared layer, which then runs in the same evaluation as the built-in rules:
+ * over the same imported classes, freezing into the same store and reporting into the same
+ * {@link com.emedina.hexagonal.evaluation.ArchitectureReport}, so that no separate test has to import and scan the
+ * classes again. Predicates and conditions should look at one class at a time and use the shared indexes of the
+ * {@link HexagonalRuleContext}, like the built-in rules.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public interface HexagonalRule {
+
+    /**
+     * Returns the name of the rule, reported with its violations.
+     *
+     * @return the rule name, unique within each of its layers
+     */
+    String name();
+
+    /**
+     * Returns the layers the rule applies to, among {@link HexagonalRuleContext#LAYERS}.
+     *
+     * @return the layer names
+     */
+    Set<String> layers();
+
+    /**
+     * Builds the rule for one of its layers.
+     *
+     * @param layer   the layer, one of {@link #layers()}
+     * @param context the configured packages of the layers and the shared indexes
+     * @return the ArchUnit rule for the classes of the layer
+     */
+    ArchRule build(String layer, HexagonalRuleContext context);
+
+}
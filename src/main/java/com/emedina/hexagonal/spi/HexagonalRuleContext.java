@@ -0,0 +1,91 @@
+package com.emedina.hexagonal.spi;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.index.GenericTypeIndex;
+import com.emedina.hexagonal.index.SignatureIndex;
+import com.emedina.hexagonal.index.SupertypeIndex;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Context handed to a {@link HexagonalRule} when it is built: the configured packages of every layer and predicates
+ * backed by the indexes shared with the built-in checkers.
+ * <p>
+ * The {@link SupertypeIndex}, {@link GenericTypeIndex} and {@link SignatureIndex} memoize what they compute per
+ * imported class, so custom rules using them reuse the work already done by the built-in rules.
+ *
+ * @param properties the hexagonal architecture properties
+ * @author Enrique Medina Montenegro
+ */
+public record HexagonalRuleContext(HexagonalArchitectureProperties properties) {
+
+    /**
+     * Names of the layers rules can apply to, as reported in the violations.
+     */
+    public static final List<String> LAYERS = HexagonalArchitectureProperties.LAYERS;
+
+    /**
+     * Returns the configured packages of the given layer.
+     *
+     * @param layer the layer name, one of {@link #LAYERS}
+     * @return the package identifiers of the layer
+     * @throws IllegalArgumentException if the layer is unknown
+     * @throws IllegalStateException    if the layer is not configured in the properties
+     */
+    public List<String> packages(final String layer) {
+        final List<String> packages = this.properties.fqdns(layer);
+        if (packages == null || packages.isEmpty()) {
+            throw new IllegalStateException("FQDN of layer " + layer + " is not configured in the properties");
+        }
+
+        return packages;
+    }
+
+    /**
+     * Creates a predicate matching the classes of the given layer.
+     *
+     * @param layer the layer name, one of {@link #LAYERS}
+     * @return a predicate for the classes residing in the packages of the layer
+     */
+    public DescribedPredicate<JavaClass> resideInLayer(final String layer) {
+        return JavaClass.Predicates.resideInAnyPackage(packages(layer).toArray(new String[0]));
+    }
+
+    /**
+     * Creates a predicate matching the classes that implement, directly or through any supertype, an interface
+     * annotated with the given annotation, looked up in the {@link SupertypeIndex}.
+     *
+     * @param annotation the annotation of the interface
+     * @return a predicate for the implementing classes
+     */
+    public DescribedPredicate<JavaClass> implementInterfaceAnnotatedWith(final Class<? extends Annotation> annotation) {
+        return DescribedPredicate.describe("implement a @" + annotation.getSimpleName() + " interface",
+            javaClass -> SupertypeIndex.implementsInterfaceAnnotatedWith(javaClass, annotation));
+    }
+
+    /**
+     * Returns the resolved type arguments of every generic supertype of the given class, from the
+     * {@link GenericTypeIndex}.
+     *
+     * @param javaClass the class
+     * @return the type arguments by the name of the generic supertype
+     */
+    public Map<String, List<GenericTypeIndex.TypeArgument>> supertypeArguments(final JavaClass javaClass) {
+        return GenericTypeIndex.supertypeArguments(javaClass);
+    }
+
+    /**
+     * Returns the factory-method and constructor signatures of the given class, from the {@link SignatureIndex}.
+     *
+     * @param javaClass the class
+     * @return the signatures of the class
+     */
+    public SignatureIndex.Signatures signatures(final JavaClass javaClass) {
+        return SignatureIndex.of(javaClass);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.emedina.hexagonal.spi;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.RuleEvaluator;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.junit.ArchTest;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Checker for the custom {@link HexagonalRule}s discovered on the classpath.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public class HexagonalRules {
+
+    private static HexagonalArchitectureProperties properties;
+    private static List<HexagonalRule> providers = List.of();
+
+    /**
+     * Initializes the checker and discovers the custom rules with the {@link ServiceLoader} of the context class
+     * loader.
+     *
+     * @param properties the hexagonal architecture properties
+     * @throws java.util.ServiceConfigurationError if a listed rule cannot be loaded or instantiated
+     */
+    public HexagonalRules(final HexagonalArchitectureProperties properties) {
+        HexagonalRules.properties = properties;
+        HexagonalRules.providers = ServiceLoader.load(HexagonalRule.class).stream()
+            .map(ServiceLoader.Provider::get)
+            .toList();
+    }
+
+    /**
+     * Checks the custom rules, failing on the first rule with violations.
+     *
+     * @param javaClasses the Java classes to check
+     * @throws IllegalStateException if a layer of a custom rule is not configured in the properties
+     */
+    @ArchTest
+    public static void checkRules(final JavaClasses javaClasses) {
+        RuleEvaluator.checkAll(rules(), javaClasses);
+    }
+
+    /**
+     * Builds every discovered custom rule for each of its layers, in discovery order.
+     *
+     * @return the named custom rules, empty if none is discovered
+     * @throws IllegalStateException    if the checker has not been initialized or a layer is not configured
+     * @throws IllegalArgumentException if a custom rule declares an unknown layer
+     */
+    public static List<LayerRule> rules() {
+        if (properties == null) {
+            throw new IllegalStateException("HexagonalArchitectureProperties have not been initialized");
+        }
+
+        return rules(properties);
+    }
+
+    /**
+     * Builds every discovered custom rule for each of its layers in the hexagon described by the given properties.
+     *
+     * @param properties the hexagonal architecture properties
+     * @return the named custom rules, empty if none is discovered
+     * @throws IllegalStateException    if a layer is not configured
+     * @throws IllegalArgumentException if a custom rule declares an unknown layer
+     */
+    public static List<LayerRule> rules(final HexagonalArchitectureProperties properties) {
+        final HexagonalRuleContext context = new HexagonalRuleContext(properties);
+
+        return providers.stream()
+            .flatMap(provider -> provider.layers().stream().sorted()
+                .map(layer -> new LayerRule(layer, provider.name(), provider.build(layer, context))))
+            .toList();
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.emedina.hexagonal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.config.BoundedContextsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.AdapterProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.CommandProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.DomainProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.InputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.OutputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.QueryProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.SharedKernelProperties;
+import com.emedina.hexagonal.evaluation.ArchitectureReport;
+import com.emedina.hexagonal.evaluation.EvaluationMode;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.Violation;
+import com.emedina.hexagonal.fixtures.commands.ValidCommand;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link BoundedContexts}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("BoundedContexts")
+class BoundedContextsTest {
+
+    private static final String CONTEXTS = "com.emedina.hexagonal.fixtures.contexts";
+
+    @TempDir
+    private Path tempDir;
+
+    private JavaClasses contextClasses;
+
+    @BeforeEach
+    void setUp() {
+        ArchConfiguration.get().setProperty("freeze.store.default.path", tempDir.resolve("store").toString());
+        ArchConfiguration.get().setProperty("archRule.failOnEmptyShould", "false");
+        new BoundedContexts(contextsProperties());
+
+        // Freeze an empty store for every rule, so that violations in the fixtures are reported as new
+        BoundedContexts.evaluate(new ClassFileImporter().importClasses(ValidCommand.class), EvaluationMode.FULL);
+        contextClasses = new ClassFileImporter().importPackages(CONTEXTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should prefix the layers of every rule with the name of its context")
+        void shouldPrefixLayersWithContext() {
+            // When
+            List<LayerRule> rules = BoundedContexts.rules();
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer)
+                .allMatch(layer -> layer.startsWith("ordering/") || layer.startsWith("billing/"))
+                .contains("ordering/domain", "ordering/handler", "billing/domain", "billing/adapters");
+            assertThat(rules).filteredOn(rule -> rule.name().equals("crossContextDomainRule"))
+                .extracting(LayerRule::layer)
+                .containsExactly("ordering/domain", "billing/domain");
+        }
+
+        @Test
+        @DisplayName("should fail when no bounded context is configured")
+        void shouldFailWithoutContexts() {
+            // When & Then
+            assertThatThrownBy(() -> BoundedContexts.rules(new BoundedContextsProperties(Map.of())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No bounded context");
+        }
+    }
+
+    @Nested
+    @DisplayName("evaluation")
+    class EvaluationTest {
+
+        @Test
+        @DisplayName("should report a domain depending on the domain of another context")
+        void shouldReportCrossContextDomainDependency() {
+            // When
+            ArchitectureReport report = BoundedContexts.evaluate(contextClasses, EvaluationMode.FULL);
+
+            // Then
+            assertThat(report.violationsOf("ordering/domain")).extracting(Violation::rule)
+                .contains("crossContextDomainRule");
+            assertThat(report.violationsOf("billing/domain")).extracting(Violation::rule)
+                .doesNotContain("crossContextDomainRule");
+        }
+
+        @Test
+        @DisplayName("should report the same violations when evaluating the contexts concurrently")
+        void shouldReportSameViolationsConcurrently() {
+            // Given
+            ArchitectureReport sequential = BoundedContexts.evaluate(contextClasses, EvaluationMode.FULL);
+
+            // When
+            ArchitectureReport concurrent = BoundedContexts.evaluateConcurrently(contextClasses, EvaluationMode.FULL,
+                4);
+
+            // Then
+            assertThat(concurrent).isEqualTo(sequential);
+        }
+    }
+
+    private static BoundedContextsProperties contextsProperties() {
+        final Map<String, HexagonalArchitectureProperties> contexts = new LinkedHashMap<>();
+        contexts.put("ordering", contextProperties(CONTEXTS + ".ordering"));
+        contexts.put("billing", contextProperties(CONTEXTS + ".billing"));
+
+        return new BoundedContextsProperties(contexts);
+    }
+
+    private static HexagonalArchitectureProperties contextProperties(final String context) {
+        return new HexagonalArchitectureProperties(
+            new SharedKernelProperties(List.of(context + ".sharedkernel.."), List.of()),
+            new DomainProperties(List.of(context + ".domain.."), List.of("java..")),
+            new OutputPortsProperties(List.of(context + ".outputports.."), List.of()),
+            new InputPortsProperties(List.of(context + ".inputports.."), List.of()),
+            new CommandProperties(List.of(context + ".commands.."), List.of()),
+            new QueryProperties(List.of(context + ".queries.."), List.of()),
+            new HandlerProperties(List.of(context + ".handlers.."), List.of()),
+            new AdapterProperties(List.of(context + ".adapters.."))
+        );
+    }
+
+}
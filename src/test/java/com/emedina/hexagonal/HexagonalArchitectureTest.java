@@ -0,0 +1,325 @@
+package com.emedina.hexagonal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.AdapterProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.CommandProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.DomainProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.InputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.OutputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.QueryProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.SharedKernelProperties;
+import com.emedina.hexagonal.evaluation.ArchitectureReport;
+import com.emedina.hexagonal.evaluation.EvaluationMode;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.evaluation.Violation;
+import com.emedina.hexagonal.fixtures.commands.ValidCommand;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Unit tests for {@link HexagonalArchitecture}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("HexagonalArchitecture")
+class HexagonalArchitectureTest {
+
+    private static final String FIXTURES = "com.emedina.hexagonal.fixtures";
+
+    @TempDir
+    private Path tempDir;
+
+    private JavaClasses fixtureClasses;
+
+    @BeforeEach
+    void setUp() {
+        ArchConfiguration.get().setProperty("freeze.store.default.path", tempDir.resolve("store").toString());
+        ArchConfiguration.get().setProperty("archRule.failOnEmptyShould", "false");
+        new HexagonalArchitecture(fixtureProperties());
+
+        // Freeze an empty store for every rule, so that violations in the fixtures are reported as new
+        HexagonalArchitecture.evaluate(new ClassFileImporter().importClasses(ValidCommand.class));
+        fixtureClasses = new ClassFileImporter().importPackages(FIXTURES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Nested
+    @DisplayName("aggregated evaluation")
+    class AggregatedEvaluationTest {
+
+        @Test
+        @DisplayName("should report the violations of every layer in a single run")
+        void shouldReportViolationsOfEveryLayer() {
+            // When
+            ArchitectureReport report = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // Then
+            assertThat(report.ruleCount()).isEqualTo(HexagonalArchitecture.rules().size());
+            assertThat(report.hasViolations()).isTrue();
+            assertThat(report.violationsOf("command")).extracting(Violation::rule)
+                .contains("mustHaveValidateThenCreateMethod", "noDefaultConstructorRule");
+            assertThat(report.violationsOf("query")).extracting(Violation::rule)
+                .contains("mustHaveValidateThenCreateMethod", "noDefaultConstructorRule");
+            assertThat(report.violationsOf("handler")).extracting(Violation::rule)
+                .contains("useCaseNamingConventionRule");
+        }
+
+        @Test
+        @DisplayName("should report the violations of the discovered custom rules with those of the checkers")
+        void shouldReportCustomRuleViolations() {
+            // When
+            ArchitectureReport report = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // Then
+            assertThat(report.violationsOf("handler")).extracting(Violation::rule)
+                .contains("useCaseNamingConventionRule", "finalHandlerRule");
+        }
+
+        @Test
+        @DisplayName("should fail with the violations of all rules")
+        void shouldFailWithAllViolations() {
+            // Given
+            ArchitectureReport report = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // When & Then
+            assertThatThrownBy(report::assertNoViolations)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("command.mustHaveValidateThenCreateMethod")
+                .hasMessageContaining("handler.useCaseNamingConventionRule");
+        }
+
+        @Test
+        @DisplayName("should not fail for classes without violations")
+        void shouldNotFailWithoutViolations() {
+            // When
+            ArchitectureReport report = HexagonalArchitecture.evaluate(
+                new ClassFileImporter().importClasses(ValidCommand.class));
+
+            // Then
+            assertThat(report.violations()).isEmpty();
+            assertThatCode(report::assertNoViolations).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should report rules that fail to check any class instead of throwing")
+        void shouldReportEmptyRulesInsteadOfThrowing() {
+            // Given
+            ArchConfiguration.get().setProperty("archRule.failOnEmptyShould", "true");
+
+            // When
+            ArchitectureReport report = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // Then
+            assertThat(report.violationsOf("shared-kernel")).singleElement()
+                .extracting(Violation::message).asString().contains("failed to check any classes");
+        }
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should build the same rules for the initialized properties as for the given ones")
+        void shouldBuildRulesOfInitializedProperties() {
+            // When
+            List<LayerRule> rules = HexagonalArchitecture.rules();
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer, LayerRule::name).containsExactlyElementsOf(
+                HexagonalArchitecture.rules(fixtureProperties()).stream()
+                    .map(layerRule -> tuple(layerRule.layer(), layerRule.name()))
+                    .toList());
+            assertThat(rules).extracting(LayerRule::name)
+                .contains("nativeMethodRule", "noStaticMutableStateRule");
+        }
+    }
+
+    @Nested
+    @DisplayName("evaluation modes")
+    class EvaluationModesTest {
+
+        @Test
+        @DisplayName("should report a single violation in fail-fast mode")
+        void shouldReportSingleViolationInFailFastMode() {
+            // When
+            ArchitectureReport report = HexagonalArchitecture.evaluate(fixtureClasses, EvaluationMode.failFast());
+
+            // Then
+            assertThat(report.violations()).hasSize(1);
+            assertThat(report.complete()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should cap the violations of every rule")
+        void shouldCapViolationsPerRule() {
+            // Given
+            ArchitectureReport full = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // When
+            ArchitectureReport capped = HexagonalArchitecture.evaluate(fixtureClasses, EvaluationMode.cappedAt(1));
+
+            // Then
+            assertThat(capped.violations()).extracting(violation -> violation.layer() + "." + violation.rule())
+                .doesNotHaveDuplicates()
+                .containsExactlyElementsOf(full.violations().stream()
+                    .map(violation -> violation.layer() + "." + violation.rule()).distinct().toList());
+        }
+
+        @Test
+        @DisplayName("should report the same violations in full mode whatever the learnt rule order")
+        void shouldReportSameViolationsWithCostModel() {
+            // Given
+            ArchitectureReport declaredOrder = HexagonalArchitecture.evaluate(fixtureClasses);
+            ArchConfiguration.get().setProperty("hexagonal.costModel.enabled", "true");
+            ArchConfiguration.get().setProperty("hexagonal.costModel.path",
+                tempDir.resolve("rule-costs.properties").toString());
+            HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // When
+            ArchitectureReport learntOrder = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // Then
+            assertThat(learntOrder).isEqualTo(declaredOrder);
+        }
+
+        @Test
+        @DisplayName("should report a complete evaluation in full mode")
+        void shouldBeCompleteInFullMode() {
+            // When
+            ArchitectureReport report = HexagonalArchitecture.evaluate(fixtureClasses, EvaluationMode.FULL);
+
+            // Then
+            assertThat(report.complete()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrent evaluation")
+    class ConcurrentEvaluationTest {
+
+        @Test
+        @DisplayName("should report the same violations as the sequential evaluation")
+        void shouldReportSameViolationsAsSequential() {
+            // Given
+            ArchitectureReport sequential = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // When
+            ArchitectureReport concurrent = HexagonalArchitecture.evaluateConcurrently(fixtureClasses,
+                EvaluationMode.FULL, 4);
+
+            // Then
+            assertThat(concurrent).isEqualTo(sequential);
+        }
+
+        @Test
+        @DisplayName("should stop at the same violation as the sequential evaluation in fail-fast mode")
+        void shouldStopAtSameViolationInFailFastMode() {
+            // Given
+            ArchitectureReport sequential = HexagonalArchitecture.evaluate(fixtureClasses, EvaluationMode.failFast());
+
+            // When
+            ArchitectureReport concurrent = HexagonalArchitecture.evaluateConcurrently(fixtureClasses,
+                EvaluationMode.failFast(), 4);
+
+            // Then
+            assertThat(concurrent).isEqualTo(sequential);
+        }
+
+        @Test
+        @DisplayName("should report the same violations when evaluating every rule over partitions in parallel")
+        void shouldReportSameViolationsOverPartitions() {
+            // Given
+            ArchitectureReport single = HexagonalArchitecture.evaluate(fixtureClasses);
+            ArchConfiguration.get().setProperty("hexagonal.partitions.parallelism", "4");
+            ArchConfiguration.get().setProperty("hexagonal.partitions.size", "4");
+
+            // When
+            ArchitectureReport partitioned = HexagonalArchitecture.evaluate(fixtureClasses);
+
+            // Then
+            assertThat(partitioned).isEqualTo(single);
+        }
+
+        @Test
+        @DisplayName("should freeze every rule in a single store")
+        void shouldFreezeEveryRule() throws IOException {
+            // Given
+            ArchConfiguration.get().setProperty("freeze.store.default.path", tempDir.resolve("concurrent").toString());
+
+            // When
+            HexagonalArchitecture.evaluateConcurrently(fixtureClasses, EvaluationMode.FULL, 4);
+
+            // Then
+            assertThat(storedRules(tempDir.resolve("concurrent"))).isEqualTo(storedRules(tempDir.resolve("store")));
+        }
+    }
+
+    @Nested
+    @DisplayName("streaming evaluation")
+    class StreamingEvaluationTest {
+
+        @Test
+        @DisplayName("should stream the same violations as the aggregated report")
+        void shouldStreamSameViolations() {
+            // Given
+            List<Violation> streamed = new ArrayList<>();
+
+            // When
+            HexagonalArchitecture.evaluate(fixtureClasses, streamed::add);
+
+            // Then
+            assertThat(streamed).isEqualTo(HexagonalArchitecture.evaluate(fixtureClasses).violations());
+        }
+    }
+
+    private static Set<String> storedRules(final Path store) throws IOException {
+        final Properties storedRules = new Properties();
+        try (InputStream input = Files.newInputStream(store.resolve("stored.rules"))) {
+            storedRules.load(input);
+        }
+
+        return storedRules.stringPropertyNames();
+    }
+
+    private static HexagonalArchitectureProperties fixtureProperties() {
+        return new HexagonalArchitectureProperties(
+            new SharedKernelProperties(List.of(FIXTURES + ".sharedkernel.."), List.of()),
+            new DomainProperties(List.of(FIXTURES + ".domain.."), List.of()),
+            new OutputPortsProperties(List.of(FIXTURES + ".outputports.."), List.of()),
+            new InputPortsProperties(List.of(FIXTURES + ".inputports.."), List.of()),
+            new CommandProperties(List.of(FIXTURES + ".commands.."), List.of()),
+            new QueryProperties(List.of(FIXTURES + ".queries.."), List.of()),
+            new HandlerProperties(List.of(FIXTURES + ".handlers.."), List.of()),
+            new AdapterProperties(List.of(FIXTURES + ".adapters.."))
+        );
+    }
+
+}
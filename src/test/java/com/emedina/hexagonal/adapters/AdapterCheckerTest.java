@@ -3,6 +3,8 @@ package com.emedina.hexagonal.adapters;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.emedina.hexagonal.fixtures.adapters.ClassWithNoInterfaces;
+import com.emedina.hexagonal.fixtures.adapters.ExtendedRepositoryImplementation;
+import com.emedina.hexagonal.fixtures.adapters.InheritedRepositoryImplementation;
 import com.emedina.hexagonal.fixtures.adapters.NonRepositoryImplementation;
 import com.emedina.hexagonal.fixtures.adapters.RepositoryImplementation;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -80,6 +82,32 @@ class AdapterCheckerTest {
             // Then
             assertThat(result).isFalse();
         }
+
+        @Test
+        @DisplayName("should return true for class implementing a sub-interface of a @Repository interface")
+        void shouldReturnTrueForSubInterfaceImplementation() {
+            // Given
+            JavaClass extendedRepositoryImpl = fixtureClasses.get(ExtendedRepositoryImplementation.class);
+
+            // When
+            boolean result = predicate.test(extendedRepositoryImpl);
+
+            // Then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("should return true for class inheriting a @Repository interface from its superclass")
+        void shouldReturnTrueForInheritedImplementation() {
+            // Given
+            JavaClass inheritedRepositoryImpl = fixtureClasses.get(InheritedRepositoryImplementation.class);
+
+            // When
+            boolean result = predicate.test(inheritedRepositoryImpl);
+
+            // Then
+            assertThat(result).isTrue();
+        }
     }
 
 }
@@ -0,0 +1,92 @@
+package com.emedina.hexagonal.application;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.emedina.hexagonal.fixtures.commands.ExposingCommand;
+import com.emedina.hexagonal.fixtures.commands.InspectingCommand;
+import com.emedina.hexagonal.fixtures.commands.MutableCommand;
+import com.emedina.hexagonal.fixtures.commands.RecordCommand;
+import com.emedina.hexagonal.fixtures.commands.ValidCommand;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link Immutability}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("Immutability")
+class ImmutabilityTest {
+
+    private final ArchRule rule = classes().should(Immutability.beImmutable("Command"));
+
+    @Test
+    @DisplayName("should be satisfied for a record")
+    void shouldBeSatisfiedForRecord() {
+        // Given
+        JavaClasses classes = new ClassFileImporter().importClasses(RecordCommand.class);
+
+        // When & Then
+        assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("should be satisfied for a class with final fields and no setters")
+    void shouldBeSatisfiedForFinalFields() {
+        // Given
+        JavaClasses classes = new ClassFileImporter().importClasses(ValidCommand.class);
+
+        // When & Then
+        assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("should be violated for a non-final field and a setter")
+    void shouldBeViolatedForMutableClass() {
+        // Given
+        JavaClasses classes = new ClassFileImporter().importClasses(MutableCommand.class);
+
+        // When
+        List<String> details = rule.evaluate(classes).getFailureReport().getDetails();
+
+        // Then
+        assertThat(details).hasSize(2)
+            .anyMatch(detail -> detail.contains("field " + MutableCommand.class.getName() + ".value is not final"))
+            .anyMatch(detail -> detail.contains("declares setter " + MutableCommand.class.getName()
+                + ".setValue(java.lang.String)"));
+    }
+
+    @Test
+    @DisplayName("should be violated for a collection returned without copying it")
+    void shouldBeViolatedForExposedCollection() {
+        // Given
+        JavaClasses classes = new ClassFileImporter().importClasses(ExposingCommand.class);
+
+        // When
+        List<String> details = rule.evaluate(classes).getFailureReport().getDetails();
+
+        // Then
+        assertThat(details).singleElement().asString()
+            .contains("getValues()")
+            .contains("exposes mutable field values without copying it");
+    }
+
+    @Test
+    @DisplayName("should be satisfied for methods reading the length or nullness of a collection or array")
+    void shouldBeSatisfiedForInspectedCollection() {
+        // Given
+        JavaClasses classes = new ClassFileImporter().importClasses(InspectingCommand.class);
+
+        // When & Then
+        assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+    }
+
+}
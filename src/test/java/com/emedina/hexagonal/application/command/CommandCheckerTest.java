@@ -1,13 +1,26 @@
 package com.emedina.hexagonal.application.command;
 
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.AdapterProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.CommandProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.DomainProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.InputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.OutputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.QueryProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.SharedKernelProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
 import com.emedina.hexagonal.fixtures.commands.CommandWithNonStaticMethod;
 import com.emedina.hexagonal.fixtures.commands.CommandWithPublicDefaultConstructor;
+import com.emedina.hexagonal.fixtures.commands.CommandWithRawValidation;
 import com.emedina.hexagonal.fixtures.commands.CommandWithWrongMethodSignature;
 import com.emedina.hexagonal.fixtures.commands.CommandWithoutValidateThenCreate;
+import com.emedina.hexagonal.fixtures.commands.MutableCommand;
 import com.emedina.hexagonal.fixtures.commands.ValidCommand;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
@@ -17,6 +30,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 /**
  * Unit tests for {@link CommandChecker} helper methods.
  *
@@ -66,6 +81,19 @@ class CommandCheckerTest {
                 .hasMessageContaining("does not have a valid validateThenCreate method");
         }
 
+        @Test
+        @DisplayName("should be violated for class returning a raw Validation from validateThenCreate")
+        void shouldBeViolatedForCommandWithRawValidation() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(CommandWithRawValidation.class);
+            ArchRule rule = classes().should(CommandChecker.haveValidateThenCreateMethod());
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("does not have a valid validateThenCreate method");
+        }
+
         @Test
         @DisplayName("should be violated for class with wrong return type in validateThenCreate")
         void shouldBeViolatedForCommandWithWrongReturnType() {
@@ -120,4 +148,52 @@ class CommandCheckerTest {
         }
     }
 
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        private static final String COMMANDS = "com.emedina.hexagonal.fixtures.commands";
+
+        @Test
+        @DisplayName("should not check immutability by default")
+        void shouldNotCheckImmutabilityByDefault() {
+            // When
+            List<LayerRule> rules = CommandChecker.rules(properties(new CommandProperties(List.of(COMMANDS + ".."),
+                List.of())));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::name).doesNotContain("immutabilityRule");
+        }
+
+        @Test
+        @DisplayName("should check immutability when enabled")
+        void shouldCheckImmutabilityWhenEnabled() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importPackages(COMMANDS);
+
+            // When
+            List<LayerRule> rules = CommandChecker.rules(properties(new CommandProperties(List.of(COMMANDS + ".."),
+                List.of(), true)));
+
+            // Then
+            assertThat(rules.getLast().name()).isEqualTo("immutabilityRule");
+            assertThat(rules.getLast().rule().evaluate(classes).getFailureReport().getDetails())
+                .anyMatch(detail -> detail.contains(MutableCommand.class.getName()))
+                .noneMatch(detail -> detail.contains("RecordCommand"));
+        }
+
+        private static HexagonalArchitectureProperties properties(final CommandProperties command) {
+            return new HexagonalArchitectureProperties(
+                new SharedKernelProperties(List.of("com.example.sharedkernel.."), List.of()),
+                new DomainProperties(List.of("com.example.domain.."), List.of()),
+                new OutputPortsProperties(List.of("com.example.outputports.."), List.of()),
+                new InputPortsProperties(List.of("com.example.inputports.."), List.of()),
+                command,
+                new QueryProperties(List.of("com.example.queries.."), List.of()),
+                new HandlerProperties(List.of("com.example.handlers.."), List.of()),
+                new AdapterProperties(List.of("com.example.adapters.."))
+            );
+        }
+    }
+
 }
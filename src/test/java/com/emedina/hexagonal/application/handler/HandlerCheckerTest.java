@@ -5,6 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.handlers.ExtendedHandler;
+import com.emedina.hexagonal.fixtures.handlers.ExtendingHandlerWithWrongNaming;
 import com.emedina.hexagonal.fixtures.handlers.HandlerWithWrongNaming;
 import com.emedina.hexagonal.fixtures.handlers.NonUseCaseHandler;
 import com.emedina.hexagonal.fixtures.handlers.SampleHandler;
@@ -19,6 +23,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 /**
  * Unit tests for {@link HandlerChecker} helper methods.
  *
@@ -84,6 +90,19 @@ class HandlerCheckerTest {
             // Then
             assertThat(result).isTrue();
         }
+
+        @Test
+        @DisplayName("should return true for class implementing a sub-interface of a @UseCase interface")
+        void shouldReturnTrueForSubInterfaceImplementation() {
+            // Given
+            JavaClass extendedHandler = fixtureClasses.get(ExtendedHandler.class);
+
+            // When
+            boolean result = predicate.test(extendedHandler);
+
+            // Then
+            assertThat(result).isTrue();
+        }
     }
 
     @Nested
@@ -126,6 +145,44 @@ class HandlerCheckerTest {
             // When & Then
             assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
         }
+
+        @Test
+        @DisplayName("should be satisfied for handler named after the sub-interface of a @UseCase interface")
+        void shouldBeSatisfiedForSubInterfaceNaming() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(ExtendedHandler.class);
+            ArchRule rule = classes().should(HandlerChecker.followUseCaseNamingConvention());
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("useCaseNamingConventionRule")
+    class UseCaseNamingConventionRuleTest {
+
+        @Test
+        @DisplayName("should check the naming of handlers implementing a sub-interface of a @UseCase interface")
+        void shouldCheckHandlersOfSubInterfaces() {
+            // Given
+            LayerRule namingRule = HandlerChecker.rules(FixtureProperties.of("com.emedina.hexagonal.fixtures",
+                    "handler", List.of("com.emedina.hexagonal.fixtures.handlers..")))
+                .stream()
+                .filter(rule -> "useCaseNamingConventionRule".equals(rule.name()))
+                .findFirst()
+                .orElseThrow();
+
+            // When
+            List<String> details = namingRule.rule().evaluate(fixtureClasses).getFailureReport().getDetails();
+
+            // Then
+            assertThat(details)
+                .anyMatch(detail -> detail.contains("Handler " + ExtendingHandlerWithWrongNaming.class.getSimpleName()
+                    + " implements SampleUseCase, but is not named ExtendedHandler or SampleHandler"))
+                .anyMatch(detail -> detail.contains("Handler HandlerWithWrongNaming implements SampleUseCase"))
+                .noneMatch(detail -> detail.contains("Handler " + ExtendedHandler.class.getSimpleName() + " "));
+        }
     }
 
 }
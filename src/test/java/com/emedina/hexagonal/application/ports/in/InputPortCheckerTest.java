@@ -1,12 +1,22 @@
 package com.emedina.hexagonal.application.ports.in;
 
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.inputports.BaseCommandUseCase;
+import com.emedina.hexagonal.fixtures.inputports.InheritedCommandUseCase;
+import com.emedina.hexagonal.fixtures.inputports.SampleCommand;
 import com.emedina.hexagonal.fixtures.inputports.ValidCommandUseCase;
 import com.emedina.hexagonal.fixtures.inputports.ValidQueryUseCase;
+import com.emedina.hexagonal.index.GenericTypeIndex;
+import com.emedina.hexagonal.index.GenericTypeIndex.TypeArgument;
 import com.emedina.sharedkernel.command.Command;
+import com.emedina.sharedkernel.command.core.CommandHandler;
 import com.emedina.sharedkernel.query.Query;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
@@ -16,6 +26,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 /**
  * Unit tests for {@link InputPortChecker} helper methods.
  *
@@ -76,6 +88,40 @@ class InputPortCheckerTest {
                 .hasMessageContaining("is not assignable to");
         }
 
+        @Test
+        @DisplayName("should resolve the Command type through an intermediate generic interface")
+        void shouldResolveCommandTypeThroughIntermediateInterface() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(InheritedCommandUseCase.class,
+                BaseCommandUseCase.class);
+            ArchRule rule = classes().that().haveSimpleName("InheritedCommandUseCase")
+                .should(InputPortChecker.haveGenericTypeAssignableTo(CommandHandler.class, Command.class, 2));
+
+            // When
+            List<TypeArgument> typeArguments = GenericTypeIndex.supertypeArguments(
+                classes.get(InheritedCommandUseCase.class), CommandHandler.class);
+
+            // Then
+            assertThat(typeArguments).extracting(TypeArgument::name)
+                .containsExactly(Throwable.class.getName(), SampleCommand.class.getName());
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should be violated for an intermediate generic interface when checking for Query type")
+        void shouldBeViolatedThroughIntermediateInterface() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(InheritedCommandUseCase.class,
+                BaseCommandUseCase.class);
+            ArchRule rule = classes().that().haveSimpleName("InheritedCommandUseCase")
+                .should(InputPortChecker.haveGenericTypeAssignableTo(CommandHandler.class, Query.class, 2));
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("SampleCommand at position 2 that is not assignable to Query");
+        }
+
         @Test
         @DisplayName("should handle position out of bounds gracefully")
         void shouldHandlePositionOutOfBounds() {
@@ -90,4 +136,34 @@ class InputPortCheckerTest {
 
     }
 
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should check the Command and Query type arguments at their positions in the handler interfaces")
+        void shouldAcceptValidCommandAndQueryHandlers() {
+            // Given
+            new InputPortChecker(properties());
+            JavaClasses classes = new ClassFileImporter().importClasses(ValidCommandUseCase.class,
+                ValidQueryUseCase.class);
+
+            // When
+            List<LayerRule> rules = InputPortChecker.rules().stream()
+                .filter(rule -> List.of("commandHandlerRule", "queryHandlerRule").contains(rule.name()))
+                .toList();
+
+            // Then
+            assertThat(rules).hasSize(2)
+                .allSatisfy(rule -> assertThat(rule.rule().evaluate(classes).getFailureReport().getDetails())
+                    .isEmpty());
+        }
+
+    }
+
+    private static HexagonalArchitectureProperties properties() {
+        final String inputPorts = "com.emedina.hexagonal.fixtures.inputports";
+        return FixtureProperties.of(inputPorts, "input-ports", List.of(inputPorts + ".."));
+    }
+
 }
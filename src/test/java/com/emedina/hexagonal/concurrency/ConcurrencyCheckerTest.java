@@ -0,0 +1,219 @@
+package com.emedina.hexagonal.concurrency;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.ConcurrencyProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.concurrency.CovariantSynchronizedHandler;
+import com.emedina.hexagonal.fixtures.concurrency.LockingHandler;
+import com.emedina.hexagonal.fixtures.concurrency.NativeHandler;
+import com.emedina.hexagonal.fixtures.concurrency.SynchronizedBlockHandler;
+import com.emedina.hexagonal.fixtures.concurrency.SynchronizedMethodHandler;
+import com.emedina.hexagonal.fixtures.concurrency.WaitingHandler;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link ConcurrencyChecker} helper methods.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ConcurrencyChecker")
+class ConcurrencyCheckerTest {
+
+    private static final String CONCURRENCY = "com.emedina.hexagonal.fixtures.concurrency";
+
+    private final JavaClasses fixtureClasses = new ClassFileImporter().importPackages(CONCURRENCY);
+
+    @Nested
+    @DisplayName("notDeclareMethodsWith condition")
+    class NotDeclareMethodsWithTest {
+
+        @Test
+        @DisplayName("should be violated for a synchronized method")
+        void shouldBeViolatedForSynchronizedMethod() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SynchronizedMethodHandler.class);
+            ArchRule rule = classes().should(ConcurrencyChecker.notDeclareMethodsWith(JavaModifier.SYNCHRONIZED));
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("SynchronizedMethodHandler.handle()")
+                .hasMessageContaining("is synchronized");
+        }
+
+        @Test
+        @DisplayName("should be violated for a native method")
+        void shouldBeViolatedForNativeMethod() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(NativeHandler.class);
+            ArchRule rule = classes().should(ConcurrencyChecker.notDeclareMethodsWith(JavaModifier.NATIVE));
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("is native");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for a synchronized block")
+        void shouldBeSatisfiedForSynchronizedBlock() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SynchronizedBlockHandler.class);
+            ArchRule rule = classes().should(ConcurrencyChecker.notDeclareMethodsWith(JavaModifier.SYNCHRONIZED));
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("notEnterMonitors condition")
+    class NotEnterMonitorsTest {
+
+        @Test
+        @DisplayName("should be violated for a synchronized block")
+        void shouldBeViolatedForSynchronizedBlock() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SynchronizedBlockHandler.class);
+            ArchRule rule = classes().should(ConcurrencyChecker.notEnterMonitors());
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("SynchronizedBlockHandler.handle([Ljava.lang.String;)")
+                .hasMessageContaining("1 synchronized block(s)");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for a lock")
+        void shouldBeSatisfiedForLock() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(LockingHandler.class);
+            ArchRule rule = classes().should(ConcurrencyChecker.notEnterMonitors());
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("notCallObjectWait condition")
+    class NotCallObjectWaitTest {
+
+        @Test
+        @DisplayName("should be violated for a call to Object.wait")
+        void shouldBeViolatedForObjectWait() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(WaitingHandler.class);
+            ArchRule rule = classes().should(ConcurrencyChecker.notCallObjectWait());
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("calls Object.wait");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for a lock")
+        void shouldBeSatisfiedForLock() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(LockingHandler.class);
+            ArchRule rule = classes().should(ConcurrencyChecker.notCallObjectWait());
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("notBeAllowed predicate")
+    class NotBeAllowedTest {
+
+        @Test
+        @DisplayName("should exempt the allowed classes")
+        void shouldExemptAllowedClasses() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SynchronizedBlockHandler.class,
+                WaitingHandler.class);
+            ArchRule rule = classes()
+                .that(ConcurrencyChecker.notBeAllowed(List.of(SynchronizedBlockHandler.class.getName(),
+                    WaitingHandler.class.getName())))
+                .should(ConcurrencyChecker.notEnterMonitors())
+                .allowEmptyShould(true);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should not exempt classes sharing a prefix with an allowed class")
+        void shouldNotExemptClassesSharingPrefix() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SynchronizedBlockHandler.class);
+
+            // When
+            boolean result = ConcurrencyChecker.notBeAllowed(List.of(SynchronizedBlockHandler.class.getName()
+                .replace("Handler", ""))).test(classes.get(SynchronizedBlockHandler.class));
+
+            // Then
+            assertThat(result).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should only report native methods by default")
+        void shouldOnlyReportNativeMethodsByDefault() {
+            // When
+            List<LayerRule> rules = ConcurrencyChecker.rules(
+                FixtureProperties.of(CONCURRENCY, "handler", List.of(CONCURRENCY + "..")));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer, LayerRule::name).containsExactly(
+                tuple("handler", "nativeMethodRule"),
+                tuple("adapters", "nativeMethodRule"));
+            assertThat(rules.getFirst().rule().evaluate(fixtureClasses).getFailureReport().getDetails())
+                .singleElement().asString().contains(NativeHandler.class.getName(), "native frame");
+        }
+
+        @Test
+        @DisplayName("should report synchronized methods and blocks and Object.wait when monitors are enabled")
+        void shouldReportMonitorsWhenEnabled() {
+            // Given
+            ConcurrencyProperties concurrency = new ConcurrencyProperties(List.of(), true);
+
+            // When
+            List<LayerRule> rules = ConcurrencyChecker.rules(FixtureProperties.of(CONCURRENCY, "handler",
+                List.of(CONCURRENCY + ".."), PerformanceProperties.defaults().withConcurrency(concurrency)));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::name).containsExactly(
+                "nativeMethodRule", "synchronizedMethodRule", "synchronizedBlockRule", "objectWaitRule",
+                "nativeMethodRule", "synchronizedMethodRule", "synchronizedBlockRule", "objectWaitRule");
+            assertThat(rules.get(2).rule().evaluate(fixtureClasses).getFailureReport().getDetails())
+                .anyMatch(detail -> detail.contains(SynchronizedBlockHandler.class.getName()))
+                .anyMatch(detail -> detail.contains(CovariantSynchronizedHandler.class.getName() + ".get()"))
+                .allMatch(detail -> detail.contains("contend for their monitors"));
+        }
+    }
+
+}
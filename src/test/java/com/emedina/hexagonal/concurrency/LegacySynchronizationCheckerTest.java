@@ -0,0 +1,130 @@
+package com.emedina.hexagonal.concurrency;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.synchronization.ConcurrentCollectionsHandler;
+import com.emedina.hexagonal.fixtures.synchronization.LegacyCollectionsHandler;
+import com.emedina.hexagonal.fixtures.synchronization.SynchronizedWrapperHandler;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link LegacySynchronizationChecker}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("LegacySynchronizationChecker")
+class LegacySynchronizationCheckerTest {
+
+    private static final String SYNCHRONIZATION = "com.emedina.hexagonal.fixtures.synchronization";
+
+    @Nested
+    @DisplayName("notUseLegacySynchronization condition")
+    class NotUseLegacySynchronizationTest {
+
+        private final ArchRule rule = classes().should(LegacySynchronizationChecker.notUseLegacySynchronization());
+
+        @Test
+        @DisplayName("should be violated for legacy synchronized types and their subtypes")
+        void shouldBeViolatedForLegacyTypes() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(LegacyCollectionsHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("java.util.Vector")
+                .hasMessageContaining("java.util.Stack")
+                .hasMessageContaining("java.lang.StringBuffer")
+                .hasMessageContaining("which synchronizes every call");
+        }
+
+        @Test
+        @DisplayName("should be violated for a synchronized wrapper")
+        void shouldBeViolatedForSynchronizedWrapper() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SynchronizedWrapperHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Collections.synchronizedMap")
+                .hasMessageContaining("which synchronizes every call to the collection");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for concurrent collections and StringBuilder")
+        void shouldBeSatisfiedForConcurrentCollections() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(ConcurrentCollectionsHandler.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should build one rule per core layer, leaving out the adapters")
+        void shouldBuildOneRulePerCoreLayer() {
+            // When
+            List<LayerRule> rules = LegacySynchronizationChecker.rules(properties(List.of(SYNCHRONIZATION + "..")));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer).containsExactly("shared-kernel", "domain",
+                "output-ports", "input-ports", "command", "query", "handler");
+            assertThat(rules).extracting(LayerRule::name).containsOnly("noLegacySynchronizationRule");
+        }
+
+        @Test
+        @DisplayName("should report the classes of the configured handler packages")
+        void shouldReportHandlerClasses() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importPackages(SYNCHRONIZATION);
+            LayerRule handlerRule = LegacySynchronizationChecker.rules(properties(List.of(SYNCHRONIZATION + "..")))
+                .stream()
+                .filter(rule -> "handler".equals(rule.layer()))
+                .findFirst()
+                .orElseThrow();
+
+            // When
+            List<String> details = handlerRule.rule().evaluate(classes).getFailureReport().getDetails();
+
+            // Then
+            assertThat(details)
+                .anyMatch(detail -> detail.contains(LegacyCollectionsHandler.class.getName()))
+                .anyMatch(detail -> detail.contains(SynchronizedWrapperHandler.class.getName()))
+                .noneMatch(detail -> detail.contains(ConcurrentCollectionsHandler.class.getName()));
+        }
+
+        @Test
+        @DisplayName("should throw when a core layer is not configured")
+        void shouldThrowWhenLayerIsNotConfigured() {
+            // When & Then
+            assertThatThrownBy(() -> LegacySynchronizationChecker.rules(properties(List.of())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("FQDN of layer handler is not configured in the properties");
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final List<String> handlerPackages) {
+        return FixtureProperties.of(SYNCHRONIZATION, "handler", handlerPackages);
+    }
+
+}
@@ -3,11 +3,14 @@ package com.emedina.hexagonal.config;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.AdapterProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.BoxingMode;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.BoxingProperties;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.CommandProperties;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.DomainProperties;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.InputPortsProperties;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.OutputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.QueryProperties;
 import com.emedina.hexagonal.config.HexagonalArchitectureProperties.SharedKernelProperties;
 
@@ -220,6 +223,39 @@ class HexagonalArchitecturePropertiesTest {
         }
     }
 
+    @Nested
+    @DisplayName("performance properties")
+    class PerformancePropertiesTest {
+
+        @Test
+        @DisplayName("should default the performance properties when not configured")
+        void shouldDefaultPerformanceProperties() {
+            // Given & When
+            HexagonalArchitectureProperties properties = new HexagonalArchitectureProperties(
+                null, null, null, null, null, null, null, null
+            );
+
+            // Then
+            assertThat(properties.performance()).isEqualTo(PerformanceProperties.defaults());
+            assertThat(properties.performance().methodSize().hotInlineLimit()).isEqualTo(325);
+            assertThat(properties.performance().boxing().mode()).isEqualTo(BoxingMode.WARN);
+        }
+
+        @Test
+        @DisplayName("should replace the properties of a single rule and keep the others")
+        void shouldReplaceSingleRuleProperties() {
+            // Given
+            BoxingProperties boxing = new BoxingProperties(BoxingMode.FAIL, 2);
+
+            // When
+            PerformanceProperties performance = PerformanceProperties.defaults().withBoxing(boxing);
+
+            // Then
+            assertThat(performance.boxing()).isEqualTo(boxing);
+            assertThat(performance.withBoxing(BoxingProperties.defaults())).isEqualTo(PerformanceProperties.defaults());
+        }
+    }
+
     @Nested
     @DisplayName("record equality")
     class RecordEqualityTest {
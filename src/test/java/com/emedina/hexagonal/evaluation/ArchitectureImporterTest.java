@@ -0,0 +1,88 @@
+package com.emedina.hexagonal.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.emedina.hexagonal.fixtures.adapters.ClassWithNoInterfaces;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Unit tests for {@link ArchitectureImporter}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ArchitectureImporter")
+class ArchitectureImporterTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Nested
+    @DisplayName("importPaths")
+    class ImportPathsTest {
+
+        @Test
+        @DisplayName("should import the classes of a JAR file")
+        void shouldImportJarFile() throws IOException {
+            // Given
+            Path jar = jarOf(ClassWithNoInterfaces.class);
+
+            // When
+            JavaClasses classes = ArchitectureImporter.importPaths(jar);
+
+            // Then
+            assertThat(classes.contain(ClassWithNoInterfaces.class)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should import the classes of a directory")
+        void shouldImportDirectory() throws IOException {
+            // Given
+            Path classFile = tempDir.resolve("classes").resolve(classFileName(ClassWithNoInterfaces.class));
+            Files.createDirectories(classFile.getParent());
+            try (InputStream in = classFileOf(ClassWithNoInterfaces.class)) {
+                Files.copy(in, classFile);
+            }
+
+            // When
+            JavaClasses classes = ArchitectureImporter.importPaths(tempDir.resolve("classes"));
+
+            // Then
+            assertThat(classes.contain(ClassWithNoInterfaces.class)).isTrue();
+        }
+    }
+
+    private Path jarOf(final Class<?> type) throws IOException {
+        final Path jar = tempDir.resolve("classes.jar");
+        try (OutputStream out = Files.newOutputStream(jar);
+             JarOutputStream jarOut = new JarOutputStream(out);
+             InputStream in = classFileOf(type)) {
+            jarOut.putNextEntry(new JarEntry(classFileName(type)));
+            in.transferTo(jarOut);
+            jarOut.closeEntry();
+        }
+
+        return jar;
+    }
+
+    private static InputStream classFileOf(final Class<?> type) {
+        return type.getClassLoader().getResourceAsStream(classFileName(type));
+    }
+
+    private static String classFileName(final Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+}
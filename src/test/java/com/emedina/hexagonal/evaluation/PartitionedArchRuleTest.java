@@ -0,0 +1,153 @@
+package com.emedina.hexagonal.evaluation;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PartitionedArchRule}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("PartitionedArchRule")
+class PartitionedArchRuleTest {
+
+    private static final JavaClasses JDK_CLASSES = new ClassFileImporter().importPackages("java.util");
+
+    @AfterEach
+    void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Nested
+    @DisplayName("partitioned evaluation")
+    class PartitionedEvaluationTest {
+
+        @Test
+        @DisplayName("should report the same violations in the same order as a single evaluation")
+        void shouldReportSameViolations() {
+            // Given
+            ArchRule rule = classes().that().resideInAPackage("java.util..").should().beInterfaces();
+
+            // When
+            ArchRule partitioned = new PartitionedArchRule(rule, 4, 64);
+
+            // Then
+            assertThat(partitioned.evaluate(JDK_CLASSES).getFailureReport().getDetails())
+                .isNotEmpty()
+                .containsExactlyElementsOf(rule.evaluate(JDK_CLASSES).getFailureReport().getDetails());
+        }
+
+        @Test
+        @DisplayName("should report dependency violations like a single evaluation")
+        void shouldReportSameDependencyViolations() {
+            // Given
+            ArchRule rule = noClasses().that().resideInAPackage("java.util.concurrent..")
+                .should().dependOnClassesThat().resideInAPackage("java.util.function..");
+
+            // When
+            ArchRule partitioned = new PartitionedArchRule(rule, 4, 64);
+
+            // Then
+            assertThat(partitioned.evaluate(JDK_CLASSES).getFailureReport().getDetails())
+                .containsExactlyElementsOf(rule.evaluate(JDK_CLASSES).getFailureReport().getDetails());
+        }
+
+        @Test
+        @DisplayName("should fail like a single evaluation when no partition has classes to check")
+        void shouldFailWhenNoClassesToCheck() {
+            // Given
+            ArchRule partitioned = new PartitionedArchRule(
+                classes().that().resideInAPackage("com.nowhere..").should().beInterfaces(), 4, 64);
+
+            // When & Then
+            assertThatThrownBy(() -> partitioned.evaluate(JDK_CLASSES))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("failed to check any classes");
+        }
+
+        @Test
+        @DisplayName("should rethrow the failure of a rule on a partition with classes to check")
+        void shouldRethrowRuleFailure() {
+            // Given
+            ArchRule partitioned = new PartitionedArchRule(classes().that().resideInAPackage("java.util..")
+                .should(new ArchCondition<JavaClass>("never be checked") {
+                    @Override
+                    public void check(JavaClass item, ConditionEvents events) {
+                        throw new AssertionError("Class " + item.getName() + " cannot be checked");
+                    }
+                }), 4, 64);
+
+            // When & Then
+            assertThatThrownBy(() -> partitioned.evaluate(JDK_CLASSES))
+                .isInstanceOf(AssertionError.class)
+                .hasStackTraceContaining("cannot be checked");
+        }
+
+        @Test
+        @DisplayName("should only skip the partitions without classes to check")
+        void shouldSkipPartitionsWithoutClassesToCheck() {
+            // Given
+            ArchRule rule = classes().that().resideInAPackage("java.util.concurrent.atomic..").should().beInterfaces();
+
+            // When
+            ArchRule partitioned = new PartitionedArchRule(rule, 4, 64);
+
+            // Then
+            assertThat(partitioned.evaluate(JDK_CLASSES).getFailureReport().getDetails())
+                .isNotEmpty()
+                .containsExactlyElementsOf(rule.evaluate(JDK_CLASSES).getFailureReport().getDetails());
+        }
+
+        @Test
+        @DisplayName("should keep the description of the rule")
+        void shouldKeepDescription() {
+            // Given
+            ArchRule rule = classes().should().beInterfaces().because("it is a test");
+
+            // When & Then
+            assertThat(new PartitionedArchRule(rule, 4, 64).getDescription()).isEqualTo(rule.getDescription());
+        }
+    }
+
+    @Nested
+    @DisplayName("configuration")
+    class ConfigurationTest {
+
+        @Test
+        @DisplayName("should not partition by default")
+        void shouldNotPartitionByDefault() {
+            // Given
+            ArchRule rule = classes().should().beInterfaces();
+
+            // When & Then
+            assertThat(PartitionedArchRule.configured(rule)).isSameAs(rule);
+        }
+
+        @Test
+        @DisplayName("should partition when parallelism is configured")
+        void shouldPartitionWhenConfigured() {
+            // Given
+            ArchConfiguration.get().setProperty(PartitionedArchRule.PARALLELISM_PROPERTY, "4");
+
+            // When & Then
+            assertThat(PartitionedArchRule.configured(classes().should().beInterfaces()))
+                .isInstanceOf(PartitionedArchRule.class);
+        }
+    }
+
+}
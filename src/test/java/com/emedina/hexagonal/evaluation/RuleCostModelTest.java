@@ -0,0 +1,200 @@
+package com.emedina.hexagonal.evaluation;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Unit tests for {@link RuleCostModel}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("RuleCostModel")
+class RuleCostModelTest {
+
+    private static final LayerRule EXPENSIVE = layerRule("expensiveRule");
+    private static final LayerRule CHEAP_PASSING = layerRule("cheapPassingRule");
+    private static final LayerRule CHEAP_FAILING = layerRule("cheapFailingRule");
+    private static final List<LayerRule> DECLARED = List.of(EXPENSIVE, CHEAP_PASSING, CHEAP_FAILING);
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Nested
+    @DisplayName("ordering")
+    class OrderingTest {
+
+        @Test
+        @DisplayName("should keep the declared order without statistics")
+        void shouldKeepDeclaredOrderWithoutStatistics() {
+            // Given
+            RuleCostModel model = RuleCostModel.load(tempDir.resolve("rule-costs.properties"));
+
+            // When & Then
+            assertThat(model.order(DECLARED)).isEqualTo(DECLARED);
+        }
+
+        @Test
+        @DisplayName("should evaluate cheap rules likely to fail first")
+        void shouldOrderCheapFailingRulesFirst() {
+            // Given
+            RuleCostModel model = RuleCostModel.load(tempDir.resolve("rule-costs.properties"));
+            for (int run = 0; run < 5; run++) {
+                model.record(EXPENSIVE, 1_000_000, true);
+                model.record(CHEAP_PASSING, 1_000, false);
+                model.record(CHEAP_FAILING, 1_000, true);
+            }
+
+            // When & Then
+            assertThat(model.order(DECLARED)).containsExactly(CHEAP_FAILING, CHEAP_PASSING, EXPENSIVE);
+        }
+
+        @Test
+        @DisplayName("should not let evaluations stopped early make a rule look cheap")
+        void shouldIgnoreDurationOfEvaluationsStoppedEarly() {
+            // Given
+            RuleCostModel model = RuleCostModel.load(tempDir.resolve("rule-costs.properties"));
+            model.record(EXPENSIVE, 1_000_000, true);
+            model.record(CHEAP_PASSING, 1_000, false);
+            model.record(CHEAP_FAILING, 1_000, true);
+            for (int run = 0; run < 5; run++) {
+                model.recordStoppedEarly(EXPENSIVE);
+            }
+
+            // When & Then
+            assertThat(model.order(DECLARED)).containsExactly(CHEAP_FAILING, CHEAP_PASSING, EXPENSIVE);
+        }
+
+        @Test
+        @DisplayName("should keep the declared order when disabled")
+        void shouldKeepDeclaredOrderWhenDisabled() {
+            // Given
+            RuleCostModel model = RuleCostModel.configured();
+            model.record(CHEAP_FAILING, 1_000, true);
+
+            // When & Then
+            assertThat(model.order(DECLARED)).isEqualTo(DECLARED);
+        }
+    }
+
+    @Nested
+    @DisplayName("persistence")
+    class PersistenceTest {
+
+        @Test
+        @DisplayName("should reload the statistics saved by a previous run")
+        void shouldReloadSavedStatistics() {
+            // Given
+            Path file = tempDir.resolve("costs").resolve("rule-costs.properties");
+            RuleCostModel model = RuleCostModel.load(file);
+            model.record(EXPENSIVE, 1_000_000, false);
+            model.record(CHEAP_FAILING, 1_000, true);
+
+            // When
+            model.save();
+
+            // Then
+            assertThat(RuleCostModel.load(file).order(DECLARED)).containsExactly(CHEAP_FAILING, CHEAP_PASSING,
+                EXPENSIVE);
+        }
+
+        @Test
+        @DisplayName("should store the evaluated rules when enabled")
+        void shouldStoreEvaluatedRulesWhenEnabled() {
+            // Given
+            Path file = tempDir.resolve("rule-costs.properties");
+            ArchConfiguration.get().setProperty("freeze.store.default.path", tempDir.resolve("store").toString());
+            ArchConfiguration.get().setProperty(RuleCostModel.ENABLED_PROPERTY, "true");
+            ArchConfiguration.get().setProperty(RuleCostModel.PATH_PROPERTY, file.toString());
+
+            // When
+            RuleEvaluator.evaluateAll(List.of(CHEAP_FAILING),
+                new ClassFileImporter().importClasses(RuleCostModelTest.class));
+
+            // Then
+            assertThat(file).content().contains("layer.cheapFailingRule=1,");
+        }
+    }
+
+    @Nested
+    @DisplayName("damaged file")
+    class DamagedFileTest {
+
+        @Test
+        @DisplayName("should discard the entries that cannot be parsed")
+        void shouldDiscardUnparseableEntries() throws IOException {
+            // Given
+            Path file = tempDir.resolve("rule-costs.properties");
+            Files.writeString(file, """
+                layer.expensiveRule=5,
+                layer.cheapPassingRule=five,0,1000
+                layer.cheapFailingRule=5,5,1000
+                """);
+
+            // When
+            RuleCostModel model = RuleCostModel.load(file);
+
+            // Then
+            assertThat(model.order(DECLARED)).containsExactly(CHEAP_FAILING, EXPENSIVE, CHEAP_PASSING);
+        }
+
+        @Test
+        @DisplayName("should evaluate the rules and rewrite the file when it cannot be parsed")
+        void shouldEvaluateWithDamagedFile() throws IOException {
+            // Given
+            Path file = tempDir.resolve("rule-costs.properties");
+            Files.writeString(file, "layer.cheapFailingRule=1,1\n");
+            ArchConfiguration.get().setProperty("freeze.store.default.path", tempDir.resolve("store").toString());
+            ArchConfiguration.get().setProperty(RuleCostModel.ENABLED_PROPERTY, "true");
+            ArchConfiguration.get().setProperty(RuleCostModel.PATH_PROPERTY, file.toString());
+
+            // When
+            ArchitectureReport report = RuleEvaluator.evaluateAll(List.of(CHEAP_FAILING),
+                new ClassFileImporter().importClasses(RuleCostModelTest.class));
+
+            // Then
+            assertThat(report.complete()).isTrue();
+            assertThat(file).content().contains("layer.cheapFailingRule=1,0,");
+        }
+
+        @Test
+        @DisplayName("should only count the failure of a rule stopped early by the violation cap")
+        void shouldNotRecordDurationOfRuleStoppedEarly() {
+            // Given
+            Path file = tempDir.resolve("rule-costs.properties");
+            ArchConfiguration.get().setProperty("freeze.store.default.path", tempDir.resolve("store").toString());
+            ArchConfiguration.get().setProperty(RuleCostModel.ENABLED_PROPERTY, "true");
+            ArchConfiguration.get().setProperty(RuleCostModel.PATH_PROPERTY, file.toString());
+
+            // When
+            RuleEvaluator.evaluateAll(List.of(CHEAP_FAILING),
+                new ClassFileImporter().importClasses(RuleCostModelTest.class), EvaluationMode.failFast());
+
+            // Then
+            assertThat(file).content().contains("layer.cheapFailingRule=1,1,NaN");
+        }
+    }
+
+    private static LayerRule layerRule(final String name) {
+        return new LayerRule("layer", name, classes().should().beInterfaces());
+    }
+
+}
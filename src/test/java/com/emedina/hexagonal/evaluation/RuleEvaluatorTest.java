@@ -0,0 +1,260 @@
+package com.emedina.hexagonal.evaluation;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.fixtures.adapters.ClassWithNoInterfaces;
+import com.emedina.hexagonal.fixtures.adapters.SampleRepositoryInterface;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for {@link RuleEvaluator}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("RuleEvaluator")
+class RuleEvaluatorTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private JavaClasses fixtureClasses;
+
+    @BeforeEach
+    void setUp() {
+        ArchConfiguration.get().setProperty("freeze.store.default.path", tempDir.resolve("store").toString());
+        fixtureClasses = new ClassFileImporter().importClasses(ClassWithNoInterfaces.class,
+            SampleRepositoryInterface.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Nested
+    @DisplayName("rule evaluation")
+    class EvaluationTest {
+
+        @Test
+        @DisplayName("should pass check for satisfied rule")
+        void shouldPassForSatisfiedRule() {
+            // Given
+            LayerRule layerRule = new LayerRule("adapters", "notInterfacesRule",
+                classes().that().haveSimpleName("ClassWithNoInterfaces").should().notBeInterfaces());
+
+            // When & Then
+            assertThatCode(() -> RuleEvaluator.check(layerRule, fixtureClasses)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should freeze existing violations on first evaluation")
+        void shouldFreezeViolationsOnFirstEvaluation() {
+            // Given
+            LayerRule layerRule = new LayerRule("adapters", "interfacesRule",
+                classes().that().haveSimpleName("ClassWithNoInterfaces").should().beInterfaces());
+
+            // When
+            EvaluationResult result = RuleEvaluator.evaluate(layerRule, fixtureClasses);
+
+            // Then
+            assertThat(result.hasViolation()).isFalse();
+            assertThat(tempDir.resolve("store")).isNotEmptyDirectory();
+        }
+    }
+
+    @Nested
+    @DisplayName("capped evaluation")
+    class CappedEvaluationTest {
+
+        private final JavaClasses jdkClasses = new ClassFileImporter().importPackages("java.util");
+
+        private final LayerRule layerRule = new LayerRule("domain", "jdkInterfacesRule",
+            classes().that().resideInAPackage("java.util..").should().beInterfaces().allowEmptyShould(true));
+
+        @Test
+        @DisplayName("should stop at the violation cap")
+        void shouldStopAtViolationCap() {
+            // Given
+            RuleEvaluator.evaluate(layerRule, fixtureClasses);
+
+            // When
+            List<String> violations = RuleEvaluator.evaluateCapped(layerRule, jdkClasses, 3);
+
+            // Then
+            assertThat(jdkClasses.size()).isGreaterThan(RuleEvaluator.FIRST_PARTITION_SIZE);
+            assertThat(violations).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("should report the same violations as a full evaluation when under the cap")
+        void shouldReportSameViolationsUnderCap() {
+            // Given
+            RuleEvaluator.evaluate(layerRule, fixtureClasses);
+
+            // When
+            List<String> capped = RuleEvaluator.evaluateCapped(layerRule, jdkClasses, Integer.MAX_VALUE - 1);
+
+            // Then
+            assertThat(capped).containsExactlyInAnyOrderElementsOf(
+                RuleEvaluator.evaluate(layerRule, jdkClasses).getFailureReport().getDetails());
+        }
+
+        @Test
+        @DisplayName("should report all violations of a rule missing from the freeze store")
+        void shouldReportViolationsOfRuleMissingFromStore() {
+            // When
+            List<String> violations = RuleEvaluator.evaluateCapped(layerRule, jdkClasses, 3);
+
+            // Then
+            assertThat(violations).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("should stop when the evaluating thread is interrupted")
+        void shouldStopWhenInterrupted() {
+            // Given
+            RuleEvaluator.evaluate(layerRule, fixtureClasses);
+            Thread.currentThread().interrupt();
+
+            // When & Then
+            try {
+                assertThatThrownBy(() -> RuleEvaluator.evaluateCapped(layerRule, jdkClasses, Integer.MAX_VALUE - 1))
+                    .isInstanceOf(CancellationException.class)
+                    .hasMessage("Evaluation of domain.jdkInterfacesRule interrupted");
+            } finally {
+                Thread.interrupted();
+            }
+        }
+
+        @Test
+        @DisplayName("should not write the freeze store")
+        void shouldNotWriteFreezeStore() {
+            // Given
+            RuleEvaluator.evaluateCapped(layerRule, jdkClasses, 1);
+
+            // When
+            EvaluationResult result = RuleEvaluator.evaluate(layerRule, jdkClasses);
+
+            // Then
+            assertThat(result.hasViolation()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should stop the whole evaluation at the first failing rule in fail-fast mode")
+        void shouldStopAtFirstFailingRule() {
+            // Given
+            LayerRule satisfiedRule = new LayerRule("adapters", "notInterfacesRule",
+                classes().that().haveSimpleName("ClassWithNoInterfaces").should().notBeInterfaces());
+            RuleEvaluator.evaluate(layerRule, fixtureClasses);
+
+            // When
+            ArchitectureReport report = RuleEvaluator.evaluateAll(List.of(layerRule, satisfiedRule), jdkClasses,
+                EvaluationMode.failFast());
+
+            // Then
+            assertThat(report.violations()).singleElement()
+                .extracting(Violation::rule).isEqualTo("jdkInterfacesRule");
+            assertThat(report.complete()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("JFR events")
+    class JfrEventsTest {
+
+        @Test
+        @DisplayName("should emit rule evaluation event with layer, rule and class count")
+        void shouldEmitRuleEvaluationEvent() throws Exception {
+            // Given
+            LayerRule layerRule = new LayerRule("adapters", "notInterfacesRule",
+                classes().that().haveSimpleName("ClassWithNoInterfaces").should().notBeInterfaces());
+
+            // When
+            List<RecordedEvent> events = record("com.emedina.hexagonal.RuleEvaluation",
+                () -> RuleEvaluator.evaluate(layerRule, fixtureClasses));
+
+            // Then
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("layer")).isEqualTo("adapters");
+                assertThat(event.getString("rule")).isEqualTo("notInterfacesRule");
+                assertThat(event.getInt("classCount")).isEqualTo(2);
+                assertThat(event.getInt("violationCount")).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("should emit freeze events for the store operations of a rule")
+        void shouldEmitFreezeEvents() throws Exception {
+            // Given
+            LayerRule layerRule = new LayerRule("adapters", "interfacesRule",
+                classes().that().haveSimpleName("ClassWithNoInterfaces").should().beInterfaces());
+
+            // When
+            List<RecordedEvent> events = record("com.emedina.hexagonal.Freeze",
+                () -> RuleEvaluator.evaluate(layerRule, fixtureClasses));
+
+            // Then
+            assertThat(events).isNotEmpty()
+                .allSatisfy(event -> assertThat(event.getString("rule")).isEqualTo("interfacesRule"));
+            assertThat(events).extracting(event -> event.getString("operation"))
+                .contains("initialize", "contains", "save");
+        }
+
+        @Test
+        @DisplayName("should emit import event with the number of imported classes")
+        void shouldEmitImportEvent() throws Exception {
+            // When
+            List<RecordedEvent> events = record("com.emedina.hexagonal.Import",
+                () -> ArchitectureImporter.importPackages("com.emedina.hexagonal.fixtures.adapters"));
+
+            // Then
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("locations")).isEqualTo("com.emedina.hexagonal.fixtures.adapters");
+                assertThat(event.getInt("classCount")).isPositive();
+            });
+        }
+
+        private List<RecordedEvent> record(final String eventName, final Callable<?> action) throws Exception {
+            final Path file = tempDir.resolve("recording.jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable(eventName);
+                recording.start();
+                action.call();
+                recording.stop();
+                recording.dump(file);
+            }
+
+            return readEvents(file, eventName);
+        }
+
+        private List<RecordedEvent> readEvents(final Path file, final String eventName) throws IOException {
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+        }
+    }
+
+}
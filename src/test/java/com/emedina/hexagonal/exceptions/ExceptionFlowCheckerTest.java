@@ -0,0 +1,168 @@
+package com.emedina.hexagonal.exceptions;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.ExceptionsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.exceptions.commands.LambdaThrowingCommand;
+import com.emedina.hexagonal.fixtures.exceptions.commands.ThrowingCommand;
+import com.emedina.hexagonal.fixtures.exceptions.commands.ValidatingCommand;
+import com.emedina.hexagonal.fixtures.exceptions.handlers.CleaningUpHandler;
+import com.emedina.hexagonal.fixtures.exceptions.handlers.ThrowingHandler;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link ExceptionFlowChecker}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ExceptionFlowChecker")
+class ExceptionFlowCheckerTest {
+
+    private static final String EXCEPTIONS = "com.emedina.hexagonal.fixtures.exceptions";
+
+    @Nested
+    @DisplayName("notUseExceptionsIn condition")
+    class NotUseExceptionsInTest {
+
+        private final ArchRule rule = classes().should(ExceptionFlowChecker.notUseExceptionsIn(
+            ExceptionFlowChecker::isValidateThenCreate, "validateThenCreate", List.of()));
+
+        @Test
+        @DisplayName("should be violated for an exception thrown by validateThenCreate")
+        void shouldBeViolatedForThrownException() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(ThrowingCommand.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("calls constructor <java.lang.IllegalArgumentException.<init>")
+                .hasMessageContaining("throws java.lang.IllegalArgumentException");
+        }
+
+        @Test
+        @DisplayName("should be violated for an exception created in a lambda of validateThenCreate")
+        void shouldBeViolatedForExceptionInLambda() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(LambdaThrowingCommand.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("calls constructor <java.lang.IllegalStateException.<init>")
+                .hasMessageContaining("validateThenCreate(java.lang.String) throws java.lang.IllegalStateException");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for exceptions outside validateThenCreate")
+        void shouldBeSatisfiedOutsideValidateThenCreate() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(ValidatingCommand.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should be satisfied for allowed exceptions and their subclasses")
+        void shouldBeSatisfiedForAllowedExceptions() {
+            // Given
+            ArchRule allowingRule = classes().should(ExceptionFlowChecker.notUseExceptionsIn(
+                ExceptionFlowChecker::isValidateThenCreate, "validateThenCreate",
+                List.of(RuntimeException.class.getName())));
+            JavaClasses classes = new ClassFileImporter().importClasses(ThrowingCommand.class,
+                LambdaThrowingCommand.class);
+
+            // When & Then
+            assertThatCode(() -> allowingRule.check(classes)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should be satisfied for the rethrows generated for finally, try-with-resources and synchronized")
+        void shouldBeSatisfiedForGeneratedRethrows() {
+            // Given
+            ArchRule handlerRule = classes().should(ExceptionFlowChecker.notUseExceptionsIn(
+                method -> true, "handler methods", List.of()));
+            JavaClasses classes = new ClassFileImporter().importClasses(CleaningUpHandler.class);
+
+            // When & Then
+            assertThatCode(() -> handlerRule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        private final JavaClasses fixtureClasses = new ClassFileImporter().importPackages(EXCEPTIONS);
+
+        @Test
+        @DisplayName("should check validateThenCreate in commands and queries and application services in handlers")
+        void shouldCheckCommandsQueriesAndHandlers() {
+            // When
+            List<LayerRule> rules = ExceptionFlowChecker.rules(properties(List.of()));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer).containsExactly("command", "query", "handler");
+            assertThat(rules.get(0).rule().evaluate(fixtureClasses).getFailureReport().getDetails())
+                .anyMatch(detail -> detail.contains("ThrowingCommand"))
+                .noneMatch(detail -> detail.contains("ValidatingCommand"));
+        }
+
+        @Test
+        @DisplayName("should report new and rethrown exceptions of application services only")
+        void shouldReportApplicationServices() {
+            // Given
+            LayerRule handlerRule = ExceptionFlowChecker.rules(properties(List.of())).get(2);
+
+            // When
+            List<String> details = handlerRule.rule().evaluate(fixtureClasses).getFailureReport().getDetails();
+
+            // Then
+            assertThat(details)
+                .anyMatch(detail -> detail.contains(ThrowingHandler.class.getName() + ".handle(java.lang.String) "
+                    + "throws java.lang.UnsupportedOperationException"))
+                .anyMatch(detail -> detail.contains("throws java.lang.Throwable"))
+                .noneMatch(detail -> detail.contains("PlainThrowingService"))
+                .noneMatch(detail -> detail.contains(CleaningUpHandler.class.getName()));
+        }
+
+        @Test
+        @DisplayName("should fail when the handler FQDN is not configured")
+        void shouldFailWithoutHandlerFqdn() {
+            // Given
+            HexagonalArchitectureProperties properties = properties(List.of());
+            HexagonalArchitectureProperties withoutHandler = new HexagonalArchitectureProperties(
+                properties.sharedKernel(), properties.domain(), properties.outputPorts(), properties.inputPorts(),
+                properties.command(), properties.query(), new HandlerProperties(List.of(), List.of()),
+                properties.adapters(), properties.performance());
+
+            // When & Then
+            assertThatThrownBy(() -> ExceptionFlowChecker.rules(withoutHandler))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Handler FQDN is not configured in the properties");
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final List<String> allowedExceptions) {
+        return FixtureProperties.of(EXCEPTIONS,
+            PerformanceProperties.defaults().withExceptions(new ExceptionsProperties(allowedExceptions)));
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.emedina.hexagonal.fixtures;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.AdapterProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.CommandProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.DomainProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.InputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.OutputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.QueryProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.SharedKernelProperties;
+
+import java.util.List;
+
+/**
+ * Properties of a hexagon laid out in a package of fixtures, each layer in its own subpackage, like
+ * {@code <fixtures>.domain..} or {@code <fixtures>.handlers..}, none of them allowing any library.
+ */
+public final class FixtureProperties {
+
+    private FixtureProperties() {
+    }
+
+    /**
+     * Creates the properties of the hexagon in the given package of fixtures, with the given performance properties.
+     *
+     * @param fixtures    the package of the fixtures
+     * @param performance the properties for the performance rules
+     * @return the properties of the hexagon
+     */
+    public static HexagonalArchitectureProperties of(final String fixtures, final PerformanceProperties performance) {
+        return of(fixtures, "", List.of(), performance);
+    }
+
+    /**
+     * Creates the properties of the hexagon in the given package of fixtures, with the given packages for one layer
+     * and the default performance properties.
+     *
+     * @param fixtures the package of the fixtures
+     * @param layer    the layer to configure with the given packages, one of
+     *                 {@link HexagonalArchitectureProperties#LAYERS}
+     * @param packages the packages of the layer
+     * @return the properties of the hexagon
+     */
+    public static HexagonalArchitectureProperties of(final String fixtures, final String layer,
+        final List<String> packages) {
+        return of(fixtures, layer, packages, PerformanceProperties.defaults());
+    }
+
+    /**
+     * Creates the properties of the hexagon in the given package of fixtures, with the given packages for one layer
+     * and the given performance properties.
+     *
+     * @param fixtures    the package of the fixtures
+     * @param layer       the layer to configure with the given packages, one of
+     *                    {@link HexagonalArchitectureProperties#LAYERS}
+     * @param packages    the packages of the layer
+     * @param performance the properties for the performance rules
+     * @return the properties of the hexagon
+     */
+    public static HexagonalArchitectureProperties of(final String fixtures, final String layer,
+        final List<String> packages, final PerformanceProperties performance) {
+        return new HexagonalArchitectureProperties(
+            new SharedKernelProperties(packages(fixtures, layer, packages, "shared-kernel", "sharedkernel"), List.of()),
+            new DomainProperties(packages(fixtures, layer, packages, "domain", "domain"), List.of()),
+            new OutputPortsProperties(packages(fixtures, layer, packages, "output-ports", "outputports"), List.of()),
+            new InputPortsProperties(packages(fixtures, layer, packages, "input-ports", "inputports"), List.of()),
+            new CommandProperties(packages(fixtures, layer, packages, "command", "commands"), List.of()),
+            new QueryProperties(packages(fixtures, layer, packages, "query", "queries"), List.of()),
+            new HandlerProperties(packages(fixtures, layer, packages, "handler", "handlers"), List.of()),
+            new AdapterProperties(packages(fixtures, layer, packages, "adapters", "adapters")),
+            performance
+        );
+    }
+
+    private static List<String> packages(final String fixtures, final String configuredLayer,
+        final List<String> configuredPackages, final String layer, final String subpackage) {
+        return layer.equals(configuredLayer) ? configuredPackages : List.of(fixtures + "." + subpackage + "..");
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.emedina.hexagonal.fixtures.adapters;
+
+/**
+ * An adapter class that implements a sub-interface of a @Repository interface.
+ * The implementRepositoryInterface predicate should return true for this class.
+ */
+public class ExtendedRepositoryImplementation implements ExtendedRepositoryInterface {
+
+    @Override
+    public void save(Object entity) {
+        // Implementation
+    }
+
+    @Override
+    public Object findById(String id) {
+        return null;
+    }
+
+    @Override
+    public void delete(String id) {
+        // Implementation
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.emedina.hexagonal.fixtures.adapters;
+
+/**
+ * A repository interface extending a @Repository interface, without being annotated itself.
+ */
+public interface ExtendedRepositoryInterface extends SampleRepositoryInterface {
+
+    void delete(String id);
+
+}
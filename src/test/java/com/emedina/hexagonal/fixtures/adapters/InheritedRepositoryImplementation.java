@@ -0,0 +1,9 @@
+package com.emedina.hexagonal.fixtures.adapters;
+
+/**
+ * An adapter class that inherits the @Repository interface from its superclass.
+ * The implementRepositoryInterface predicate should return true for this class.
+ */
+public class InheritedRepositoryImplementation extends RepositoryImplementation {
+
+}
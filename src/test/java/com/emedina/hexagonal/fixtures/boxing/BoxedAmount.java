@@ -0,0 +1,9 @@
+package com.emedina.hexagonal.fixtures.boxing;
+
+/**
+ * A record with an array of boxed values.
+ * Its boxing score should be 2.
+ */
+public record BoxedAmount(Double[] values, long total) {
+
+}
@@ -0,0 +1,32 @@
+package com.emedina.hexagonal.fixtures.boxing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A domain class with boxed fields and containers of boxed values.
+ * Its boxing score should be 1 + 1 + 2 + 2 + 2 = 8.
+ */
+public class BoxedOrder {
+
+    private static final Long DEFAULT_QUANTITY = 1L;
+
+    private final Long id;
+    private final Integer quantity;
+    private final List<Long> lineIds;
+    private final Map<String, Double> prices;
+    private final Optional<Integer> discount;
+    private final String reference;
+
+    public BoxedOrder(final Long id, final Integer quantity, final List<Long> lineIds,
+        final Map<String, Double> prices, final Optional<Integer> discount, final String reference) {
+        this.id = id;
+        this.quantity = quantity;
+        this.lineIds = lineIds;
+        this.prices = prices;
+        this.discount = discount;
+        this.reference = reference;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.emedina.hexagonal.fixtures.boxing;
+
+import java.util.List;
+
+/**
+ * A domain class with primitive fields only.
+ * It should have no boxing score.
+ */
+public class PrimitiveOrder {
+
+    private final long id;
+    private final int quantity;
+    private final long[] lineIds;
+    private final List<String> references;
+
+    public PrimitiveOrder(final long id, final int quantity, final long[] lineIds, final List<String> references) {
+        this.id = id;
+        this.quantity = quantity;
+        this.lineIds = lineIds;
+        this.references = references;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.emedina.hexagonal.fixtures.commands;
+
+import com.emedina.sharedkernel.command.Command;
+import io.vavr.control.Validation;
+
+/**
+ * A command fixture whose validateThenCreate method returns a raw Validation.
+ */
+public class CommandWithRawValidation implements Command {
+
+    private CommandWithRawValidation() {
+    }
+
+    // Wrong: returns a raw Validation instead of Validation<String, CommandWithRawValidation>
+    @SuppressWarnings("rawtypes")
+    public static Validation validateThenCreate() {
+        return Validation.valid(new CommandWithRawValidation());
+    }
+
+}
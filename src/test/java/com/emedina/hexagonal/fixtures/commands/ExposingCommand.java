@@ -0,0 +1,36 @@
+package com.emedina.hexagonal.fixtures.commands;
+
+import com.emedina.sharedkernel.command.Command;
+import io.vavr.control.Validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A command with final fields, returning its list as is and copying its array.
+ * The immutabilityRule should report the list only.
+ */
+public class ExposingCommand implements Command {
+
+    private final List<String> values;
+    private final int[] quantities;
+
+    private ExposingCommand(final List<String> values, final int[] quantities) {
+        this.values = values;
+        this.quantities = quantities;
+    }
+
+    public static Validation<String, ExposingCommand> validateThenCreate(final List<String> values,
+        final int[] quantities) {
+        return Validation.valid(new ExposingCommand(new ArrayList<>(values), quantities.clone()));
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public int[] getQuantities() {
+        return quantities.clone();
+    }
+
+}
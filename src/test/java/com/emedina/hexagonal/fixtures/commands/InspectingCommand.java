@@ -0,0 +1,36 @@
+package com.emedina.hexagonal.fixtures.commands;
+
+import com.emedina.sharedkernel.command.Command;
+import io.vavr.control.Validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A command with final fields, reading its list and array only to return their size or compare them with null.
+ * The immutabilityRule should not report this class.
+ */
+public class InspectingCommand implements Command {
+
+    private final List<String> values;
+    private final int[] quantities;
+
+    private InspectingCommand(final List<String> values, final int[] quantities) {
+        this.values = values;
+        this.quantities = quantities;
+    }
+
+    public static Validation<String, InspectingCommand> validateThenCreate(final List<String> values,
+        final int[] quantities) {
+        return Validation.valid(new InspectingCommand(new ArrayList<>(values), quantities.clone()));
+    }
+
+    public int countQuantities() {
+        return quantities.length;
+    }
+
+    public boolean hasValues() {
+        return values != null;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.emedina.hexagonal.fixtures.commands;
+
+import com.emedina.sharedkernel.command.Command;
+import io.vavr.control.Validation;
+
+/**
+ * A command with a non-final field and a setter.
+ * The immutabilityRule should report this class.
+ */
+public class MutableCommand implements Command {
+
+    private String value;
+
+    private MutableCommand(final String value) {
+        this.value = value;
+    }
+
+    public static Validation<String, MutableCommand> validateThenCreate(final String value) {
+        return Validation.valid(new MutableCommand(value));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(final String value) {
+        this.value = value;
+    }
+
+}
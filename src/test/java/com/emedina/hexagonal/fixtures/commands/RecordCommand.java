@@ -0,0 +1,18 @@
+package com.emedina.hexagonal.fixtures.commands;
+
+import com.emedina.sharedkernel.command.Command;
+import io.vavr.control.Validation;
+
+import java.util.List;
+
+/**
+ * A command declared as a record, immutable by construction.
+ * The immutabilityRule should not report this class.
+ */
+public record RecordCommand(List<String> values) implements Command {
+
+    public static Validation<String, RecordCommand> validateThenCreate(final List<String> values) {
+        return Validation.valid(new RecordCommand(List.copyOf(values)));
+    }
+
+}
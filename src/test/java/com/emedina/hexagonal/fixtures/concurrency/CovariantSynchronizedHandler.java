@@ -0,0 +1,21 @@
+package com.emedina.hexagonal.fixtures.concurrency;
+
+import java.util.function.Supplier;
+
+/**
+ * A handler overriding a generic method with a covariant return type in a synchronized block, for which the compiler
+ * emits a bridge method {@code Object get()} after {@code String get()}, with the same name and parameters.
+ */
+public class CovariantSynchronizedHandler implements Supplier<String> {
+
+    private final Object lock = new Object();
+    private String last = "";
+
+    @Override
+    public String get() {
+        synchronized (lock) {
+            return last;
+        }
+    }
+
+}
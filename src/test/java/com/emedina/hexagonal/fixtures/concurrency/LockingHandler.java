@@ -0,0 +1,24 @@
+package com.emedina.hexagonal.fixtures.concurrency;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A handler guarding its state with a lock, which does not pin virtual threads.
+ * No concurrency rule should report this class.
+ */
+public class LockingHandler {
+
+    private final Lock lock = new ReentrantLock();
+    private int handled;
+
+    public void handle() {
+        lock.lock();
+        try {
+            handled++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
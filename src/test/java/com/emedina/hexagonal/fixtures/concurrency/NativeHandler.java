@@ -0,0 +1,11 @@
+package com.emedina.hexagonal.fixtures.concurrency;
+
+/**
+ * A handler with a native method.
+ * The nativeMethodRule should report this class.
+ */
+public class NativeHandler {
+
+    public native void handle();
+
+}
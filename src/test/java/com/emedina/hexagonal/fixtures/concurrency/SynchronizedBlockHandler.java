@@ -0,0 +1,18 @@
+package com.emedina.hexagonal.fixtures.concurrency;
+
+/**
+ * A handler with a synchronized block.
+ * The synchronizedBlockRule should report this class.
+ */
+public class SynchronizedBlockHandler {
+
+    private final Object lock = new Object();
+    private int handled;
+
+    public void handle(final String[] commands) {
+        synchronized (lock) {
+            handled += commands.length;
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.emedina.hexagonal.fixtures.concurrency;
+
+/**
+ * A handler with a synchronized method.
+ * The synchronizedMethodRule should report this class.
+ */
+public class SynchronizedMethodHandler {
+
+    private int handled;
+
+    public synchronized void handle() {
+        handled++;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.emedina.hexagonal.fixtures.concurrency;
+
+/**
+ * A handler waiting on a monitor.
+ * The objectWaitRule and synchronizedBlockRule should report this class.
+ */
+public class WaitingHandler {
+
+    private final Object lock = new Object();
+
+    public void await() throws InterruptedException {
+        synchronized (lock) {
+            lock.wait(1_000L);
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.emedina.hexagonal.fixtures.contexts.billing.domain;
+
+/**
+ * A domain class of the billing bounded context.
+ */
+public class Invoice {
+
+    private final String number;
+
+    public Invoice(final String number) {
+        this.number = number;
+    }
+
+    public String getNumber() {
+        return number;
+    }
+
+}
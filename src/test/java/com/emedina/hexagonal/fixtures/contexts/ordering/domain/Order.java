@@ -0,0 +1,21 @@
+package com.emedina.hexagonal.fixtures.contexts.ordering.domain;
+
+import com.emedina.hexagonal.fixtures.contexts.billing.domain.Invoice;
+
+/**
+ * A domain class of the ordering bounded context depending on the domain of the billing context.
+ * The crossContextDomainRule should report this class.
+ */
+public class Order {
+
+    private final Invoice invoice;
+
+    public Order(final Invoice invoice) {
+        this.invoice = invoice;
+    }
+
+    public Invoice getInvoice() {
+        return invoice;
+    }
+
+}
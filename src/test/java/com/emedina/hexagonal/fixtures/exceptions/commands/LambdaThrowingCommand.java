@@ -0,0 +1,30 @@
+package com.emedina.hexagonal.fixtures.exceptions.commands;
+
+import io.vavr.control.Validation;
+
+/**
+ * A command whose validateThenCreate method throws from a lambda, compiled to a synthetic method of its own.
+ * The noExceptionsInValidateThenCreateRule should report this class.
+ */
+public class LambdaThrowingCommand {
+
+    private final String value;
+
+    private LambdaThrowingCommand(final String value) {
+        this.value = value;
+    }
+
+    public static Validation<String, LambdaThrowingCommand> validateThenCreate(final String value) {
+        return Validation.<String, String>valid(value).map(valid -> {
+            if (valid.isBlank()) {
+                throw new IllegalStateException("Value cannot be blank");
+            }
+            return new LambdaThrowingCommand(valid);
+        });
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.emedina.hexagonal.fixtures.exceptions.commands;
+
+import io.vavr.control.Validation;
+
+/**
+ * A command whose validateThenCreate method throws instead of returning an invalid Validation.
+ * The noExceptionsInValidateThenCreateRule should report this class.
+ */
+public class ThrowingCommand {
+
+    private final String value;
+
+    private ThrowingCommand(final String value) {
+        this.value = value;
+    }
+
+    public static Validation<String, ThrowingCommand> validateThenCreate(final String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        return Validation.valid(new ThrowingCommand(value));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+}
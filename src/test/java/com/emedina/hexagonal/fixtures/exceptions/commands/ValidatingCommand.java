@@ -0,0 +1,31 @@
+package com.emedina.hexagonal.fixtures.exceptions.commands;
+
+import io.vavr.control.Validation;
+
+/**
+ * A command whose validateThenCreate method returns its errors, and only throws from another method.
+ * The noExceptionsInValidateThenCreateRule should not report this class.
+ */
+public class ValidatingCommand {
+
+    private final String value;
+
+    private ValidatingCommand(final String value) {
+        this.value = value;
+    }
+
+    public static Validation<String, ValidatingCommand> validateThenCreate(final String value) {
+        if (value == null || value.isBlank()) {
+            return Validation.invalid("Value cannot be null or blank");
+        }
+        return Validation.valid(new ValidatingCommand(value));
+    }
+
+    public String getValue() {
+        if (value.isEmpty()) {
+            throw new IllegalStateException("Value was validated");
+        }
+        return value;
+    }
+
+}
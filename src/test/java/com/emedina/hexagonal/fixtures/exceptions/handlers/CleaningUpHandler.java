@@ -0,0 +1,33 @@
+package com.emedina.hexagonal.fixtures.exceptions.handlers;
+
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * A handler using finally, try-with-resources and synchronized blocks, for which javac generates rethrows of the
+ * caught exceptions, without throwing any exception in the source.
+ * The noExceptionsInHandlersRule should not report this class.
+ */
+@ApplicationService
+public class CleaningUpHandler {
+
+    private final List<String> handled = new ArrayList<>();
+
+    public boolean handle(final String id) {
+        try (Scanner scanner = new Scanner(id)) {
+            return scanner.hasNextInt();
+        } finally {
+            record(id);
+        }
+    }
+
+    private void record(final String id) {
+        synchronized (this.handled) {
+            this.handled.add(id);
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.emedina.hexagonal.fixtures.exceptions.handlers;
+
+/**
+ * A class of the handler layer that is not an application service.
+ * The noExceptionsInHandlersRule should not report this class.
+ */
+public class PlainThrowingService {
+
+    public void handle(final String id) {
+        throw new UnsupportedOperationException(id);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.emedina.hexagonal.fixtures.exceptions.handlers;
+
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+/**
+ * A handler throwing a new exception and rethrowing a caught one.
+ * The noExceptionsInHandlersRule should report this class.
+ */
+@ApplicationService
+public class ThrowingHandler {
+
+    public void handle(final String id) {
+        if (id.isBlank()) {
+            throw new UnsupportedOperationException("Blank id");
+        }
+        try {
+            Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.emedina.hexagonal.fixtures.handlers;
+
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+/**
+ * A handler that implements a sub-interface of a @UseCase interface.
+ * The implementUseCaseInterface predicate should return true for this class.
+ */
+@ApplicationService
+public class ExtendedHandler implements ExtendedUseCase {
+
+    @Override
+    public void execute() {
+        // Implementation
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.emedina.hexagonal.fixtures.handlers;
+
+/**
+ * A UseCase interface extending a @UseCase interface, without being annotated itself.
+ */
+public interface ExtendedUseCase extends SampleUseCase {
+
+}
@@ -0,0 +1,17 @@
+package com.emedina.hexagonal.fixtures.handlers;
+
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+/**
+ * A handler that implements a sub-interface of a @UseCase interface, named after neither of them.
+ * The useCaseNamingConventionRule should report this class.
+ */
+@ApplicationService
+public class ExtendingHandlerWithWrongNaming implements ExtendedUseCase {
+
+    @Override
+    public void execute() {
+        // Implementation
+    }
+
+}
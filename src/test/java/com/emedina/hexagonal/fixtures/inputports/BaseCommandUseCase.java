@@ -0,0 +1,12 @@
+package com.emedina.hexagonal.fixtures.inputports;
+
+import com.emedina.sharedkernel.application.annotation.UseCase;
+import com.emedina.sharedkernel.command.Command;
+import com.emedina.sharedkernel.command.core.CommandHandler;
+
+/**
+ * An intermediate generic input port that passes its Command type on to CommandHandler.
+ */
+@UseCase
+public interface BaseCommandUseCase<C extends Command> extends CommandHandler<Throwable, C> {
+}
@@ -0,0 +1,10 @@
+package com.emedina.hexagonal.fixtures.inputports;
+
+import com.emedina.sharedkernel.application.annotation.UseCase;
+
+/**
+ * A valid input port that extends CommandHandler through an intermediate generic interface.
+ */
+@UseCase
+public interface InheritedCommandUseCase extends BaseCommandUseCase<SampleCommand> {
+}
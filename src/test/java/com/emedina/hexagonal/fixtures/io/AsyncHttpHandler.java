@@ -0,0 +1,21 @@
+package com.emedina.hexagonal.fixtures.io;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A handler calling an HTTP service asynchronously, which does not block.
+ * The noBlockingIoRule should not report this class.
+ */
+public class AsyncHttpHandler {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    public CompletableFuture<HttpResponse<String>> fetch(final URI uri) {
+        return client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.emedina.hexagonal.fixtures.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A domain class reading a file.
+ * The noBlockingIoRule should report this class.
+ */
+public class FileReadingDomain {
+
+    public List<String> load(final Path path) throws IOException {
+        return Files.readAllLines(path);
+    }
+
+}
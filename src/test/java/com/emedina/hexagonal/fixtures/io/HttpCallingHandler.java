@@ -0,0 +1,21 @@
+package com.emedina.hexagonal.fixtures.io;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * A handler calling an HTTP service synchronously.
+ * The noBlockingIoRule should report this class.
+ */
+public class HttpCallingHandler {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    public String fetch(final URI uri) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+}
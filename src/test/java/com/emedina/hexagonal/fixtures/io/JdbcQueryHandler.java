@@ -0,0 +1,16 @@
+package com.emedina.hexagonal.fixtures.io;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A handler running a JDBC statement, a subtype of a cataloged JDBC type.
+ * The noBlockingIoRule should report this class.
+ */
+public class JdbcQueryHandler {
+
+    public boolean run(final PreparedStatement statement) throws SQLException {
+        return statement.execute();
+    }
+
+}
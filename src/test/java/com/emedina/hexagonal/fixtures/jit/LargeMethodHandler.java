@@ -0,0 +1,54 @@
+package com.emedina.hexagonal.fixtures.jit;
+
+/**
+ * A handler with a method larger than HotSpot inlines when hot, unrolled by hand.
+ * The hotInlineMethodSizeRule should report {@code weigh}.
+ */
+public class LargeMethodHandler {
+
+    public long weigh(long[] values) {
+        long total = 0;
+        total += values[0] * 2;
+        total += values[1] * 3;
+        total += values[2] * 4;
+        total += values[3] * 5;
+        total += values[4] * 6;
+        total += values[5] * 7;
+        total += values[6] * 8;
+        total += values[7] * 9;
+        total += values[8] * 10;
+        total += values[9] * 11;
+        total += values[10] * 12;
+        total += values[11] * 13;
+        total += values[12] * 14;
+        total += values[13] * 15;
+        total += values[14] * 16;
+        total += values[15] * 17;
+        total += values[16] * 18;
+        total += values[17] * 19;
+        total += values[18] * 20;
+        total += values[19] * 21;
+        total += values[20] * 22;
+        total += values[21] * 23;
+        total += values[22] * 24;
+        total += values[23] * 25;
+        total += values[24] * 26;
+        total += values[25] * 27;
+        total += values[26] * 28;
+        total += values[27] * 29;
+        total += values[28] * 30;
+        total += values[29] * 31;
+        total += values[30] * 32;
+        total += values[31] * 33;
+        total += values[32] * 34;
+        total += values[33] * 35;
+        total += values[34] * 36;
+        total += values[35] * 37;
+        total += values[36] * 38;
+        total += values[37] * 39;
+        total += values[38] * 40;
+        total += values[39] * 41;
+        return total;
+    }
+
+}
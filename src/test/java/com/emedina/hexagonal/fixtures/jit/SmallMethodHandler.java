@@ -0,0 +1,17 @@
+package com.emedina.hexagonal.fixtures.jit;
+
+/**
+ * A handler whose methods are small enough to be inlined.
+ * The method size rules should not report this class.
+ */
+public class SmallMethodHandler {
+
+    public long weigh(long[] values) {
+        long total = 0;
+        for (int i = 0; i < values.length; i++) {
+            total += values[i] * (i + 2);
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.emedina.hexagonal.fixtures.reflection;
+
+/**
+ * A domain class using its class object without reflection.
+ * The noReflectionRule should not report this class.
+ */
+public class PlainDomain {
+
+    public String describe() {
+        return getClass().getSimpleName();
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.emedina.hexagonal.fixtures.reflection;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * A handler creating a dynamic proxy.
+ * The noReflectionRule should report this class.
+ */
+public class ProxyHandler {
+
+    public Runnable proxy() {
+        return (Runnable) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Runnable.class},
+            (proxy, method, arguments) -> null);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.emedina.hexagonal.fixtures.reflection;
+
+/**
+ * A domain class invoking a method reflectively.
+ * The noReflectionRule should report this class.
+ */
+public class ReflectiveDomain {
+
+    public Object call(final String className, final String methodName) throws ReflectiveOperationException {
+        return Class.forName(className).getMethod(methodName).invoke(null);
+    }
+
+}
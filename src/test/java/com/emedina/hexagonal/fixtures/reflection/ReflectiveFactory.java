@@ -0,0 +1,16 @@
+package com.emedina.hexagonal.fixtures.reflection;
+
+import com.emedina.sharedkernel.domain.factory.annotation.Factory;
+
+/**
+ * A factory instantiating classes reflectively, which is exempted.
+ * The noReflectionRule should not report this class.
+ */
+@Factory
+public class ReflectiveFactory {
+
+    public <T> T create(final Class<T> type) throws ReflectiveOperationException {
+        return type.getDeclaredConstructor().newInstance();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.emedina.hexagonal.fixtures.staticstate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A handler caching its results in static maps bounded by {@code removeEldestEntry} or evicted from, which are mutable
+ * but not unbounded.
+ */
+public class BoundedCacheHandler {
+
+    private static final int MAX_ENTRIES = 100;
+
+    private static final Map<String, Integer> RECENT = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Integer> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static final Map<String, Integer> PENDING = new HashMap<>();
+
+    public int handle(final String command) {
+        PENDING.put(command, command.length());
+        RECENT.put(command, command.length());
+        return PENDING.remove(command);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.emedina.hexagonal.fixtures.staticstate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A handler caching its results in a static map that is never evicted from, so it grows without bound.
+ */
+public class CachingHandler {
+
+    private static final Map<String, Integer> LENGTHS = new ConcurrentHashMap<>();
+
+    public int handle(final String command) {
+        return LENGTHS.computeIfAbsent(command, String::length);
+    }
+
+}
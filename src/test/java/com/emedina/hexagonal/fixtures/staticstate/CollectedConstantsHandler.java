@@ -0,0 +1,26 @@
+package com.emedina.hexagonal.fixtures.staticstate;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A handler holding unmodifiable collections collected from streams or wrapping an {@link EnumSet} in its static
+ * fields. No static state rule should report this class.
+ */
+public class CollectedConstantsHandler {
+
+    private static final List<String> COMMANDS = Stream.of("update", "create").sorted()
+        .collect(Collectors.toUnmodifiableList());
+    private static final Set<TimeUnit> UNITS = Collections.unmodifiableSet(EnumSet.of(TimeUnit.SECONDS,
+        TimeUnit.MINUTES));
+
+    public boolean handle(final String command, final TimeUnit unit) {
+        return COMMANDS.contains(command) && UNITS.contains(unit);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.emedina.hexagonal.fixtures.staticstate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A handler holding only constants and unmodifiable collections in its static fields.
+ * No static state rule should report this class.
+ */
+public class ConstantsHandler {
+
+    private static final String PREFIX = "handled ";
+    private static final List<String> COMMANDS = List.of("create", "update");
+    private static final Map<String, Integer> PRIORITIES = Map.of("create", 1, "update", 2);
+    private static final Map<String, String> ALIASES = Collections.unmodifiableMap(new HashMap<>(PRIORITIES.size()));
+
+    public String handle(final String command) {
+        return PREFIX + ALIASES.getOrDefault(command, command) + COMMANDS.indexOf(command);
+    }
+
+}
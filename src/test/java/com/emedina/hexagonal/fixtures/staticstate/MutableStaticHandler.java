@@ -0,0 +1,19 @@
+package com.emedina.hexagonal.fixtures.staticstate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A handler counting and recording the commands it handles in static fields shared by all threads.
+ */
+public class MutableStaticHandler {
+
+    private static final List<String> HANDLED = new ArrayList<>();
+    private static int handledCount;
+
+    public void handle(final String command) {
+        HANDLED.add(command);
+        handledCount++;
+    }
+
+}
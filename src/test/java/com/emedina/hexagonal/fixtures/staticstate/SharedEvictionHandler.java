@@ -0,0 +1,24 @@
+package com.emedina.hexagonal.fixtures.staticstate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A handler evicting from a static map of commands in flight while caching its results in another static map that is
+ * never evicted from, so the cache grows without bound.
+ */
+public class SharedEvictionHandler {
+
+    private static final Map<String, Integer> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> LENGTHS = new ConcurrentHashMap<>();
+
+    public int handle(final String command) {
+        IN_FLIGHT.put(command, command.isEmpty() ? 0 : 1);
+        try {
+            return LENGTHS.computeIfAbsent(command, String::length);
+        } finally {
+            IN_FLIGHT.remove(command);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.emedina.hexagonal.fixtures.synchronization;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A handler using a concurrent map, a {@link StringBuilder} and an unmodifiable view.
+ * No legacy synchronization rule should report this class.
+ */
+public class ConcurrentCollectionsHandler {
+
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+    public List<String> handle(final String command) {
+        counts.merge(command, 1, Integer::sum);
+
+        return Collections.unmodifiableList(List.of(new StringBuilder("handled ").append(command).toString()));
+    }
+
+}
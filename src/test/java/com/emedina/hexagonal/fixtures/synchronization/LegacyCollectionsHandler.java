@@ -0,0 +1,21 @@
+package com.emedina.hexagonal.fixtures.synchronization;
+
+import java.util.Stack;
+import java.util.Vector;
+
+/**
+ * A handler using the legacy synchronized collections and {@link StringBuffer}, which lock on every call.
+ */
+public class LegacyCollectionsHandler {
+
+    private final Vector<String> handled = new Vector<>();
+
+    public String handle(final String command) {
+        final Stack<String> pending = new Stack<>();
+        pending.push(command);
+        handled.add(pending.pop());
+
+        return new StringBuffer("handled ").append(command).toString();
+    }
+
+}
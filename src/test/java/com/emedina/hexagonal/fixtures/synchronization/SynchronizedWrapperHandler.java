@@ -0,0 +1,18 @@
+package com.emedina.hexagonal.fixtures.synchronization;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A handler wrapping its map in a synchronized wrapper, which locks on every call.
+ */
+public class SynchronizedWrapperHandler {
+
+    private final Map<String, Integer> counts = Collections.synchronizedMap(new HashMap<>());
+
+    public void handle(final String command) {
+        counts.merge(command, 1, Integer::sum);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.emedina.hexagonal.fixtures.valueclasses;
+
+import com.emedina.sharedkernel.domain.model.annotation.ValueObject;
+
+/**
+ * A value object depending on its identity in every way.
+ * The valueClassRule should report this class for all six criteria.
+ */
+@ValueObject
+public class IdentityBoundQuantity extends Number {
+
+    private int value;
+    private final int[] history = new int[8];
+
+    public IdentityBoundQuantity(final int value) {
+        this.value = value;
+    }
+
+    public synchronized void increment() {
+        this.value++;
+    }
+
+    public boolean sameAs(final IdentityBoundQuantity other) {
+        return other == this;
+    }
+
+    public int identity() {
+        synchronized (this) {
+            return System.identityHashCode(this);
+        }
+    }
+
+    @Override
+    public int intValue() {
+        return this.value;
+    }
+
+    @Override
+    public long longValue() {
+        return this.value;
+    }
+
+    @Override
+    public float floatValue() {
+        return this.value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.emedina.hexagonal.fixtures.valueclasses;
+
+import com.emedina.sharedkernel.domain.model.annotation.ValueObject;
+
+/**
+ * A value object ready to become a value class: the comparison with == is the shortcut of equals.
+ * The valueClassRule should not report this class.
+ */
+@ValueObject
+public final class Money {
+
+    private final long amount;
+    private final String currency;
+
+    public Money(final long amount, final String currency) {
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    public Money add(final Money other) {
+        return new Money(this.amount + other.amount, this.currency);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        }
+        return other instanceof Money money && money.amount == this.amount && money.currency.equals(this.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.amount) * 31 + this.currency.hashCode();
+    }
+
+}
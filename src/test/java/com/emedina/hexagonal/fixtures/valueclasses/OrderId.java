@@ -0,0 +1,12 @@
+package com.emedina.hexagonal.fixtures.valueclasses;
+
+import com.emedina.sharedkernel.domain.identity.annotation.Identity;
+
+/**
+ * An identity declared as a record, ready to become a value class.
+ * The valueClassRule should not report this class.
+ */
+@Identity
+public record OrderId(long value) {
+
+}
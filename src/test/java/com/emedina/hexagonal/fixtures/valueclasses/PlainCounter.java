@@ -0,0 +1,15 @@
+package com.emedina.hexagonal.fixtures.valueclasses;
+
+/**
+ * A mutable class that is neither a value object nor an identity.
+ * The readiness report should not include this class.
+ */
+public class PlainCounter {
+
+    private int count;
+
+    public void increment() {
+        this.count++;
+    }
+
+}
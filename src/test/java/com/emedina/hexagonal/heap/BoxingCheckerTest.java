@@ -0,0 +1,180 @@
+package com.emedina.hexagonal.heap;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.BoxingMode;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.BoxingProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.boxing.BoxedAmount;
+import com.emedina.hexagonal.fixtures.boxing.BoxedOrder;
+import com.emedina.hexagonal.fixtures.boxing.PrimitiveOrder;
+import com.emedina.hexagonal.heap.BoxingChecker.BoxingScore;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Unit tests for {@link BoxingChecker}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("BoxingChecker")
+class BoxingCheckerTest {
+
+    private static final String BOXING = "com.emedina.hexagonal.fixtures.boxing";
+
+    private final JavaClasses fixtureClasses = new ClassFileImporter().importPackages(BOXING);
+
+    @Nested
+    @DisplayName("score")
+    class ScoreTest {
+
+        @Test
+        @DisplayName("should score boxed fields and containers of boxed values, ignoring static fields")
+        void shouldScoreBoxedFields() {
+            // When
+            BoxingScore score = BoxingChecker.score(fixtureClasses.get(BoxedOrder.class));
+
+            // Then
+            assertThat(score.score()).isEqualTo(8);
+            assertThat(score.boxedFields()).hasSize(5)
+                .contains("id (java.lang.Long)")
+                .anyMatch(field -> field.startsWith("lineIds (java.util.List"));
+        }
+
+        @Test
+        @DisplayName("should score arrays of boxed values in records")
+        void shouldScoreBoxedArrays() {
+            // When
+            BoxingScore score = BoxingChecker.score(fixtureClasses.get(BoxedAmount.class));
+
+            // Then
+            assertThat(score.score()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should not score primitives, primitive arrays and containers of other types")
+        void shouldNotScorePrimitives() {
+            // When
+            BoxingScore score = BoxingChecker.score(fixtureClasses.get(PrimitiveOrder.class));
+
+            // Then
+            assertThat(score.score()).isZero();
+            assertThat(score.boxedFields()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("notScoreAbove condition")
+    class NotScoreAboveTest {
+
+        @Test
+        @DisplayName("should be violated for a class scoring above the maximum")
+        void shouldBeViolatedAboveMaximum() {
+            // Given
+            ArchRule rule = classes().should(BoxingChecker.notScoreAbove(2));
+            JavaClasses classes = new ClassFileImporter().importClasses(BoxedOrder.class, BoxedAmount.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("(1 times)")
+                .hasMessageContaining("has a boxing score of 8, above 2");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for a class without boxed fields")
+        void shouldBeSatisfiedWithoutBoxedFields() {
+            // Given
+            ArchRule rule = classes().should(BoxingChecker.notScoreAbove(0));
+            JavaClasses classes = new ClassFileImporter().importClasses(PrimitiveOrder.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules and scores")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should score the classes and only warn about them in warn mode")
+        void shouldOnlyWarnInWarnMode() {
+            // Given
+            HexagonalArchitectureProperties properties = properties(new BoxingProperties(null, null));
+            List<String> warnings = new ArrayList<>();
+            Logger logger = Logger.getLogger(BoxingChecker.class.getName());
+            Handler handler = new Handler() {
+                @Override
+                public void publish(final LogRecord logRecord) {
+                    if (logRecord.getLevel() == Level.WARNING) {
+                        warnings.add(logRecord.getMessage());
+                    }
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+            logger.addHandler(handler);
+
+            // When
+            List<LayerRule> rules = BoxingChecker.rules(properties);
+            List<BoxingScore> scores = BoxingChecker.scores(properties, fixtureClasses);
+            try {
+                rules.forEach(rule -> assertThat(rule.rule().evaluate(fixtureClasses).hasViolation()).isFalse());
+            } finally {
+                logger.removeHandler(handler);
+            }
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer).containsExactly("domain", "command", "query");
+            assertThat(scores).extracting(BoxingScore::className)
+                .containsExactly(BoxedOrder.class.getName(), BoxedAmount.class.getName());
+            assertThat(warnings)
+                .anyMatch(warning -> warning.startsWith("Class " + BoxedOrder.class.getName()
+                    + " has a boxing score of 8, above 0"))
+                .anyMatch(warning -> warning.startsWith("Class " + BoxedAmount.class.getName()));
+        }
+
+        @Test
+        @DisplayName("should check the domain, commands and queries in fail mode")
+        void shouldCheckInFailMode() {
+            // When
+            List<LayerRule> rules = BoxingChecker.rules(properties(new BoxingProperties(BoxingMode.FAIL, 2)));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer).containsExactly("domain", "command", "query");
+            assertThat(rules.getFirst().rule().evaluate(fixtureClasses).getFailureReport().getDetails())
+                .singleElement().asString().contains(BoxedOrder.class.getName());
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final BoxingProperties boxing) {
+        return FixtureProperties.of(BOXING, "domain", List.of(BOXING + ".."),
+            PerformanceProperties.defaults().withBoxing(boxing));
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.emedina.hexagonal.heap;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.staticstate.BoundedCacheHandler;
+import com.emedina.hexagonal.fixtures.staticstate.CachingHandler;
+import com.emedina.hexagonal.fixtures.staticstate.CollectedConstantsHandler;
+import com.emedina.hexagonal.fixtures.staticstate.ConstantsHandler;
+import com.emedina.hexagonal.fixtures.staticstate.MutableStaticHandler;
+import com.emedina.hexagonal.fixtures.staticstate.SharedEvictionHandler;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link StaticStateChecker}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("StaticStateChecker")
+class StaticStateCheckerTest {
+
+    private static final String STATIC_STATE = "com.emedina.hexagonal.fixtures.staticstate";
+
+    private final JavaClasses fixtureClasses = new ClassFileImporter().importPackages(STATIC_STATE);
+
+    @Nested
+    @DisplayName("notHoldStaticMutableState condition")
+    class NotHoldStaticMutableStateTest {
+
+        private final ArchRule rule = classes().should(StaticStateChecker.notHoldStaticMutableState());
+
+        @Test
+        @DisplayName("should be violated for static fields that are not final and modifiable static collections")
+        void shouldBeViolatedForMutableStaticFields() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(MutableStaticHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("MutableStaticHandler.handledCount is static but not final")
+                .hasMessageContaining("MutableStaticHandler.HANDLED is a static final java.util.List that can be "
+                    + "modified");
+        }
+
+        @Test
+        @DisplayName("should be violated for a static map growing without eviction")
+        void shouldBeViolatedForUnboundedCache() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(CachingHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("CachingHandler.LENGTHS is a static Map cache growing in "
+                    + CachingHandler.class.getName() + ".handle(java.lang.String) and never evicted")
+                .hasMessageNotContaining("that can be modified");
+        }
+
+        @Test
+        @DisplayName("should be violated for a static map growing without eviction next to another evicted map")
+        void shouldBeViolatedForUnboundedCacheNextToEvictedMap() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SharedEvictionHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("SharedEvictionHandler.LENGTHS is a static Map cache growing in "
+                    + SharedEvictionHandler.class.getName() + ".handle(java.lang.String) and never evicted")
+                .hasMessageContaining("SharedEvictionHandler.IN_FLIGHT is a static final java.util.Map that can be "
+                    + "modified")
+                .hasMessageNotContaining("IN_FLIGHT is a static Map cache");
+        }
+
+        @Test
+        @DisplayName("should report bounded and evicted static maps as modifiable but not as unbounded caches")
+        void shouldNotReportBoundedCachesAsUnbounded() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(BoundedCacheHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("BoundedCacheHandler.RECENT is a static final java.util.Map that can be "
+                    + "modified")
+                .hasMessageContaining("BoundedCacheHandler.PENDING is a static final java.util.Map that can be "
+                    + "modified")
+                .hasMessageNotContaining("never evicted");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for constants and unmodifiable collections")
+        void shouldBeSatisfiedForConstants() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(ConstantsHandler.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should be satisfied for collections collected as unmodifiable or wrapped as unmodifiable")
+        void shouldBeSatisfiedForCollectedConstants() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(CollectedConstantsHandler.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("isUnmodifiable")
+    class IsUnmodifiableTest {
+
+        @Test
+        @DisplayName("should accept the factories of the Guava immutable collections and their builders")
+        void shouldAcceptGuavaImmutableCollections() {
+            // When & Then
+            assertThat(StaticStateChecker.isUnmodifiable("com.google.common.collect.ImmutableList.copyOf")).isTrue();
+            assertThat(StaticStateChecker.isUnmodifiable("com.google.common.collect.ImmutableMap$Builder.build"))
+                .isTrue();
+        }
+
+        @Test
+        @DisplayName("should reject modifiable sources like EnumSet.of and unknown sources")
+        void shouldRejectModifiableSources() {
+            // When & Then
+            assertThat(StaticStateChecker.isUnmodifiable("java.util.EnumSet.of")).isFalse();
+            assertThat(StaticStateChecker.isUnmodifiable("java.util.stream.Stream.collect")).isFalse();
+            assertThat(StaticStateChecker.isUnmodifiable(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should build one rule for the handlers and one for the adapters")
+        void shouldBuildRulesForHandlersAndAdapters() {
+            // When
+            List<LayerRule> rules = StaticStateChecker.rules(properties(List.of(STATIC_STATE + "..")));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer, LayerRule::name).containsExactly(
+                tuple("handler", "noStaticMutableStateRule"),
+                tuple("adapters", "noStaticMutableStateRule"));
+        }
+
+        @Test
+        @DisplayName("should report the classes of the configured handler packages")
+        void shouldReportHandlerClasses() {
+            // When
+            List<String> details = StaticStateChecker.rules(properties(List.of(STATIC_STATE + "..")))
+                .getFirst().rule().evaluate(fixtureClasses).getFailureReport().getDetails();
+
+            // Then
+            assertThat(details)
+                .anyMatch(detail -> detail.contains(CachingHandler.class.getName()))
+                .anyMatch(detail -> detail.contains(MutableStaticHandler.class.getName()))
+                .noneMatch(detail -> detail.contains(ConstantsHandler.class.getName() + "."));
+        }
+
+        @Test
+        @DisplayName("should throw when the handler FQDN is not configured")
+        void shouldThrowWhenHandlerIsNotConfigured() {
+            // When & Then
+            assertThatThrownBy(() -> StaticStateChecker.rules(properties(List.of())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("FQDN of layer handler is not configured in the properties");
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final List<String> handlerPackages) {
+        return FixtureProperties.of(STATIC_STATE, "handler", handlerPackages);
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.emedina.hexagonal.heap;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.ValueClassesProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.valueclasses.IdentityBoundQuantity;
+import com.emedina.hexagonal.fixtures.valueclasses.Money;
+import com.emedina.hexagonal.fixtures.valueclasses.OrderId;
+import com.emedina.hexagonal.heap.ValueClassChecker.ValueClassReadiness;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link ValueClassChecker}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ValueClassChecker")
+class ValueClassCheckerTest {
+
+    private static final String VALUE_CLASSES = "com.emedina.hexagonal.fixtures.valueclasses";
+
+    private final JavaClasses fixtureClasses = new ClassFileImporter().importPackages(VALUE_CLASSES);
+
+    @Nested
+    @DisplayName("readiness")
+    class ReadinessTest {
+
+        @Test
+        @DisplayName("should be ready for a final class comparing itself with == only in equals")
+        void shouldBeReadyForFinalClass() {
+            // When
+            ValueClassReadiness readiness = ValueClassChecker.readiness(fixtureClasses.get(Money.class));
+
+            // Then
+            assertThat(readiness.ready()).isTrue();
+            assertThat(readiness.blockers()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should be ready for a record")
+        void shouldBeReadyForRecord() {
+            // When
+            ValueClassReadiness readiness = ValueClassChecker.readiness(fixtureClasses.get(OrderId.class));
+
+            // Then
+            assertThat(readiness.passed()).isEqualTo(readiness.total());
+        }
+
+        @Test
+        @DisplayName("should report a blocker for every criterion not met")
+        void shouldReportBlockers() {
+            // When
+            ValueClassReadiness readiness = ValueClassChecker.readiness(
+                fixtureClasses.get(IdentityBoundQuantity.class));
+
+            // Then
+            assertThat(readiness.passed()).isZero();
+            assertThat(readiness.total()).isEqualTo(6);
+            assertThat(readiness.blockers())
+                .anyMatch(blocker -> blocker.endsWith("is not final"))
+                .anyMatch(blocker -> blocker.endsWith("extends java.lang.Number"))
+                .anyMatch(blocker -> blocker.endsWith(".value is not final"))
+                .anyMatch(blocker -> blocker.endsWith(".history is a mutable array"))
+                .anyMatch(blocker -> blocker.endsWith(".increment() is synchronized"))
+                .anyMatch(blocker -> blocker.endsWith(".identity() contains a synchronized block"))
+                .anyMatch(blocker -> blocker.contains(".sameAs(" + IdentityBoundQuantity.class.getName()
+                    + ") compares instances of IdentityBoundQuantity with =="))
+                .anyMatch(blocker -> blocker.contains("System.identityHashCode"));
+        }
+    }
+
+    @Nested
+    @DisplayName("beReadyForValueClasses condition")
+    class BeReadyForValueClassesTest {
+
+        private final ArchRule rule = classes().should(ValueClassChecker.beReadyForValueClasses());
+
+        @Test
+        @DisplayName("should be violated for a class depending on its identity")
+        void shouldBeViolatedForIdentityBoundClass() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(IdentityBoundQuantity.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("which prevents it from becoming a value class");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for ready classes")
+        void shouldBeSatisfiedForReadyClasses() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(Money.class, OrderId.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules and report")
+    class RulesTest {
+
+        @Test
+        @DisplayName("should only report the readiness of value objects and identities by default")
+        void shouldOnlyReportByDefault() {
+            // Given
+            HexagonalArchitectureProperties properties = properties(new ValueClassesProperties(null));
+
+            // When
+            List<LayerRule> rules = ValueClassChecker.rules(properties);
+            List<ValueClassReadiness> report = ValueClassChecker.report(properties, fixtureClasses);
+
+            // Then
+            assertThat(rules).isEmpty();
+            assertThat(report).extracting(ValueClassReadiness::className).containsExactly(
+                IdentityBoundQuantity.class.getName(), Money.class.getName(), OrderId.class.getName());
+        }
+
+        @Test
+        @DisplayName("should check the value objects and identities of the domain when enforced")
+        void shouldCheckWhenEnforced() {
+            // When
+            List<LayerRule> rules = ValueClassChecker.rules(properties(new ValueClassesProperties(true)));
+
+            // Then
+            assertThat(rules).singleElement().extracting(LayerRule::layer, LayerRule::name)
+                .containsExactly("domain", "valueClassRule");
+            assertThat(rules.getFirst().rule().evaluate(fixtureClasses).getFailureReport().getDetails())
+                .isNotEmpty()
+                .allMatch(detail -> detail.contains(IdentityBoundQuantity.class.getName()));
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final ValueClassesProperties valueClasses) {
+        return FixtureProperties.of(VALUE_CLASSES, "domain", List.of(VALUE_CLASSES + ".."),
+            PerformanceProperties.defaults().withValueClasses(valueClasses));
+    }
+
+}
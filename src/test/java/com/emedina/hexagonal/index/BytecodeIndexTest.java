@@ -0,0 +1,198 @@
+package com.emedina.hexagonal.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.emedina.hexagonal.fixtures.concurrency.CovariantSynchronizedHandler;
+import com.emedina.hexagonal.fixtures.concurrency.LockingHandler;
+import com.emedina.hexagonal.fixtures.concurrency.NativeHandler;
+import com.emedina.hexagonal.fixtures.concurrency.SynchronizedBlockHandler;
+import com.emedina.hexagonal.fixtures.exceptions.handlers.CleaningUpHandler;
+import com.emedina.hexagonal.fixtures.exceptions.handlers.ThrowingHandler;
+import com.emedina.hexagonal.fixtures.staticstate.CollectedConstantsHandler;
+import com.emedina.hexagonal.fixtures.staticstate.ConstantsHandler;
+import com.emedina.hexagonal.fixtures.staticstate.SharedEvictionHandler;
+import com.emedina.hexagonal.fixtures.valueclasses.IdentityBoundQuantity;
+import com.emedina.hexagonal.index.BytecodeIndex.MethodBytecode;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.domain.JavaStaticInitializer;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+/**
+ * Unit tests for {@link BytecodeIndex}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("BytecodeIndex")
+class BytecodeIndexTest {
+
+    private final JavaClasses fixtureClasses = new ClassFileImporter()
+        .importPackages("com.emedina.hexagonal.fixtures.concurrency");
+
+    @Test
+    @DisplayName("should count the monitors entered by a method with array parameters")
+    void shouldCountMonitorEnters() {
+        // Given
+        JavaClass handler = fixtureClasses.get(SynchronizedBlockHandler.class);
+
+        // When
+        MethodBytecode bytecode = BytecodeIndex.of(handler.getMethod("handle", String[].class)).orElseThrow();
+
+        // Then
+        assertThat(bytecode.monitorEnters()).isEqualTo(1);
+        assertThat(bytecode.codeLength()).isPositive();
+    }
+
+    @Test
+    @DisplayName("should read the code length of every method and constructor")
+    void shouldReadCodeLengths() {
+        // Given
+        JavaClass handler = fixtureClasses.get(LockingHandler.class);
+
+        // When
+        MethodBytecode handle = BytecodeIndex.of(handler.getMethod("handle")).orElseThrow();
+        MethodBytecode constructor = BytecodeIndex.of(handler.getConstructor()).orElseThrow();
+
+        // Then
+        assertThat(handle.monitorEnters()).isZero();
+        assertThat(handle.codeLength()).isGreaterThan(constructor.codeLength()).isLessThan(100);
+        assertThat(BytecodeIndex.of(handler).methods()).containsKeys("<init>()V", "handle()V");
+    }
+
+    @Test
+    @DisplayName("should keep the facts of a covariant override apart from its bridge method")
+    void shouldIgnoreBridgeMethods() {
+        // Given
+        JavaClass handler = fixtureClasses.get(CovariantSynchronizedHandler.class);
+        JavaMethod override = handler.getMethods().stream()
+            .filter(method -> !method.getModifiers().contains(JavaModifier.BRIDGE))
+            .filter(method -> "get".equals(method.getName()))
+            .findFirst()
+            .orElseThrow();
+        JavaMethod bridge = handler.getMethods().stream()
+            .filter(method -> method.getModifiers().contains(JavaModifier.BRIDGE))
+            .findFirst()
+            .orElseThrow();
+
+        // When
+        MethodBytecode bytecode = BytecodeIndex.of(override).orElseThrow();
+
+        // Then
+        assertThat(bytecode.monitorEnters()).isEqualTo(1);
+        assertThat(BytecodeIndex.of(bridge)).isEmpty();
+        assertThat(BytecodeIndex.of(handler).methods()).containsKey("get()Ljava/lang/String;")
+            .doesNotContainKey("get()Ljava/lang/Object;");
+    }
+
+    @Test
+    @DisplayName("should report no code for native methods")
+    void shouldReportNoCodeForNativeMethods() {
+        // Given
+        JavaClass handler = fixtureClasses.get(NativeHandler.class);
+
+        // When & Then
+        assertThat(BytecodeIndex.of(handler.getMethod("handle"))).get()
+            .extracting(MethodBytecode::codeLength).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("should name the type thrown by every athrow instruction")
+    void shouldNameThrownTypes() {
+        // Given
+        JavaClass handler = new ClassFileImporter().importClasses(ThrowingHandler.class).get(ThrowingHandler.class);
+
+        // When
+        MethodBytecode handle = BytecodeIndex.of(handler.getMethod("handle", String.class)).orElseThrow();
+
+        // Then
+        assertThat(handle.thrownTypes())
+            .containsExactly(UnsupportedOperationException.class.getName(), Throwable.class.getName());
+    }
+
+    @Test
+    @DisplayName("should leave out the rethrows generated for finally, try-with-resources and synchronized blocks")
+    void shouldLeaveOutGeneratedRethrows() {
+        // Given
+        JavaClass handler = new ClassFileImporter().importClasses(CleaningUpHandler.class)
+            .get(CleaningUpHandler.class);
+
+        // When & Then
+        assertThat(BytecodeIndex.of(handler).methods().values())
+            .isNotEmpty()
+            .allSatisfy(method -> assertThat(method.thrownTypes()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should type the references compared with == when loaded from this or a parameter")
+    void shouldTypeComparedReferences() {
+        // Given
+        JavaClass quantity = new ClassFileImporter().importClasses(IdentityBoundQuantity.class)
+            .get(IdentityBoundQuantity.class);
+
+        // When
+        MethodBytecode sameAs = BytecodeIndex.of(quantity.getMethod("sameAs", IdentityBoundQuantity.class))
+            .orElseThrow();
+
+        // Then
+        assertThat(sameAs.comparedTypes()).containsExactly(IdentityBoundQuantity.class.getName());
+    }
+
+    @Test
+    @DisplayName("should record the calls whose results are assigned to the static fields")
+    void shouldRecordStaticFieldSources() {
+        // Given
+        JavaStaticInitializer initializer = new ClassFileImporter().importClasses(ConstantsHandler.class)
+            .get(ConstantsHandler.class).getStaticInitializer().orElseThrow();
+
+        // When
+        MethodBytecode bytecode = BytecodeIndex.of(initializer).orElseThrow();
+
+        // Then
+        assertThat(bytecode.staticFieldSources()).containsOnly(
+            entry("COMMANDS", "java.util.List.of"),
+            entry("PRIORITIES", "java.util.Map.of"),
+            entry("ALIASES", "java.util.Collections.unmodifiableMap"));
+    }
+
+    @Test
+    @DisplayName("should record the collector of a stream collected into a static field")
+    void shouldRecordCollectorAsStaticFieldSource() {
+        // Given
+        JavaStaticInitializer initializer = new ClassFileImporter().importClasses(CollectedConstantsHandler.class)
+            .get(CollectedConstantsHandler.class).getStaticInitializer().orElseThrow();
+
+        // When
+        MethodBytecode bytecode = BytecodeIndex.of(initializer).orElseThrow();
+
+        // Then
+        assertThat(bytecode.staticFieldSources()).containsOnly(
+            entry("COMMANDS", "java.util.stream.Collectors.toUnmodifiableList"),
+            entry("UNITS", "java.util.Collections.unmodifiableSet"));
+    }
+
+    @Test
+    @DisplayName("should record the methods called on each static field, across branches and exception handlers")
+    void shouldRecordStaticFieldCalls() {
+        // Given
+        JavaMethod handle = new ClassFileImporter().importClasses(SharedEvictionHandler.class)
+            .get(SharedEvictionHandler.class).getMethod("handle", String.class);
+        String handler = SharedEvictionHandler.class.getName();
+
+        // When
+        MethodBytecode bytecode = BytecodeIndex.of(handle).orElseThrow();
+
+        // Then
+        assertThat(bytecode.staticFieldCalls()).containsOnly(
+            entry(handler + ".IN_FLIGHT", Set.of("put", "remove")),
+            entry(handler + ".LENGTHS", Set.of("computeIfAbsent")));
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.emedina.hexagonal.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.emedina.hexagonal.fixtures.commands.CommandWithNonStaticMethod;
+import com.emedina.hexagonal.fixtures.commands.CommandWithPublicDefaultConstructor;
+import com.emedina.hexagonal.fixtures.commands.ValidCommand;
+import com.emedina.hexagonal.index.GenericTypeIndex.TypeArgument;
+import com.emedina.hexagonal.index.SignatureIndex.StaticMethod;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import io.vavr.control.Validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SignatureIndex}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("SignatureIndex")
+class SignatureIndexTest {
+
+    private final JavaClasses fixtureClasses = new ClassFileImporter().importClasses(ValidCommand.class,
+        CommandWithNonStaticMethod.class, CommandWithPublicDefaultConstructor.class);
+
+    @Test
+    @DisplayName("should index static factory methods with their resolved return type")
+    void shouldIndexStaticFactoryMethods() {
+        // When
+        StaticMethod factoryMethod = SignatureIndex.of(fixtureClasses.get(ValidCommand.class))
+            .staticMethods("validateThenCreate").getFirst();
+
+        // Then
+        assertThat(factoryMethod.isPublic()).isTrue();
+        assertThat(factoryMethod.returnType().isAssignableTo(Validation.class)).isTrue();
+        assertThat(factoryMethod.returnTypeArguments()).extracting(TypeArgument::name)
+            .containsExactly(String.class.getName(), ValidCommand.class.getName());
+    }
+
+    @Test
+    @DisplayName("should not index instance methods")
+    void shouldNotIndexInstanceMethods() {
+        // When & Then
+        assertThat(SignatureIndex.of(fixtureClasses.get(CommandWithNonStaticMethod.class))
+            .staticMethods("validateThenCreate")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should flag public constructors without parameters")
+    void shouldFlagPublicNoArgConstructor() {
+        // When & Then
+        assertThat(SignatureIndex.of(fixtureClasses.get(CommandWithPublicDefaultConstructor.class))
+            .publicNoArgConstructor()).isTrue();
+        assertThat(SignatureIndex.of(fixtureClasses.get(ValidCommand.class)).publicNoArgConstructor()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should scan the members of a class only once")
+    void shouldMemoizeSignatures() {
+        // When & Then
+        assertThat(SignatureIndex.of(fixtureClasses.get(ValidCommand.class)))
+            .isSameAs(SignatureIndex.of(fixtureClasses.get(ValidCommand.class)));
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.emedina.hexagonal.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.emedina.hexagonal.fixtures.adapters.ExtendedRepositoryInterface;
+import com.emedina.hexagonal.fixtures.adapters.InheritedRepositoryImplementation;
+import com.emedina.hexagonal.fixtures.adapters.RepositoryImplementation;
+import com.emedina.hexagonal.fixtures.adapters.SampleRepositoryInterface;
+import com.emedina.hexagonal.index.SupertypeIndex.Supertypes;
+import com.emedina.sharedkernel.domain.repository.annotation.Repository;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SupertypeIndex}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("SupertypeIndex")
+class SupertypeIndexTest {
+
+    private JavaClasses fixtureClasses;
+
+    @BeforeEach
+    void setUp() {
+        fixtureClasses = new ClassFileImporter().importPackages("com.emedina.hexagonal.fixtures.adapters");
+    }
+
+    @Test
+    @DisplayName("should include the interfaces and annotations inherited from superclasses")
+    void shouldIncludeInheritedSupertypes() {
+        // Given
+        JavaClass inherited = fixtureClasses.get(InheritedRepositoryImplementation.class);
+
+        // When
+        Supertypes supertypes = SupertypeIndex.of(inherited);
+
+        // Then
+        assertThat(supertypes.superclasses()).contains(RepositoryImplementation.class.getName(),
+            Object.class.getName());
+        assertThat(supertypes.interfaces()).containsExactly(SampleRepositoryInterface.class.getName());
+        assertThat(supertypes.interfaceAnnotations()).containsExactly(Repository.class.getName());
+    }
+
+    @Test
+    @DisplayName("should not report annotations of the class itself")
+    void shouldNotReportOwnAnnotations() {
+        // Given
+        JavaClass annotatedInterface = fixtureClasses.get(SampleRepositoryInterface.class);
+
+        // When & Then
+        assertThat(SupertypeIndex.implementsInterfaceAnnotatedWith(annotatedInterface, Repository.class)).isFalse();
+        assertThat(SupertypeIndex.implementsInterfaceAnnotatedWith(
+            fixtureClasses.get(ExtendedRepositoryInterface.class), Repository.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should compute the closure of a class only once")
+    void shouldMemoizeClosure() {
+        // Given
+        JavaClass inherited = fixtureClasses.get(InheritedRepositoryImplementation.class);
+
+        // When & Then
+        assertThat(SupertypeIndex.of(inherited)).isSameAs(SupertypeIndex.of(inherited));
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.emedina.hexagonal.io;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.fixtures.io.AsyncHttpHandler;
+import com.emedina.hexagonal.fixtures.io.FileReadingDomain;
+import com.emedina.hexagonal.fixtures.io.HttpCallingHandler;
+import com.emedina.hexagonal.fixtures.io.JdbcQueryHandler;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BlockingIoChecker} helper methods.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("BlockingIoChecker")
+class BlockingIoCheckerTest {
+
+    private final ArchRule rule = classes().should(BlockingIoChecker.notCallBlockingIo());
+
+    @Nested
+    @DisplayName("notCallBlockingIo condition")
+    class NotCallBlockingIoTest {
+
+        @Test
+        @DisplayName("should be violated for a file read")
+        void shouldBeViolatedForFileRead() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(FileReadingDomain.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Files.readAllLines")
+                .hasMessageContaining("which blocks on I/O");
+        }
+
+        @Test
+        @DisplayName("should be violated for a synchronous HTTP call")
+        void shouldBeViolatedForSynchronousHttpCall() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(HttpCallingHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("HttpClient.send");
+        }
+
+        @Test
+        @DisplayName("should be violated for a call through a subtype of a cataloged type")
+        void shouldBeViolatedForCatalogedSupertype() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(JdbcQueryHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("PreparedStatement.execute");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for an asynchronous HTTP call")
+        void shouldBeSatisfiedForAsynchronousHttpCall() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(AsyncHttpHandler.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+}
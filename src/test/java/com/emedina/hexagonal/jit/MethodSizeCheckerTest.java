@@ -0,0 +1,131 @@
+package com.emedina.hexagonal.jit;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.MethodSizeProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.jit.LargeMethodHandler;
+import com.emedina.hexagonal.fixtures.jit.SmallMethodHandler;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link MethodSizeChecker}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("MethodSizeChecker")
+class MethodSizeCheckerTest {
+
+    private static final String JIT = "com.emedina.hexagonal.fixtures.jit";
+
+    @Nested
+    @DisplayName("haveMethodsNotLargerThan condition")
+    class HaveMethodsNotLargerThanTest {
+
+        private final ArchRule rule = classes().should(MethodSizeChecker.haveMethodsNotLargerThan(325, 8000,
+            "too large to be inlined when hot"));
+
+        @Test
+        @DisplayName("should be violated for a method above the limit")
+        void shouldBeViolatedForLargeMethod() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(LargeMethodHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("LargeMethodHandler.weigh([J)")
+                .hasMessageContaining("above 325");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for small methods")
+        void shouldBeSatisfiedForSmallMethods() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(SmallMethodHandler.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should leave methods above the upper bound to another rule")
+        void shouldIgnoreMethodsAboveUpperBound() {
+            // Given
+            ArchRule boundedRule = classes().should(MethodSizeChecker.haveMethodsNotLargerThan(35, 325,
+                "too large to be inlined"));
+            JavaClasses classes = new ClassFileImporter().importClasses(LargeMethodHandler.class);
+
+            // When & Then
+            assertThatCode(() -> boundedRule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        private final JavaClasses fixtureClasses = new ClassFileImporter().importPackages(JIT);
+
+        @Test
+        @DisplayName("should check the handlers, domain and adapters by default")
+        void shouldCheckDefaultLayers() {
+            // When
+            List<LayerRule> rules = MethodSizeChecker.rules(properties(new MethodSizeProperties(null, null, null)));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer)
+                .containsExactly("handler", "handler", "domain", "domain", "adapters", "adapters");
+            assertThat(rules).extracting(LayerRule::name)
+                .containsOnly("hotInlineMethodSizeRule", "hugeMethodSizeRule");
+        }
+
+        @Test
+        @DisplayName("should report each method against the limit it exceeds")
+        void shouldReportAgainstExceededLimit() {
+            // Given
+            List<LayerRule> rules = MethodSizeChecker.rules(
+                properties(new MethodSizeProperties(List.of("handler"), 100, 300)));
+
+            // When
+            List<String> hotInline = rules.get(0).rule().evaluate(fixtureClasses).getFailureReport().getDetails();
+            List<String> huge = rules.get(1).rule().evaluate(fixtureClasses).getFailureReport().getDetails();
+
+            // Then
+            assertThat(hotInline).isEmpty();
+            assertThat(huge).singleElement().asString()
+                .contains("LargeMethodHandler.weigh([J)")
+                .contains("too large to be compiled");
+        }
+
+        @Test
+        @DisplayName("should fail for an unknown layer")
+        void shouldFailForUnknownLayer() {
+            // When & Then
+            assertThatThrownBy(() -> MethodSizeChecker.rules(
+                properties(new MethodSizeProperties(List.of("infrastructure"), null, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("infrastructure");
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final MethodSizeProperties methodSize) {
+        return FixtureProperties.of(JIT, "handler", List.of(JIT + ".."),
+            PerformanceProperties.defaults().withMethodSize(methodSize));
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.emedina.hexagonal.reflection;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.PerformanceProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.ReflectionProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.FixtureProperties;
+import com.emedina.hexagonal.fixtures.reflection.PlainDomain;
+import com.emedina.hexagonal.fixtures.reflection.ProxyHandler;
+import com.emedina.hexagonal.fixtures.reflection.ReflectiveDomain;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link ReflectionChecker}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ReflectionChecker")
+class ReflectionCheckerTest {
+
+    private static final String REFLECTION = "com.emedina.hexagonal.fixtures.reflection";
+
+    @Nested
+    @DisplayName("notUseReflection condition")
+    class NotUseReflectionTest {
+
+        private final ArchRule rule = classes().should(ReflectionChecker.notUseReflection());
+
+        @Test
+        @DisplayName("should be violated for a reflective invocation")
+        void shouldBeViolatedForReflectiveInvocation() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(ReflectiveDomain.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Class.forName")
+                .hasMessageContaining("Method.invoke");
+        }
+
+        @Test
+        @DisplayName("should be violated for a dynamic proxy")
+        void shouldBeViolatedForDynamicProxy() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(ProxyHandler.class);
+
+            // When & Then
+            assertThatThrownBy(() -> rule.check(classes))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Proxy.newProxyInstance");
+        }
+
+        @Test
+        @DisplayName("should be satisfied for non-reflective use of the class object")
+        void shouldBeSatisfiedForClassObject() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importClasses(PlainDomain.class);
+
+            // When & Then
+            assertThatCode(() -> rule.check(classes)).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class RulesTest {
+
+        private final JavaClasses fixtureClasses = new ClassFileImporter().importPackages(REFLECTION);
+
+        @Test
+        @DisplayName("should check the configured layers, exempting factories")
+        void shouldCheckConfiguredLayers() {
+            // Given
+            List<LayerRule> rules = ReflectionChecker.rules(properties(List.of("domain")));
+
+            // When
+            List<String> details = rules.getFirst().rule().evaluate(fixtureClasses).getFailureReport().getDetails();
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer).containsExactly("domain");
+            assertThat(details).isNotEmpty()
+                .anyMatch(detail -> detail.contains("ReflectiveDomain"))
+                .anyMatch(detail -> detail.contains("ProxyHandler"))
+                .noneMatch(detail -> detail.contains("ReflectiveFactory"));
+        }
+
+        @Test
+        @DisplayName("should check the domain, commands, queries and handlers by default")
+        void shouldCheckDefaultLayers() {
+            // When
+            List<LayerRule> rules = ReflectionChecker.rules(properties(null));
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer).containsExactly("domain", "command", "query", "handler");
+        }
+
+        @Test
+        @DisplayName("should fail for an unknown layer")
+        void shouldFailForUnknownLayer() {
+            // When & Then
+            assertThatThrownBy(() -> ReflectionChecker.rules(properties(List.of("infrastructure"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("infrastructure");
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final List<String> reflectionLayers) {
+        return FixtureProperties.of(REFLECTION, "domain", List.of(REFLECTION + ".."),
+            PerformanceProperties.defaults().withReflection(new ReflectionProperties(reflectionLayers)));
+    }
+
+}
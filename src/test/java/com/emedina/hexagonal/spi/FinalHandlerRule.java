@@ -0,0 +1,35 @@
+package com.emedina.hexagonal.spi;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+import com.emedina.sharedkernel.application.annotation.UseCase;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.lang.ArchRule;
+
+import java.util.Set;
+
+/**
+ * A custom rule requiring use case implementations to be final, registered for the tests as a service.
+ */
+public class FinalHandlerRule implements HexagonalRule {
+
+    @Override
+    public String name() {
+        return "finalHandlerRule";
+    }
+
+    @Override
+    public Set<String> layers() {
+        return Set.of("handler");
+    }
+
+    @Override
+    public ArchRule build(final String layer, final HexagonalRuleContext context) {
+        return classes()
+            .that(context.resideInLayer(layer))
+            .and(context.implementInterfaceAnnotatedWith(UseCase.class))
+            .should().haveModifier(JavaModifier.FINAL)
+            .because("Use case implementations should be final");
+    }
+
+}
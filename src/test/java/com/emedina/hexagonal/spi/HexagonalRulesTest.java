@@ -0,0 +1,111 @@
+package com.emedina.hexagonal.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.AdapterProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.CommandProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.DomainProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.HandlerProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.InputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.OutputPortsProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.QueryProperties;
+import com.emedina.hexagonal.config.HexagonalArchitectureProperties.SharedKernelProperties;
+import com.emedina.hexagonal.evaluation.LayerRule;
+import com.emedina.hexagonal.fixtures.handlers.NonUseCaseHandler;
+import com.emedina.hexagonal.fixtures.handlers.SampleHandler;
+import com.emedina.sharedkernel.application.annotation.UseCase;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link HexagonalRules} and {@link HexagonalRuleContext}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("HexagonalRules")
+class HexagonalRulesTest {
+
+    private static final String HANDLERS = "com.emedina.hexagonal.fixtures.handlers";
+
+    @Nested
+    @DisplayName("discovery")
+    class DiscoveryTest {
+
+        @Test
+        @DisplayName("should build the discovered rules for each of their layers")
+        void shouldBuildDiscoveredRules() {
+            // Given
+            new HexagonalRules(properties(List.of(HANDLERS + "..")));
+
+            // When
+            List<LayerRule> rules = HexagonalRules.rules();
+
+            // Then
+            assertThat(rules).extracting(LayerRule::layer, LayerRule::name)
+                .containsExactly(tuple("handler", "finalHandlerRule"));
+        }
+
+        @Test
+        @DisplayName("should fail when a layer of a discovered rule is not configured")
+        void shouldFailForUnconfiguredLayer() {
+            // Given
+            new HexagonalRules(properties(List.of()));
+
+            // When & Then
+            assertThatThrownBy(HexagonalRules::rules)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("handler");
+        }
+    }
+
+    @Nested
+    @DisplayName("context")
+    class ContextTest {
+
+        private final HexagonalRuleContext context = new HexagonalRuleContext(properties(List.of(HANDLERS + "..")));
+
+        @Test
+        @DisplayName("should match the classes of a layer implementing an annotated interface")
+        void shouldMatchLayerClasses() {
+            // Given
+            JavaClasses classes = new ClassFileImporter().importPackages(HANDLERS);
+
+            // When & Then
+            assertThat(context.resideInLayer("handler").test(classes.get(SampleHandler.class))).isTrue();
+            assertThat(context.implementInterfaceAnnotatedWith(UseCase.class)
+                .test(classes.get(NonUseCaseHandler.class))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject unknown layers")
+        void shouldRejectUnknownLayers() {
+            // When & Then
+            assertThatThrownBy(() -> context.packages("infrastructure"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("infrastructure");
+        }
+    }
+
+    private static HexagonalArchitectureProperties properties(final List<String> handlerPackages) {
+        return new HexagonalArchitectureProperties(
+            new SharedKernelProperties(List.of(), List.of()),
+            new DomainProperties(List.of(), List.of()),
+            new OutputPortsProperties(List.of(), List.of()),
+            new InputPortsProperties(List.of(), List.of()),
+            new CommandProperties(List.of(), List.of()),
+            new QueryProperties(List.of(), List.of()),
+            new HandlerProperties(handlerPackages, List.of()),
+            new AdapterProperties(List.of())
+        );
+    }
+
+}